@@ -23,6 +23,8 @@ import com.univocity.parsers.common.processor.core.*;
 import com.univocity.parsers.common.record.*;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.nio.charset.*;
 import java.util.*;
 
@@ -76,6 +78,9 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	protected boolean ignoreLeadingWhitespace;
 
 	private final boolean processComments;
+	private FeedCharInputReader feedInput;
+	private boolean feedInputStarted;
+	private boolean feedingStarted;
 
 	/**
 	 * All parsers must support, at the very least, the settings provided by {@link CommonParserSettings}. The AbstractParser requires its configuration to be
@@ -128,9 +133,16 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 */
 	public final void parse(Reader reader) {
 		beginParsing(reader);
+		internalParse();
+	}
+
+	private void internalParse() {
+		final FieldViewProcessor fieldViewProcessor = processor instanceof FieldViewProcessor ? (FieldViewProcessor) processor : null;
+		output.setFieldViewEnabled(fieldViewProcessor != null);
 		try {
 			while (!context.isStopped()) {
 				input.markRecordStart();
+				output.markRecordStart();
 				ch = input.nextChar();
 				if (processComments && inComment()) {
 					processComment();
@@ -141,6 +153,21 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 					parseRecord();
 				}
 
+				if (fieldViewProcessor != null) {
+					FieldView fields = output.fieldsParsed();
+					if (fields != null) {
+						if (recordsToRead >= 0 && context.currentRecord() >= recordsToRead) {
+							context.stop();
+							if (recordsToRead == 0) {
+								stopParsing();
+								return;
+							}
+						}
+						Internal.process(fields, fieldViewProcessor, context, errorHandler);
+					}
+					continue;
+				}
+
 				String[] row = output.rowParsed();
 				if (row != null) {
 					if (recordsToRead >= 0 && context.currentRecord() >= recordsToRead) {
@@ -160,12 +187,16 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		} catch (EOFException ex) {
 			try {
 				handleEOF();
-				while (!output.pendingRecords.isEmpty()) {
+				// emits the pending records, then the values of the last record, as parseNext() does
+				while (!output.pendingRecords.isEmpty() || output.column != 0) {
+					input.markRecordStart();
 					handleEOF();
 				}
 			} finally {
 				stopParsing();
 			}
+		} catch (InputUnderflowException ex) {
+			awaitInput();
 		} catch (Throwable ex) {
 			try {
 				ex = handleException(ex);
@@ -211,7 +242,11 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	}
 
 	private String[] handleEOF() {
-		String[] row = null;
+		return (String[]) handleEOF(false);
+	}
+
+	private Object handleEOF(boolean fieldView) {
+		Object row = null;
 		try {
 			boolean consumeValueOnEOF = consumeValueOnEOF();
 			if (output.column != 0 || (consumeValueOnEOF && !context.isStopped())) {
@@ -220,22 +255,22 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 				} else if (input.currentParsedContentLength() > 0) {
 					output.emptyParsed();
 				}
-				row = output.rowParsed();
+				row = fieldView ? output.fieldsParsed() : output.rowParsed();
 			} else if (output.appender.length() > 0 || input.currentParsedContentLength() > 0) {
 				if (output.appender.length() == 0) {
 					output.emptyParsed();
 				} else {
 					output.valueParsed();
 				}
-				row = output.rowParsed();
+				row = fieldView ? output.fieldsParsed() : output.rowParsed();
 			} else if (!output.pendingRecords.isEmpty()) {
-				row = output.pendingRecords.poll();
+				row = fieldView ? output.fieldsParsed() : output.pendingRecords.poll();
 			}
 		} catch (Throwable e) {
 			throw handleException(e);
 		}
-		if (row != null && processor != NoopProcessor.instance) {
-			rowProcessed(row);
+		if (row != null && !fieldView && processor != NoopProcessor.instance) {
+			rowProcessed((String[]) row);
 		}
 		return row;
 	}
@@ -248,14 +283,35 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param reader The input to be parsed.
 	 */
 	public final void beginParsing(Reader reader) {
-		output.reset();
-
 		if (reader instanceof LineReader) {
-			input = new DefaultCharInputReader(settings.getFormat().getLineSeparator(), settings.getFormat().getNormalizedNewline(), settings.getInputBufferSize(), whitespaceRangeStart, true);
+			beginParsing(reader, new DefaultCharInputReader(settings.getFormat().getLineSeparator(), settings.getFormat().getNormalizedNewline(), settings.getInputBufferSize(), whitespaceRangeStart, true));
 		} else {
-			input = settings.newCharInputReader(whitespaceRangeStart);
+			beginParsing(reader, settings.newCharInputReader(whitespaceRangeStart));
+		}
+	}
+
+	private void beginParsing(Reader reader, CharInputReader charInputReader) {
+		prepareInput(charInputReader);
+
+		try {
+			input.start(reader);
+		} catch (Throwable t) {
+			throw handleException(t);
 		}
+		input.skipLines(rowsToSkip);
+
+		initialize();
+
+		processor.processStarted(context);
+	}
+
+	private void prepareInput(CharInputReader charInputReader) {
+		output.reset();
+		feedInput = null;
+
+		input = charInputReader;
 		input.enableNormalizeLineEndings(true);
+		output.deferCopiesFrom(input);
 
 		context = createParsingContext();
 
@@ -272,17 +328,6 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 				inputReader.addInputAnalysisProcess(p);
 			}
 		}
-
-		try {
-			input.start(reader);
-		} catch (Throwable t) {
-			throw handleException(t);
-		}
-		input.skipLines(rowsToSkip);
-
-		initialize();
-
-		processor.processStarted(context);
 	}
 
 	void extractHeadersIfRequired() {
@@ -292,6 +337,9 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 				processor = NoopProcessor.instance; //disables any users provided processors to capture headers
 				extractingHeaders = true;
 				parseNext();
+				if (feedInput != null && !feedInput.isReady()) {
+					return;
+				}
 			} finally {
 				extractingHeaders = false;
 				processor = userProvidedProcessor;
@@ -552,7 +600,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 
 		String[] row;
 		while ((row = parseNext()) != null) {
-			out.add(row);
+			out.add(output.retain(row));
 		}
 		return out;
 	}
@@ -571,9 +619,23 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return The record parsed from the input or null if there's no more characters to read.
 	 */
 	public final String[] parseNext() {
+		return (String[]) parseNext(false);
+	}
+
+	/**
+	 * Parses the next record from the input.
+	 *
+	 * @param fieldView flag indicating whether the record should be returned as a {@link FieldView} instead of a {@code String[]}.
+	 *                  Requires the field view to be enabled in the {@link ParserOutput}, and must only be used if there is no {@link Processor}
+	 *                  associated with this parser.
+	 *
+	 * @return The record parsed from the input or null if there's no more characters to read.
+	 */
+	private Object parseNext(boolean fieldView) {
 		try {
 			while (!context.isStopped()) {
 				input.markRecordStart();
+				output.markRecordStart();
 				ch = input.nextChar();
 				if (processComments && inComment()) {
 					processComment();
@@ -582,7 +644,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 				if (output.pendingRecords.isEmpty()) {
 					parseRecord();
 				}
-				String[] row = output.rowParsed();
+				Object row = fieldView ? output.fieldsParsed() : output.rowParsed();
 				if (row != null) {
 					if (recordsToRead >= 0 && context.currentRecord() >= recordsToRead) {
 						context.stop();
@@ -591,8 +653,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 							return null;
 						}
 					}
-					if (processor != NoopProcessor.instance) {
-						rowProcessed(row);
+					if (!fieldView && processor != NoopProcessor.instance) {
+						rowProcessed((String[]) row);
 					}
 					return row;
 				} else if (extractingHeaders) {
@@ -601,16 +663,19 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 			}
 
 			if (output.column != 0) {
-				return output.rowParsed();
+				return fieldView ? output.fieldsParsed() : output.rowParsed();
 			}
 			stopParsing();
 			return null;
 		} catch (EOFException ex) {
-			String[] row = handleEOF();
+			Object row = handleEOF(fieldView);
 			if (output.pendingRecords.isEmpty()) {
 				stopParsing();
 			}
 			return row;
+		} catch (InputUnderflowException ex) {
+			awaitInput();
+			return null;
 		} catch (NullPointerException ex) {
 			if (context == null) {
 				throw new IllegalStateException("Cannot parse without invoking method beginParsing(Reader) first");
@@ -652,7 +717,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		if (values == null) {
 			return null;
 		}
-		return context.toRecord(values);
+		return context.toRecord(output.retain(values));
 	}
 
 
@@ -680,6 +745,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		try {
 			while (!context.isStopped()) {
 				input.markRecordStart();
+				output.markRecordStart();
 				ch = input.nextChar();
 				if (processComments && inComment()) {
 					processComment();
@@ -718,6 +784,43 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		Internal.process(row, processor, context, errorHandler);
 	}
 
+	/**
+	 * Hands rows parsed by other parser instances (for example, parsers that processed different sections of the same input in parallel)
+	 * over to the {@link Processor} of this parser, as if they had been parsed by this instance. Note that {@link #beginParsing(Reader)} (or
+	 * any of its variants) must have been invoked before calling this method.
+	 *
+	 * <p> Rows are processed until the given iterator is exhausted, the limit defined by {@link CommonParserSettings#getNumberOfRecordsToRead()}
+	 * is reached, or the process is stopped with {@link ParsingContext#stop()}. The parsing process is always stopped when this method returns.
+	 *
+	 * @param rows the rows to be processed.
+	 */
+	protected final void processParsedRows(Iterator<String[]> rows) {
+		try {
+			while (!context.isStopped() && rows.hasNext()) {
+				String[] row = rows.next();
+				output.externalRecordParsed();
+				if (recordsToRead >= 0 && context.currentRecord() >= recordsToRead) {
+					context.stop();
+					if (recordsToRead == 0) {
+						break;
+					}
+				}
+				if (processor != NoopProcessor.instance) {
+					rowProcessed(row);
+				}
+			}
+			stopParsing();
+		} catch (Throwable ex) {
+			try {
+				if (!(ex instanceof TextParsingException)) {
+					ex = handleException(ex);
+				}
+			} finally {
+				stopParsing(ex);
+			}
+		}
+	}
+
 	/**
 	 * Parses the entirety of a given file and delegates each parsed row to an instance of {@link RowProcessor}, defined by
 	 * {@link CommonParserSettings#getRowProcessor()}.
@@ -725,7 +828,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param file The file to be parsed.
 	 */
 	public final void parse(File file) {
-		parse(ArgumentUtils.newReader(file));
+		parse(file, (Charset) null);
 	}
 
 	/**
@@ -736,7 +839,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void parse(File file, String encoding) {
-		parse(ArgumentUtils.newReader(file, encoding));
+		parse(file, Charset.forName(encoding));
 	}
 
 	/**
@@ -747,7 +850,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void parse(File file, Charset encoding) {
-		parse(ArgumentUtils.newReader(file, encoding));
+		beginParsing(file, encoding);
+		internalParse();
 	}
 
 	/**
@@ -758,7 +862,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 *              to {@code false}.
 	 */
 	public final void parse(InputStream input) {
-		parse(ArgumentUtils.newReader(input));
+		parse(input, (Charset) null);
 	}
 
 	/**
@@ -770,7 +874,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the input stream
 	 */
 	public final void parse(InputStream input, String encoding) {
-		parse(ArgumentUtils.newReader(input, encoding));
+		parse(input, encoding == null ? (Charset) null : Charset.forName(encoding));
 	}
 
 	/**
@@ -782,7 +886,114 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the input stream
 	 */
 	public final void parse(InputStream input, Charset encoding) {
-		parse(ArgumentUtils.newReader(input, encoding));
+		beginParsing(input, encoding);
+		internalParse();
+	}
+
+	/**
+	 * Parses the entirety of a given channel and delegates each parsed row to an instance of {@link RowProcessor}, defined by
+	 * {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @param channel  The input to be parsed. Bytes are decoded directly into the parser's buffer. The channel will be closed automatically,
+	 *                 unless {@link CommonParserSettings#isAutoClosingEnabled()} evaluates to {@code false}.
+	 * @param encoding the encoding of the input. If {@code null}, the encoding will be detected from the input's Byte Order Mark (BOM) or the
+	 *                 default charset will be used.
+	 */
+	public final void parse(ReadableByteChannel channel, Charset encoding) {
+		beginParsing(channel, encoding);
+		internalParse();
+	}
+
+	/**
+	 * Parses the entirety of a given buffer and delegates each parsed row to an instance of {@link RowProcessor}, defined by
+	 * {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @param input    The bytes to be parsed, from the position of the buffer up to its limit. Bytes are decoded directly into the parser's
+	 *                 buffer, and the position of the given buffer is not modified.
+	 * @param encoding the encoding of the input. If {@code null}, the encoding will be detected from the input's Byte Order Mark (BOM) or the
+	 *                 default charset will be used.
+	 */
+	public final void parse(ByteBuffer input, Charset encoding) {
+		beginParsing(input, encoding);
+		internalParse();
+	}
+
+	/**
+	 * Parses the records that start within a range of bytes of a given file and delegates each parsed row to an instance of {@link RowProcessor},
+	 * defined by {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @param file      The file to be parsed.
+	 * @param encoding  the encoding of the file
+	 * @param startByte the position of the first byte of the range
+	 * @param endByte   the position after the last byte of the range
+	 *
+	 * @see #beginParsing(SeekableByteChannel, Charset, long, long)
+	 */
+	public final void parse(File file, Charset encoding, long startByte, long endByte) {
+		beginParsing(file, encoding, startByte, endByte);
+		internalParse();
+	}
+
+	/**
+	 * Parses the records that start within a range of bytes of a given channel and delegates each parsed row to an instance of {@link RowProcessor},
+	 * defined by {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @param channel   The input to be parsed. The channel will be closed automatically, unless {@link CommonParserSettings#isAutoClosingEnabled()}
+	 *                  evaluates to {@code false}.
+	 * @param encoding  the encoding of the input
+	 * @param startByte the position of the first byte of the range
+	 * @param endByte   the position after the last byte of the range
+	 *
+	 * @see #beginParsing(SeekableByteChannel, Charset, long, long)
+	 */
+	public final void parse(SeekableByteChannel channel, Charset encoding, long startByte, long endByte) {
+		beginParsing(channel, encoding, startByte, endByte);
+		internalParse();
+	}
+
+	/**
+	 * Resumes a previous parsing process of the given file from a {@link ParsingCheckpoint} and delegates each parsed row to an instance of
+	 * {@link RowProcessor}, defined by {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @param file       The file to be parsed.
+	 * @param encoding   the encoding of the file. Can only be {@code null} if the checkpoint has no byte offset.
+	 * @param checkpoint the position from where parsing resumes, obtained with {@link #checkpoint()}.
+	 *
+	 * @see #beginParsing(SeekableByteChannel, Charset, ParsingCheckpoint)
+	 */
+	public final void parse(File file, Charset encoding, ParsingCheckpoint checkpoint) {
+		beginParsing(file, encoding, checkpoint);
+		internalParse();
+	}
+
+	/**
+	 * Resumes a previous parsing process of the given channel from a {@link ParsingCheckpoint} and delegates each parsed row to an instance of
+	 * {@link RowProcessor}, defined by {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @param channel    The input to be parsed. The channel will be closed automatically, unless {@link CommonParserSettings#isAutoClosingEnabled()}
+	 *                   evaluates to {@code false}.
+	 * @param encoding   the encoding of the input. Can only be {@code null} if the checkpoint has no byte offset.
+	 * @param checkpoint the position from where parsing resumes, obtained with {@link #checkpoint()}.
+	 *
+	 * @see #beginParsing(SeekableByteChannel, Charset, ParsingCheckpoint)
+	 */
+	public final void parse(SeekableByteChannel channel, Charset encoding, ParsingCheckpoint checkpoint) {
+		beginParsing(channel, encoding, checkpoint);
+		internalParse();
+	}
+
+	/**
+	 * Resumes a previous parsing process of the given input from a {@link ParsingCheckpoint} and delegates each parsed row to an instance of
+	 * {@link RowProcessor}, defined by {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @param reader     The input to be parsed, from its first character.
+	 * @param checkpoint the position from where parsing resumes, obtained with {@link #checkpoint()}.
+	 *
+	 * @see #beginParsing(Reader, ParsingCheckpoint)
+	 */
+	public final void parse(Reader reader, ParsingCheckpoint checkpoint) {
+		beginParsing(reader, checkpoint);
+		internalParse();
 	}
 
 	/**
@@ -793,7 +1004,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param file The file to be parsed.
 	 */
 	public final void beginParsing(File file) {
-		beginParsing(ArgumentUtils.newReader(file));
+		beginParsing(file, (Charset) null);
 	}
 
 	/**
@@ -805,7 +1016,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void beginParsing(File file, String encoding) {
-		beginParsing(ArgumentUtils.newReader(file, encoding));
+		beginParsing(file, Charset.forName(encoding));
 	}
 
 	/**
@@ -817,7 +1028,13 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void beginParsing(File file, Charset encoding) {
-		beginParsing(ArgumentUtils.newReader(file, encoding));
+		if (settings.isMemoryMappedInputEnabled()) {
+			beginParsing(null, settings.newCharInputReader(file, encoding, whitespaceRangeStart));
+		} else if (settings.isDirectDecodingEnabled()) {
+			beginParsing(ArgumentUtils.newInputStream(file), encoding);
+		} else {
+			beginParsing(ArgumentUtils.newReader(file, encoding));
+		}
 	}
 
 	/**
@@ -829,7 +1046,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 *              {@link              CommonParserSettings#isAutoClosingEnabled()} evaluates to {@code false}.
 	 */
 	public final void beginParsing(InputStream input) {
-		beginParsing(ArgumentUtils.newReader(input));
+		beginParsing(input, (Charset) null);
 	}
 
 	/**
@@ -842,7 +1059,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the input stream
 	 */
 	public final void beginParsing(InputStream input, String encoding) {
-		beginParsing(ArgumentUtils.newReader(input, encoding));
+		beginParsing(input, encoding == null ? (Charset) null : Charset.forName(encoding));
 	}
 
 	/**
@@ -855,7 +1072,583 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the input stream
 	 */
 	public final void beginParsing(InputStream input, Charset encoding) {
-		beginParsing(ArgumentUtils.newReader(input, encoding));
+		if (settings.isDirectDecodingEnabled()) {
+			beginParsing(null, settings.newCharInputReader(input, encoding, whitespaceRangeStart));
+		} else {
+			beginParsing(ArgumentUtils.newReader(input, encoding));
+		}
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle. If a {@link RowProcessor} is provided in the configuration, it will be used to perform additional processing.
+	 * The parsed records must be read one by one with the invocation of {@link AbstractParser#parseNext()}.
+	 * The user may invoke @link {@link AbstractParser#stopParsing()} to stop reading from the input.
+	 *
+	 * <p> Bytes read from the channel are decoded directly into the parser's buffer, as done for input streams when
+	 * {@link CommonParserSettings#isDirectDecodingEnabled()} evaluates to {@code true}.
+	 *
+	 * @param channel  The input to be parsed. Must be a blocking channel. The channel will be closed automatically in case of errors unless
+	 *                 {@link CommonParserSettings#isAutoClosingEnabled()} evaluates to {@code false}.
+	 * @param encoding the encoding of the input. If {@code null}, the encoding will be detected from the input's Byte Order Mark (BOM) or the
+	 *                 default charset will be used.
+	 */
+	public final void beginParsing(ReadableByteChannel channel, Charset encoding) {
+		beginParsing(null, settings.newCharInputReader(channel, encoding, whitespaceRangeStart));
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle. If a {@link RowProcessor} is provided in the configuration, it will be used to perform additional processing.
+	 * The parsed records must be read one by one with the invocation of {@link AbstractParser#parseNext()}.
+	 * The user may invoke @link {@link AbstractParser#stopParsing()} to stop reading from the input.
+	 *
+	 * <p> Bytes are decoded directly into the parser's buffer, as done for input streams when {@link CommonParserSettings#isDirectDecodingEnabled()}
+	 * evaluates to {@code true}. Bytes of buffers backed by an accessible array are decoded straight from that array, while bytes of direct buffers
+	 * are copied in bulk to an internal array before being decoded.
+	 *
+	 * @param input    The bytes to be parsed, from the position of the buffer up to its limit. The position of the given buffer is not modified.
+	 * @param encoding the encoding of the input. If {@code null}, the encoding will be detected from the input's Byte Order Mark (BOM) or the
+	 *                 default charset will be used.
+	 */
+	public final void beginParsing(ByteBuffer input, Charset encoding) {
+		beginParsing(null, settings.newCharInputReader(input, encoding, whitespaceRangeStart));
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle that only parses the records that start within a range of bytes of a given file.
+	 *
+	 * @param file      The file to be parsed.
+	 * @param encoding  the encoding of the file
+	 * @param startByte the position of the first byte of the range
+	 * @param endByte   the position after the last byte of the range
+	 *
+	 * @see #beginParsing(SeekableByteChannel, Charset, long, long)
+	 */
+	public final void beginParsing(File file, Charset encoding, long startByte, long endByte) {
+		FileChannel channel = openChannel(file);
+		try {
+			beginParsing(channel, encoding, startByte, endByte);
+		} catch (RuntimeException e) {
+			try {
+				channel.close();
+			} catch (IOException ex) {
+				//ignore
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle that only parses the records that start within a range of bytes of a given channel, so that a large input can be
+	 * divided in splits of arbitrary size that are parsed independently, possibly by different processes. Adjacent splits parsed with the same configuration never
+	 * parse the same record twice, nor skip any record.
+	 *
+	 * <p> The first record of the split is found from the given start position with the strategy defined by
+	 * {@link CommonParserSettings#getSplitResynchronization()}. The last record of the split is the one that starts before the given end position,
+	 * and it is parsed to its end even if it continues past that position. Lines to skip and headers, if any, are read from the start of the input
+	 * before parsing the records of the split, so every split produces the same headers.
+	 *
+	 * <p> The input must be encoded with a charset in which the line separator (and the delimiter, quote and quote escape characters of CSV) are represented
+	 * by a single byte that never appears as part of other characters, such as UTF-8, US-ASCII or ISO-8859-1. The line separator must be configured in the format,
+	 * as it is not detected automatically from the middle of the input.
+	 *
+	 * @param channel   The input to be parsed. The channel will be closed automatically in case of errors unless
+	 *                  {@link CommonParserSettings#isAutoClosingEnabled()} evaluates to {@code false}.
+	 * @param encoding  the encoding of the input. Can't be {@code null} as a Byte Order Mark (BOM) can't be detected from the middle of the input.
+	 * @param startByte the position of the first byte of the range
+	 * @param endByte   the position after the last byte of the range
+	 */
+	public final void beginParsing(SeekableByteChannel channel, Charset encoding, long startByte, long endByte) {
+		if (channel == null) {
+			throw new IllegalArgumentException("Channel to parse must not be null");
+		}
+		if (encoding == null) {
+			throw new IllegalArgumentException("Encoding of input to split must not be null");
+		}
+		if (startByte < 0 || endByte < startByte) {
+			throw new IllegalArgumentException("Invalid range of bytes to parse: [" + startByte + ", " + endByte + ")");
+		}
+		long size;
+		try {
+			size = channel.size();
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+
+		RecordBoundaryScanner scanner = newRecordBoundaryScanner(encoding);
+		SplitResynchronization strategy = settings.getSplitResynchronization();
+		int maxCharsPerColumn = settings.getMaxCharsPerColumn();
+		long start = scanner.findRecordStart(channel, size, startByte, strategy, maxCharsPerColumn);
+		long end = scanner.findRecordStart(channel, size, endByte, strategy, maxCharsPerColumn);
+
+		// lines to skip and headers are read from the start of the input, even if the split has no records.
+		long dataStart = 0L;
+		if (rowsToSkip > 0 || settings.isHeaderExtractionEnabled()) {
+			dataStart = scanner.findDataStart(channel, size, rowsToSkip, settings.isHeaderExtractionEnabled(), processComments ? comment : '\0');
+		}
+
+		InputStream input;
+		if (start <= dataStart) {
+			input = new ByteRangeInputStream(channel, 0L, Math.max(end, dataStart));
+		} else if (dataStart == 0L) {
+			input = new ByteRangeInputStream(channel, start, end);
+		} else {
+			input = new SequenceInputStream(new ByteRangeInputStream(channel, 0L, dataStart), new ByteRangeInputStream(channel, start, end));
+		}
+
+		beginParsing(closingChannel(input, channel), encoding);
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle that resumes a previous parsing process of the same file from a {@link ParsingCheckpoint}.
+	 * The file is read from the byte offset of the checkpoint if available, otherwise the characters before the checkpoint are skipped
+	 * without being parsed.
+	 *
+	 * @param file       The file to be parsed.
+	 * @param encoding   the encoding of the file. Can only be {@code null} if the checkpoint has no byte offset.
+	 * @param checkpoint the position from where parsing resumes, obtained with {@link #checkpoint()}.
+	 *
+	 * @see #beginParsing(SeekableByteChannel, Charset, ParsingCheckpoint)
+	 */
+	public final void beginParsing(File file, Charset encoding, ParsingCheckpoint checkpoint) {
+		if (checkpoint == null) {
+			throw new IllegalArgumentException("Checkpoint must not be null");
+		}
+		if (checkpoint.getByteOffset() < 0) {
+			beginParsing(ArgumentUtils.newReader(file, encoding), checkpoint);
+			return;
+		}
+		FileChannel channel = openChannel(file);
+		try {
+			beginParsing(channel, encoding, checkpoint);
+		} catch (RuntimeException e) {
+			try {
+				channel.close();
+			} catch (IOException ex) {
+				//ignore
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle that resumes a previous parsing process of the same input from a {@link ParsingCheckpoint}, e.g. after the
+	 * failure of a long running process. The records, lines and characters counted by the {@link ParsingContext} continue from the ones of the checkpoint.
+	 *
+	 * <p> Lines to skip and headers are not read again from the input. The headers stored in the checkpoint are used instead, along with the format detected
+	 * automatically by the previous process, if any.
+	 *
+	 * <p> If the checkpoint has a byte offset, the input is read from there and its bytes are decoded directly into the parser's buffer, so that checkpoints
+	 * created while parsing the resumed input also have byte offsets. Otherwise the input is decoded from its start and the characters before the checkpoint
+	 * are skipped without being parsed.
+	 *
+	 * @param channel    The input to be parsed. The channel will be closed automatically in case of errors unless
+	 *                   {@link CommonParserSettings#isAutoClosingEnabled()} evaluates to {@code false}.
+	 * @param encoding   the encoding of the input. Can only be {@code null} if the checkpoint has no byte offset.
+	 * @param checkpoint the position from where parsing resumes, obtained with {@link #checkpoint()}.
+	 */
+	public final void beginParsing(SeekableByteChannel channel, Charset encoding, ParsingCheckpoint checkpoint) {
+		if (channel == null) {
+			throw new IllegalArgumentException("Channel to parse must not be null");
+		}
+		if (checkpoint == null) {
+			throw new IllegalArgumentException("Checkpoint must not be null");
+		}
+		long byteOffset = checkpoint.getByteOffset();
+		long size;
+		try {
+			size = channel.size();
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+		if (byteOffset < 0) {
+			beginParsing(ArgumentUtils.newReader(closingChannel(new ByteRangeInputStream(channel, 0L, size), channel), encoding), checkpoint);
+			return;
+		}
+		if (encoding == null) {
+			throw new IllegalArgumentException("Encoding must not be null to resume parsing from a byte offset");
+		}
+		if (byteOffset > size) {
+			throw new IllegalArgumentException("Checkpoint at byte " + byteOffset + " is past the end of the input (" + size + " bytes)");
+		}
+
+		InputStream input = closingChannel(new ByteRangeInputStream(channel, byteOffset, size), channel);
+		Format format = checkpoint.getFormat();
+		char[] lineSeparator = format == null ? settings.getFormat().getLineSeparator() : format.getLineSeparator();
+		resume(null, new DecodingCharInputReader(input, encoding, lineSeparator, settings.getFormat().getNormalizedNewline(), settings.getInputBufferSize(), whitespaceRangeStart, settings.isAutoClosingEnabled()), checkpoint, byteOffset);
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle that resumes a previous parsing process of the same input from a {@link ParsingCheckpoint}. The characters
+	 * before the checkpoint are skipped without being parsed.
+	 *
+	 * @param reader     The input to be parsed, from its first character.
+	 * @param checkpoint the position from where parsing resumes, obtained with {@link #checkpoint()}.
+	 *
+	 * @see #beginParsing(SeekableByteChannel, Charset, ParsingCheckpoint)
+	 */
+	public final void beginParsing(Reader reader, ParsingCheckpoint checkpoint) {
+		if (reader == null) {
+			throw new IllegalArgumentException("Reader must not be null");
+		}
+		if (checkpoint == null) {
+			throw new IllegalArgumentException("Checkpoint must not be null");
+		}
+		long remaining = checkpoint.getCharOffset();
+		try {
+			while (remaining > 0) {
+				long skipped = reader.skip(remaining);
+				if (skipped <= 0) {
+					if (reader.read() == -1) {
+						break;
+					}
+					skipped = 1;
+				}
+				remaining -= skipped;
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+
+		Format format = checkpoint.getFormat();
+		char[] lineSeparator = format == null ? settings.getFormat().getLineSeparator() : format.getLineSeparator();
+		resume(reader, new DefaultCharInputReader(lineSeparator, settings.getFormat().getNormalizedNewline(), settings.getInputBufferSize(), whitespaceRangeStart, settings.isAutoClosingEnabled()), checkpoint, -1L);
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle that seeks directly to a given record of a file, using a {@link RecordOffsetIndex} built for that file.
+	 *
+	 * @param file     The file to be parsed.
+	 * @param encoding the encoding of the file.
+	 * @param index    the index of the records of the file, built with {@code indexRecords} of {@link com.univocity.parsers.common.routine.AbstractRoutines}.
+	 * @param record   the zero-based position of the first record to parse, not counting headers.
+	 *
+	 * @see #beginParsing(SeekableByteChannel, Charset, RecordOffsetIndex, long)
+	 */
+	public final void beginParsing(File file, Charset encoding, RecordOffsetIndex index, long record) {
+		FileChannel channel = openChannel(file);
+		try {
+			beginParsing(channel, encoding, index, record);
+		} catch (RuntimeException e) {
+			try {
+				channel.close();
+			} catch (IOException ex) {
+				//ignore
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle that seeks directly to a given record of the input, using a {@link RecordOffsetIndex} built for that input.
+	 * Parsing resumes from the closest indexed record before the given one, and at most {@link RecordOffsetIndex#getInterval()} records are parsed
+	 * and discarded (without being sent to the {@link Processor}) before the given record is reached. The next call to {@link #parseNext()} returns
+	 * the given record, and the {@link ParsingContext} reports the same record and line numbers it would report if the whole input had been parsed.
+	 *
+	 * @param channel  The input to be parsed. The channel will be closed automatically in case of errors unless
+	 *                 {@link CommonParserSettings#isAutoClosingEnabled()} evaluates to {@code false}.
+	 * @param encoding the encoding of the input.
+	 * @param index    the index of the records of the input, built with {@code indexRecords} of {@link com.univocity.parsers.common.routine.AbstractRoutines}.
+	 * @param record   the zero-based position of the first record to parse, not counting headers.
+	 */
+	public final void beginParsing(SeekableByteChannel channel, Charset encoding, RecordOffsetIndex index, long record) {
+		if (channel == null) {
+			throw new IllegalArgumentException("Channel to parse must not be null");
+		}
+		if (index == null) {
+			throw new IllegalArgumentException("Record offset index must not be null");
+		}
+		long size;
+		try {
+			size = channel.size();
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+		if (size != index.getInputLength()) {
+			throw new IllegalArgumentException("Record offset index was built for an input of " + index.getInputLength() + " bytes. Current input has " + size + " bytes");
+		}
+		ParsingCheckpoint checkpoint = index.getCheckpoint(record);
+		beginParsing(channel, encoding, checkpoint);
+		skipRecords(record - checkpoint.getRecordCount());
+	}
+
+	private void skipRecords(long records) {
+		Processor userProvidedProcessor = processor;
+		try {
+			processor = NoopProcessor.instance;
+			for (long i = 0; i < records && parseNext() != null; i++) ;
+		} finally {
+			processor = userProvidedProcessor;
+		}
+	}
+
+	/**
+	 * Parses a range of consecutive records of a file, seeking directly to the first record of the range with a {@link RecordOffsetIndex} built for
+	 * that file. Useful to page through large files.
+	 *
+	 * @param file        The file to be parsed.
+	 * @param encoding    the encoding of the file.
+	 * @param index       the index of the records of the file, built with {@code indexRecords} of {@link com.univocity.parsers.common.routine.AbstractRoutines}.
+	 * @param firstRecord the zero-based position of the first record to parse, not counting headers.
+	 * @param recordCount the maximum number of records to parse.
+	 *
+	 * @return the list of records parsed, which has less than {@code recordCount} elements if the end of the input was reached.
+	 *
+	 * @see #beginParsing(SeekableByteChannel, Charset, RecordOffsetIndex, long)
+	 */
+	public final List<String[]> parseAll(File file, Charset encoding, RecordOffsetIndex index, long firstRecord, int recordCount) {
+		if (recordCount < 0) {
+			throw new IllegalArgumentException("Number of records to parse must not be negative");
+		}
+		beginParsing(file, encoding, index, firstRecord);
+		List<String[]> out = new ArrayList<String[]>(recordCount);
+		String[] row;
+		while (out.size() < recordCount && (row = parseNext()) != null) {
+			out.add(output.retain(row));
+		}
+		if (!context.isStopped()) {
+			stopParsing();
+		}
+		return out;
+	}
+
+	private void resume(Reader reader, AbstractCharInputReader charInputReader, ParsingCheckpoint checkpoint, long byteOffset) {
+		charInputReader.setInitialPosition(checkpoint.getCharOffset(), checkpoint.getLine(), byteOffset);
+		Format format = checkpoint.getFormat();
+		if (format != null) {
+			applyDetectedFormat(format);
+		}
+		prepareInput(charInputReader);
+		output.resume(checkpoint);
+
+		try {
+			input.start(reader);
+		} catch (Throwable t) {
+			throw handleException(t);
+		}
+
+		initialize();
+
+		processor.processStarted(context);
+	}
+
+	/**
+	 * Returns a {@link ParsingCheckpoint} with the position of the record that follows the last record parsed, from where the current parsing
+	 * process can be resumed later with {@link #beginParsing(File, Charset, ParsingCheckpoint)} and similar methods.
+	 *
+	 * <p> Must be invoked between records, i.e. after {@link #parseNext()} returns, or while a {@link Processor} handles a parsed record.
+	 * The byte offset of the checkpoint is computed from the characters in the parser's buffer, so take checkpoints periodically (e.g. every few
+	 * thousand records) rather than after every record.
+	 *
+	 * @return a checkpoint at the start of the next record.
+	 */
+	public final ParsingCheckpoint checkpoint() {
+		if (context == null || input == null) {
+			throw new IllegalStateException("Cannot create a checkpoint without invoking method beginParsing(Reader) first");
+		}
+		extractHeadersIfRequired();
+		if (!isResumableAtRecordStart() || !output.pendingRecords.isEmpty() || output.column != 0) {
+			throw new IllegalStateException("Cannot create a checkpoint at the current position with the current configuration of " + getClass().getSimpleName());
+		}
+		long byteOffset = input instanceof AbstractCharInputReader ? ((AbstractCharInputReader) input).byteCount() : -1L;
+		String[] headers = extractHeaders ? output.parsedHeaders : null;
+		return new ParsingCheckpoint(byteOffset, input.charCount(), input.lineCount(), output.getCurrentRecord(), headers, getDetectedFormat());
+	}
+
+	/**
+	 * Returns the format detected from the input when {@link CommonParserSettings#isLineSeparatorDetectionEnabled()} evaluates to {@code true}.
+	 * Parsers that detect other elements of the format override this method to include them.
+	 *
+	 * The detected format will be available once the parsing process is initialized (i.e. when {@link AbstractParser#beginParsing(Reader)} runs).
+	 *
+	 * @return the detected format, or {@code null} if no detection has been enabled or if the parsing process has not been started yet.
+	 */
+	public Format getDetectedFormat() {
+		if (settings.isLineSeparatorDetectionEnabled() && input != null) {
+			Format out = settings.getFormat().clone();
+			out.setLineSeparator(input.getLineSeparator());
+			return out;
+		}
+		return null;
+	}
+
+	/**
+	 * Configures this parser to use a format detected from the input by a previous parsing process, which is resumed from a {@link ParsingCheckpoint}.
+	 * Parsers that detect elements of the format other than the line separator must apply them here, and must not detect them again from the input.
+	 *
+	 * @param format the format detected by the previous parsing process, as returned by {@link #getDetectedFormat()}.
+	 */
+	protected void applyDetectedFormat(Format format) {
+	}
+
+	private static FileChannel openChannel(File file) {
+		if (file == null) {
+			throw new IllegalArgumentException("File to parse must not be null");
+		}
+		try {
+			return new RandomAccessFile(file, "r").getChannel();
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException("Unable to read file '" + file.getAbsolutePath() + "'", e);
+		}
+	}
+
+	private static InputStream closingChannel(InputStream input, final Channel channel) {
+		return new FilterInputStream(input) {
+			@Override
+			public void close() throws IOException {
+				channel.close();
+			}
+		};
+	}
+
+	/**
+	 * Starts a push-style parsing cycle, where the input is provided in chunks of characters with {@link #feed(char[], int, int)}, followed by
+	 * a call to {@link #endOfInput()}. Each record is sent to the {@link Processor} provided in the configuration as soon as all of its characters have been fed.
+	 * No thread ever blocks waiting for input, so many inputs can be parsed concurrently by a few threads, e.g. as their chunks arrive from the network.
+	 *
+	 * @see #beginFeeding(Charset)
+	 */
+	public final void beginFeeding() {
+		beginFeeding(null);
+	}
+
+	/**
+	 * Starts a push-style parsing cycle, where the input is provided in chunks of bytes with {@link #feed(byte[], int, int)} (or chunks of characters with
+	 * {@link #feed(char[], int, int)}), followed by a call to {@link #endOfInput()}. Each record is sent to the {@link Processor} provided in the configuration
+	 * as soon as all of its characters have been fed. No thread ever blocks waiting for input, so many inputs can be parsed concurrently by a few threads,
+	 * e.g. as their chunks arrive from the network.
+	 *
+	 * <p> When the characters fed so far end in the middle of a record, the record is parsed again from its start after more input is fed. To keep the total
+	 * work proportional to the size of the input, parsing only resumes after the characters available for that record at least doubled,
+	 * or when the input ends. If the input must be analyzed before parsing (e.g. when {@link CommonParserSettings#isLineSeparatorDetectionEnabled()}
+	 * evaluates to {@code true}), parsing starts only after {@link CommonParserSettings#getInputBufferSize()} characters are available.
+	 *
+	 * @param encoding the encoding of the bytes to be fed. If {@code null}, only chunks of characters can be fed.
+	 */
+	public final void beginFeeding(Charset encoding) {
+		if (!isResumableAtRecordStart()) {
+			throw new IllegalStateException("Cannot parse input fed in chunks with the current configuration of " + getClass().getSimpleName());
+		}
+		FeedCharInputReader reader = settings.newFeedCharInputReader(encoding, whitespaceRangeStart);
+		prepareInput(reader);
+		feedInput = reader;
+		feedInputStarted = false;
+		feedingStarted = false;
+	}
+
+	/**
+	 * Feeds a chunk of characters to the parsing cycle started with {@link #beginFeeding()}, and parses all records that can be completed with it.
+	 * Chunks provided after parsing was stopped are ignored.
+	 *
+	 * @param chunk  the characters to parse. They are copied, so the array can be reused once this method returns.
+	 * @param offset position of the first character of the chunk.
+	 * @param length number of characters of the chunk.
+	 */
+	public final void feed(char[] chunk, int offset, int length) {
+		if (validateFeed()) {
+			feedInput.feed(chunk, offset, length);
+			parseFed();
+		}
+	}
+
+	/**
+	 * Feeds a chunk of bytes to the parsing cycle started with {@link #beginFeeding(Charset)}, and parses all records that can be completed with it.
+	 * Chunks provided after parsing was stopped are ignored.
+	 *
+	 * @param chunk  the bytes to parse. They are decoded right away, so the array can be reused once this method returns.
+	 * @param offset position of the first byte of the chunk.
+	 * @param length number of bytes of the chunk.
+	 */
+	public final void feed(byte[] chunk, int offset, int length) {
+		if (validateFeed()) {
+			feedInput.feed(chunk, offset, length);
+			parseFed();
+		}
+	}
+
+	/**
+	 * Notifies the parsing cycle started with {@link #beginFeeding()} that no more chunks will be fed. The remaining records are parsed,
+	 * and the parsing process is stopped.
+	 */
+	public final void endOfInput() {
+		if (validateFeed()) {
+			feedInput.endOfInput();
+			parseFed();
+		}
+	}
+
+	private boolean validateFeed() {
+		if (feedInput == null) {
+			throw new IllegalStateException("Cannot feed input without invoking method beginFeeding() first");
+		}
+		return !context.isStopped();
+	}
+
+	private void parseFed() {
+		if (!feedInput.isReady()) {
+			return;
+		}
+		if (!feedingStarted) {
+			try {
+				if (!feedInputStarted) {
+					input.start(null);
+					feedInputStarted = true;
+				}
+				input.markRecordStart();
+				output.markRecordStart();
+				input.skipLines(rowsToSkip);
+			} catch (InputUnderflowException ex) {
+				awaitInput();
+				return;
+			} catch (Throwable t) {
+				throw handleException(t);
+			}
+			feedingStarted = true;
+
+			initialize();
+
+			processor.processStarted(context);
+		}
+		internalParse();
+	}
+
+	/**
+	 * Discards the record interrupted because all characters fed so far were consumed, so it can be parsed again once more input is fed.
+	 */
+	private void awaitInput() {
+		output.discardRecord();
+		recordDiscarded();
+		feedInput.rewind();
+	}
+
+	/**
+	 * Notifies the parser implementation that the record being parsed was discarded, so it can be parsed again from its start once more
+	 * input is fed. Any state kept while parsing the record must be reset.
+	 */
+	protected void recordDiscarded() {
+	}
+
+	/**
+	 * Indicates whether this parser can start parsing from the start of any record, without any state carried over from the records before it.
+	 * This is required to parse an input fed in chunks with {@link #beginFeeding()}, where any record interrupted at the end of a chunk is parsed
+	 * again from its start once more characters are available, and to create a {@link ParsingCheckpoint} with {@link #checkpoint()}.
+	 *
+	 * @return {@code true} if parsing can start from the start of any record. Parsers that keep state across records (e.g. characters read ahead
+	 * of the current record) must return {@code false}.
+	 */
+	protected boolean isResumableAtRecordStart() {
+		return true;
+	}
+
+	/**
+	 * Creates the {@link RecordBoundaryScanner} used to find where records start when only a range of bytes of the input is parsed with
+	 * {@link #beginParsing(SeekableByteChannel, Charset, long, long)}. By default, every line separator ends a record.
+	 *
+	 * @param encoding the encoding of the input
+	 *
+	 * @return a scanner of record boundaries for the format handled by this parser.
+	 */
+	protected RecordBoundaryScanner newRecordBoundaryScanner(Charset encoding) {
+		return new RecordBoundaryScanner(encoding, settings.getFormat().getLineSeparator());
 	}
 
 	/**
@@ -868,7 +1661,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, int expectedRowCount) {
-		return parseAll(ArgumentUtils.newReader(file), expectedRowCount);
+		return parseAll(file, (Charset) null, expectedRowCount);
 	}
 
 	/**
@@ -882,7 +1675,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, String encoding, int expectedRowCount) {
-		return parseAll(ArgumentUtils.newReader(file, encoding), expectedRowCount);
+		return parseAll(file, Charset.forName(encoding), expectedRowCount);
 	}
 
 	/**
@@ -896,7 +1689,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, Charset encoding, int expectedRowCount) {
-		return parseAll(ArgumentUtils.newReader(file, encoding), expectedRowCount);
+		beginParsing(file, encoding);
+		return internalParseAll(false, null, expectedRowCount);
 	}
 
 	/**
@@ -910,7 +1704,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<String[]> parseAll(InputStream input, int expectedRowCount) {
-		return parseAll(ArgumentUtils.newReader(input), expectedRowCount);
+		return parseAll(input, (Charset) null, expectedRowCount);
 	}
 
 	/**
@@ -925,7 +1719,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<String[]> parseAll(InputStream input, String encoding, int expectedRowCount) {
-		return parseAll(ArgumentUtils.newReader(input, encoding), expectedRowCount);
+		return parseAll(input, encoding == null ? (Charset) null : Charset.forName(encoding), expectedRowCount);
 	}
 
 	/**
@@ -940,7 +1734,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<String[]> parseAll(InputStream input, Charset encoding, int expectedRowCount) {
-		return parseAll(ArgumentUtils.newReader(input, encoding), expectedRowCount);
+		beginParsing(input, encoding);
+		return internalParseAll(false, null, expectedRowCount);
 	}
 
 	/**
@@ -951,7 +1746,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file) {
-		return parseAll(ArgumentUtils.newReader(file));
+		return parseAll(file, (Charset) null, 0);
 	}
 
 	/**
@@ -963,7 +1758,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, String encoding) {
-		return parseAll(ArgumentUtils.newReader(file, encoding));
+		return parseAll(file, Charset.forName(encoding), 0);
 	}
 
 	/**
@@ -975,7 +1770,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, Charset encoding) {
-		return parseAll(ArgumentUtils.newReader(file, encoding));
+		return parseAll(file, encoding, 0);
 	}
 
 	/**
@@ -987,7 +1782,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<String[]> parseAll(InputStream input) {
-		return parseAll(ArgumentUtils.newReader(input));
+		return parseAll(input, (Charset) null, 0);
 	}
 
 	/**
@@ -1000,7 +1795,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<String[]> parseAll(InputStream input, String encoding) {
-		return parseAll(ArgumentUtils.newReader(input, encoding));
+		return parseAll(input, encoding, 0);
 	}
 
 	/**
@@ -1013,7 +1808,37 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<String[]> parseAll(InputStream input, Charset encoding) {
-		return parseAll(ArgumentUtils.newReader(input, encoding));
+		return parseAll(input, encoding, 0);
+	}
+
+	/**
+	 * Parses all records from a channel and returns them in a list.
+	 *
+	 * @param channel  the input to be parsed. Bytes are decoded directly into the parser's buffer. The channel will be closed automatically
+	 *                 unless {@link CommonParserSettings#isAutoClosingEnabled()} evaluates to {@code false}
+	 * @param encoding the encoding of the input. If {@code null}, the encoding will be detected from the input's Byte Order Mark (BOM) or the
+	 *                 default charset will be used.
+	 *
+	 * @return the list of all records parsed from the input.
+	 */
+	public final List<String[]> parseAll(ReadableByteChannel channel, Charset encoding) {
+		beginParsing(channel, encoding);
+		return internalParseAll(false, null, 0);
+	}
+
+	/**
+	 * Parses all records from a buffer and returns them in a list.
+	 *
+	 * @param input    the bytes to be parsed, from the position of the buffer up to its limit. Bytes are decoded directly into the parser's
+	 *                 buffer, and the position of the given buffer is not modified.
+	 * @param encoding the encoding of the input. If {@code null}, the encoding will be detected from the input's Byte Order Mark (BOM) or the
+	 *                 default charset will be used.
+	 *
+	 * @return the list of all records parsed from the input.
+	 */
+	public final List<String[]> parseAll(ByteBuffer input, Charset encoding) {
+		beginParsing(input, encoding);
+		return internalParseAll(false, null, 0);
 	}
 
 	/**
@@ -1026,7 +1851,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, int expectedRowCount) {
-		return parseAllRecords(ArgumentUtils.newReader(file), expectedRowCount);
+		return parseAllRecords(file, (Charset) null, expectedRowCount);
 	}
 
 	/**
@@ -1040,7 +1865,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, String encoding, int expectedRowCount) {
-		return parseAllRecords(ArgumentUtils.newReader(file, encoding), expectedRowCount);
+		return parseAllRecords(file, Charset.forName(encoding), expectedRowCount);
 	}
 
 	/**
@@ -1054,7 +1879,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, Charset encoding, int expectedRowCount) {
-		return parseAllRecords(ArgumentUtils.newReader(file, encoding), expectedRowCount);
+		beginParsing(file, encoding);
+		return internalParseAllRecords(false, null, expectedRowCount);
 	}
 
 	/**
@@ -1068,7 +1894,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<Record> parseAllRecords(InputStream input, int expectedRowCount) {
-		return parseAllRecords(ArgumentUtils.newReader(input), expectedRowCount);
+		return parseAllRecords(input, (Charset) null, expectedRowCount);
 	}
 
 	/**
@@ -1083,7 +1909,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<Record> parseAllRecords(InputStream input, String encoding, int expectedRowCount) {
-		return parseAllRecords(ArgumentUtils.newReader(input, encoding), expectedRowCount);
+		return parseAllRecords(input, encoding == null ? (Charset) null : Charset.forName(encoding), expectedRowCount);
 	}
 
 	/**
@@ -1098,7 +1924,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<Record> parseAllRecords(InputStream input, Charset encoding, int expectedRowCount) {
-		return parseAllRecords(ArgumentUtils.newReader(input, encoding), expectedRowCount);
+		beginParsing(input, encoding);
+		return internalParseAllRecords(false, null, expectedRowCount);
 	}
 
 	/**
@@ -1109,7 +1936,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file) {
-		return parseAllRecords(ArgumentUtils.newReader(file));
+		return parseAllRecords(file, (Charset) null, 0);
 	}
 
 	/**
@@ -1121,7 +1948,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, String encoding) {
-		return parseAllRecords(ArgumentUtils.newReader(file, encoding));
+		return parseAllRecords(file, Charset.forName(encoding), 0);
 	}
 
 	/**
@@ -1133,7 +1960,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, Charset encoding) {
-		return parseAllRecords(ArgumentUtils.newReader(file, encoding));
+		return parseAllRecords(file, encoding, 0);
 	}
 
 	/**
@@ -1145,7 +1972,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<Record> parseAllRecords(InputStream input) {
-		return parseAllRecords(ArgumentUtils.newReader(input));
+		return parseAllRecords(input, (Charset) null, 0);
 	}
 
 	/**
@@ -1158,7 +1985,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<Record> parseAllRecords(InputStream input, String encoding) {
-		return parseAllRecords(ArgumentUtils.newReader(input, encoding));
+		return parseAllRecords(input, encoding, 0);
 	}
 
 	/**
@@ -1171,7 +1998,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<Record> parseAllRecords(InputStream input, Charset encoding) {
-		return parseAllRecords(ArgumentUtils.newReader(input, encoding));
+		return parseAllRecords(input, encoding, 0);
 	}
 
 	/**
@@ -1218,9 +2045,22 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return The record parsed from the input or null if there's no more characters to read.
 	 */
 	public final Record parseNextRecord() {
+		if (processor == NoopProcessor.instance && context instanceof DefaultContext && !output.isDeduplicating()) {
+			//values are kept in a compact buffer and only converted to String when read from the record.
+			output.setFieldViewEnabled(true);
+			try {
+				FieldView fields = (FieldView) parseNext(true);
+				if (fields != null) {
+					return ((DefaultContext) context).toRecord(fields);
+				}
+				return null;
+			} finally {
+				output.setFieldViewEnabled(false);
+			}
+		}
 		String[] row = this.parseNext();
 		if (row != null) {
-			return context.toRecord(row);
+			return context.toRecord(output.retain(row));
 		}
 		return null;
 	}
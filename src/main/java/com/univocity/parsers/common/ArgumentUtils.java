@@ -405,14 +405,22 @@ public class ArgumentUtils {
 	 * @return a {@link java.io.Reader} for reading the given file
 	 */
 	public static Reader newReader(File file, Charset encoding) {
-		FileInputStream input;
+		return newReader(newInputStream(file), encoding);
+	}
+
+	/**
+	 * Creates an {@link java.io.InputStream} for reading the raw bytes of a given file
+	 *
+	 * @param file the file to be read
+	 *
+	 * @return an {@link java.io.InputStream} for reading the given file
+	 */
+	public static InputStream newInputStream(File file) {
 		try {
-			input = new FileInputStream(file);
+			return new FileInputStream(file);
 		} catch (FileNotFoundException e) {
 			throw new IllegalArgumentException(e);
 		}
-
-		return newReader(input, encoding);
 	}
 
 	/**
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+/**
+ * Reads a range of bytes of a channel. Reads from a {@link FileChannel} are positional, so multiple ranges can be read concurrently from the same channel.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+final class ByteRangeInputStream extends InputStream {
+
+	private final SeekableByteChannel channel;
+	private long position;
+	private final long end;
+
+	/**
+	 * Creates an input stream over a range of bytes of a channel. Closing the input stream doesn't close the channel.
+	 *
+	 * @param channel the channel to read from
+	 * @param start   the position of the first byte to read.
+	 * @param end     the position after the last byte to read.
+	 */
+	ByteRangeInputStream(SeekableByteChannel channel, long start, long end) {
+		this.channel = channel;
+		this.position = start;
+		this.end = end;
+	}
+
+	/**
+	 * Reads bytes of a channel from a given position. Reads from a {@link FileChannel} don't affect other reads in progress,
+	 * while the position of other channels is moved while holding their lock.
+	 *
+	 * @param channel  the channel to read from
+	 * @param bytes    the array to store the bytes read
+	 * @param offset   the position in the array where the first byte read should be stored
+	 * @param length   the maximum number of bytes to read
+	 * @param position the position of the channel from where bytes will be read
+	 *
+	 * @return the number of bytes read, or {@code -1} if the given position is at the end of the channel.
+	 */
+	static int read(SeekableByteChannel channel, byte[] bytes, int offset, int length, long position) {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+			if (channel instanceof FileChannel) {
+				return ((FileChannel) channel).read(buffer, position);
+			}
+			synchronized (channel) {
+				channel.position(position);
+				return channel.read(buffer);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+	}
+
+	@Override
+	public int read() {
+		byte[] tmp = new byte[1];
+		return read(tmp, 0, 1) == -1 ? -1 : tmp[0] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) {
+		if (position >= end) {
+			return -1;
+		}
+		int read = read(channel, b, off, (int) Math.min(len, end - position), position);
+		if (read > 0) {
+			position += read;
+		}
+		return read;
+	}
+}
@@ -23,7 +23,12 @@ import com.univocity.parsers.common.input.concurrent.*;
 import com.univocity.parsers.common.processor.*;
 import com.univocity.parsers.common.processor.core.*;
 
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * This is the parent class for all configuration classes used by parsers ({@link AbstractParser})
@@ -41,9 +46,26 @@ import java.util.*;
  * <p>When enabled, a reading thread (in {@code input.concurrent.ConcurrentCharInputReader}) will be started and load characters from the input, while the parser is processing its input buffer.
  * This yields better performance, especially when reading from big input (greater than 100 mb)
  * <p>When disabled, the parsing process will briefly pause so the buffer can be replenished every time it is exhausted (in {@link DefaultCharInputReader} it is not as bad or slow as it sounds, and can even be (slightly) more efficient if your input is small)
+ * <li><b>inputBucketCount <i>(defaults to 10)</i>:</b> the number of buckets of characters the reading thread can fill ahead of the parser
+ * when readInputOnSeparateThread is enabled.
+ * <li><b>inputBucketSize <i>(defaults to the inputBufferSize)</i>:</b> the number of characters held by each bucket filled by the reading thread
+ * when readInputOnSeparateThread is enabled.
+ * <li><b>executorService <i>(defaults to {@link ParserThreads#getSharedExecutor()})</i>:</b> the executor used to run background tasks,
+ * such as reading the input on a separate thread.
+ * <li><b>memoryMappedInputEnabled <i>(defaults to false)</i>:</b> when enabled, files are mapped into memory and decoded directly into the parser's buffer
+ * by a {@link MappedFileCharInputReader}, instead of being read through a {@link java.io.Reader}.
+ * <li><b>directDecodingEnabled <i>(defaults to false)</i>:</b> when enabled, the bytes of input streams and files are decoded directly into the parser's buffer
+ * by a {@link DecodingCharInputReader}, instead of being read through a {@link java.io.InputStreamReader}.
+ * <li><b>deduplicated fields <i>(defaults to none)</i>:</b> fields whose values are deduplicated, so that repeated values share the same
+ * {@code String} instance. Fields are selected with {@link #deduplicateFields(String...)} or {@link #deduplicateIndexes(Integer...)}.
+ * <li><b>deduplicationCacheSize <i>(defaults to 256)</i>:</b> the maximum number of distinct values held for each deduplicated field.
+ * <li><b>rowReuseEnabled <i>(defaults to false)</i>:</b> when enabled, the parser returns the same {@code String[]} instance for every record
+ * that has the same number of values, instead of allocating a new array per record. Rows must not be retained after they are processed.</li>
  * <li><b>numberOfRecordsToRead <i>(defaults to -1)</i>:</b> Defines how many (valid) records are to be parsed before the process is stopped. A negative value indicates there's no limit.</li>
  * <li><b>lineSeparatorDetectionEnabled <i>(defaults to false)</i>:</b> Attempts to identify what is the line separator being used in the input.
  * The first row of the input will be read until a sequence of '\r\n', or characters '\r' or '\n' is found. If a match is found, then it will be used as the line separator to use to parse the input</li>
+ * <li><b>splitResynchronization <i>(defaults to {@link SplitResynchronization#SPECULATIVE})</i>:</b> how the first record of a split is found when only
+ * the records that start within a range of bytes are parsed, with {@link AbstractParser#beginParsing(java.nio.channels.SeekableByteChannel, Charset, long, long)}.</li>
  * </ul>
  *
  * @param <F> the format supported by this parser.
@@ -60,8 +82,17 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 	private boolean columnReorderingEnabled = true;
 	private int inputBufferSize = 1024 * 1024;
 	private boolean readInputOnSeparateThread = Runtime.getRuntime().availableProcessors() > 1;
+	private int inputBucketCount = 10;
+	private int inputBucketSize = -1;
+	private ExecutorService executorService;
+	private boolean memoryMappedInputEnabled = false;
+	private boolean directDecodingEnabled = false;
+	private FieldSelector deduplicatedFields;
+	private int deduplicationCacheSize = 256;
+	private boolean rowReuseEnabled = false;
 	private long numberOfRecordsToRead = -1L;
 	private boolean lineSeparatorDetectionEnabled = false;
+	private SplitResynchronization splitResynchronization = SplitResynchronization.SPECULATIVE;
 	private long numberOfRowsToSkip = 0L;
 	private boolean commentCollectionEnabled = false;
 	private boolean blankCommentCollectionEnabled = false;
@@ -99,6 +130,256 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 		this.readInputOnSeparateThread = readInputOnSeparateThread;
 	}
 
+	/**
+	 * Returns the number of buckets of characters the reading thread can fill ahead of the parser when {@link #getReadInputOnSeparateThread()}
+	 * evaluates to {@code true} (defaults to 10).
+	 * <p>Buckets are allocated once and reused for the entire parsing process. The reading thread waits when all buckets are full, and the
+	 * parser waits when all buckets are empty. More buckets help absorbing variations in the speed of the input and of the parsing process,
+	 * at the expense of memory.
+	 *
+	 * @return the number of buckets used to transfer characters from the reading thread to the parser.
+	 */
+	public int getInputBucketCount() {
+		return inputBucketCount;
+	}
+
+	/**
+	 * Defines the number of buckets of characters the reading thread can fill ahead of the parser when {@link #getReadInputOnSeparateThread()}
+	 * evaluates to {@code true} (defaults to 10).
+	 * <p>Buckets are allocated once and reused for the entire parsing process. The reading thread waits when all buckets are full, and the
+	 * parser waits when all buckets are empty. More buckets help absorbing variations in the speed of the input and of the parsing process,
+	 * at the expense of memory.
+	 *
+	 * @param inputBucketCount the number of buckets used to transfer characters from the reading thread to the parser. Must be at least 1.
+	 */
+	public void setInputBucketCount(int inputBucketCount) {
+		if (inputBucketCount < 1) {
+			throw new IllegalArgumentException("Number of input buckets must be at least 1. Got " + inputBucketCount);
+		}
+		this.inputBucketCount = inputBucketCount;
+	}
+
+	/**
+	 * Returns the number of characters held by each bucket filled by the reading thread when {@link #getReadInputOnSeparateThread()}
+	 * evaluates to {@code true}. Defaults to the value of {@link #getInputBufferSize()}.
+	 *
+	 * @return the size of each bucket used to transfer characters from the reading thread to the parser.
+	 */
+	public int getInputBucketSize() {
+		return inputBucketSize <= 0 ? getInputBufferSize() : inputBucketSize;
+	}
+
+	/**
+	 * Defines the number of characters held by each bucket filled by the reading thread when {@link #getReadInputOnSeparateThread()}
+	 * evaluates to {@code true}. Defaults to the value of {@link #getInputBufferSize()}.
+	 * <p>Smaller buckets are handed over to the parser sooner, while larger buckets reduce the number of hand-offs between threads.
+	 *
+	 * @param inputBucketSize the size of each bucket used to transfer characters from the reading thread to the parser. Values {@code <= 0}
+	 *                        restore the default, i.e. the size of the input buffer.
+	 */
+	public void setInputBucketSize(int inputBucketSize) {
+		this.inputBucketSize = inputBucketSize;
+	}
+
+	/**
+	 * Returns the {@link ExecutorService} used to run background tasks of the parser, such as reading the input on a separate thread when
+	 * {@link #getReadInputOnSeparateThread()} evaluates to {@code true}. Defaults to the executor returned by {@link ParserThreads#getSharedExecutor()},
+	 * which reuses its threads among all parsing processes.
+	 *
+	 * @return the executor used to run background tasks.
+	 */
+	public ExecutorService getExecutorService() {
+		return executorService == null ? ParserThreads.getSharedExecutor() : executorService;
+	}
+
+	/**
+	 * Defines the {@link ExecutorService} used to run background tasks of the parser, such as reading the input on a separate thread when
+	 * {@link #getReadInputOnSeparateThread()} evaluates to {@code true}. Defaults to the executor returned by {@link ParserThreads#getSharedExecutor()},
+	 * which reuses its threads among all parsing processes.
+	 * <p>Background tasks run for as long as the parsing process, therefore the given executor must be able to run one task concurrently for each
+	 * parser in use, otherwise parsers will wait for each other. The executor is never shut down by the parser.
+	 *
+	 * @param executorService the executor used to run background tasks. If {@code null}, the shared executor will be used.
+	 */
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
+	/**
+	 * Indicates whether files given to the parser (e.g. {@code parse(File)} or {@code beginParsing(File)}) should be mapped into memory and
+	 * decoded directly into the parser's buffer by a {@link MappedFileCharInputReader}, instead of being read through a {@link java.io.Reader}
+	 * (defaults to false).
+	 * <p>When enabled, files are always read on the parsing thread and {@link #getReadInputOnSeparateThread()} is ignored for them,
+	 * as the operating system takes care of loading pages of the file in the background.
+	 * <p>Inputs other than files are not affected by this setting.
+	 *
+	 * @return true if files should be mapped into memory, false otherwise
+	 */
+	public boolean isMemoryMappedInputEnabled() {
+		return memoryMappedInputEnabled;
+	}
+
+	/**
+	 * Defines whether files given to the parser (e.g. {@code parse(File)} or {@code beginParsing(File)}) should be mapped into memory and
+	 * decoded directly into the parser's buffer by a {@link MappedFileCharInputReader}, instead of being read through a {@link java.io.Reader}
+	 * (defaults to false).
+	 * <p>When enabled, files are always read on the parsing thread and {@link #getReadInputOnSeparateThread()} is ignored for them,
+	 * as the operating system takes care of loading pages of the file in the background.
+	 * <p>Inputs other than files are not affected by this setting.
+	 *
+	 * @param memoryMappedInputEnabled the flag indicating whether or not files should be mapped into memory
+	 */
+	public void setMemoryMappedInputEnabled(boolean memoryMappedInputEnabled) {
+		this.memoryMappedInputEnabled = memoryMappedInputEnabled;
+	}
+
+	/**
+	 * Indicates whether input streams and files given to the parser should have their bytes decoded directly into the parser's buffer by a
+	 * {@link DecodingCharInputReader}, instead of being read through a {@link java.io.InputStreamReader} (defaults to false).
+	 * <p>Inputs encoded in US-ASCII, ISO-8859-1 or UTF-8 are decoded with a simple loop that widens each byte into a character,
+	 * so that only non-ASCII sequences have to go through a {@link java.nio.charset.CharsetDecoder}.
+	 * <p>When enabled, the input is decoded on the parsing thread and {@link #getReadInputOnSeparateThread()} is ignored for streams and files.
+	 * Inputs provided as a {@link java.io.Reader} are not affected by this setting, and files are mapped into memory instead if
+	 * {@link #isMemoryMappedInputEnabled()} evaluates to {@code true}.
+	 *
+	 * @return true if bytes should be decoded directly into the parser's buffer, false otherwise
+	 */
+	public boolean isDirectDecodingEnabled() {
+		return directDecodingEnabled;
+	}
+
+	/**
+	 * Defines whether input streams and files given to the parser should have their bytes decoded directly into the parser's buffer by a
+	 * {@link DecodingCharInputReader}, instead of being read through a {@link java.io.InputStreamReader} (defaults to false).
+	 * <p>Inputs encoded in US-ASCII, ISO-8859-1 or UTF-8 are decoded with a simple loop that widens each byte into a character,
+	 * so that only non-ASCII sequences have to go through a {@link java.nio.charset.CharsetDecoder}.
+	 * <p>When enabled, the input is decoded on the parsing thread and {@link #getReadInputOnSeparateThread()} is ignored for streams and files.
+	 * Inputs provided as a {@link java.io.Reader} are not affected by this setting, and files are mapped into memory instead if
+	 * {@link #isMemoryMappedInputEnabled()} evaluates to {@code true}.
+	 *
+	 * @param directDecodingEnabled the flag indicating whether or not bytes should be decoded directly into the parser's buffer
+	 */
+	public void setDirectDecodingEnabled(boolean directDecodingEnabled) {
+		this.directDecodingEnabled = directDecodingEnabled;
+	}
+
+	/**
+	 * Selects fields whose values should be deduplicated, by their names. Useful for columns with a low number of distinct values
+	 * (e.g. country codes, status flags and currencies), where the same values would otherwise be allocated as new {@code String}s
+	 * in every record.
+	 * <p>The parser keeps a small table of values for each deduplicated field (see {@link #setDeduplicationCacheSize(int)}),
+	 * and only creates a new {@code String} when the characters parsed for the field are not found in the table. Rows produced by
+	 * the parser will then share the same {@code String} instance for repeated values, which also reduces the memory retained by
+	 * methods such as {@link AbstractParser#parseAll(Reader)}.
+	 * <p>Field names can only be matched when headers are available, either from the input or from {@link #setHeaders(String...)}.
+	 *
+	 * @param fieldNames the names of the fields whose values should be deduplicated
+	 *
+	 * @return the (modifiable) set of deduplicated fields
+	 */
+	public FieldSet<String> deduplicateFields(String... fieldNames) {
+		FieldNameSelector selector = new FieldNameSelector();
+		selector.add(fieldNames);
+		this.deduplicatedFields = selector;
+		return selector;
+	}
+
+	/**
+	 * Selects fields whose values should be deduplicated, by their positions in the input. Useful for columns with a low number of
+	 * distinct values (e.g. country codes, status flags and currencies), where the same values would otherwise be allocated as new
+	 * {@code String}s in every record.
+	 * <p>The parser keeps a small table of values for each deduplicated field (see {@link #setDeduplicationCacheSize(int)}),
+	 * and only creates a new {@code String} when the characters parsed for the field are not found in the table.
+	 *
+	 * @param fieldIndexes the positions of the fields whose values should be deduplicated
+	 *
+	 * @return the (modifiable) set of deduplicated fields
+	 */
+	public FieldSet<Integer> deduplicateIndexes(Integer... fieldIndexes) {
+		FieldIndexSelector selector = new FieldIndexSelector();
+		selector.add(fieldIndexes);
+		this.deduplicatedFields = selector;
+		return selector;
+	}
+
+	/**
+	 * Returns the selector of fields whose values should be deduplicated.
+	 *
+	 * @return the selector of deduplicated fields, or {@code null} if values are not deduplicated.
+	 */
+	FieldSelector getDeduplicatedFields() {
+		return deduplicatedFields;
+	}
+
+	/**
+	 * Returns the maximum number of distinct values held for each field selected with {@link #deduplicateFields(String...)}
+	 * or {@link #deduplicateIndexes(Integer...)} (defaults to 256).
+	 * <p>When a field has more distinct values than the table can hold, values replace each other in the table and new
+	 * {@code String}s are created as usual.
+	 *
+	 * @return the number of values held for each deduplicated field.
+	 */
+	public int getDeduplicationCacheSize() {
+		return deduplicationCacheSize;
+	}
+
+	/**
+	 * Defines the maximum number of distinct values held for each field selected with {@link #deduplicateFields(String...)}
+	 * or {@link #deduplicateIndexes(Integer...)} (defaults to 256).
+	 * <p>When a field has more distinct values than the table can hold, values replace each other in the table and new
+	 * {@code String}s are created as usual.
+	 *
+	 * @param deduplicationCacheSize the number of values held for each deduplicated field. Must be at least 1.
+	 */
+	public void setDeduplicationCacheSize(int deduplicationCacheSize) {
+		if (deduplicationCacheSize < 1) {
+			throw new IllegalArgumentException("Deduplication cache size must be at least 1. Got " + deduplicationCacheSize);
+		}
+		this.deduplicationCacheSize = deduplicationCacheSize;
+	}
+
+	/**
+	 * Indicates whether the parser should return the same {@code String[]} instance for every record it parses, instead of allocating
+	 * a new array for each record (defaults to {@code false}).
+	 *
+	 * <p>This avoids allocating an array for every record, but the contents of a row are only valid until the next record is parsed:
+	 * a {@link RowProcessor} must process each row in {@link RowProcessor#rowProcessed(String[], ParsingContext)} and not keep a reference
+	 * to it, and rows returned by {@link AbstractParser#parseNext()} are overwritten by the subsequent call. Copy the array (e.g. with
+	 * {@code row.clone()}) if it must be kept. Do not enable this option with processors that hold on to rows, such as
+	 * {@link RowListProcessor} or the concurrent processors, which hand rows over to other threads.</p>
+	 *
+	 * <p>Methods that collect rows, such as {@link AbstractParser#parseAll()} and {@link AbstractParser#parseAllRecords()}, are not affected
+	 * and always produce independent rows.</p>
+	 *
+	 * <p>A new array is still allocated whenever a record has a different number of values than the previous one.</p>
+	 *
+	 * @return flag indicating whether the array of values of each record is reused for the next record.
+	 */
+	public boolean isRowReuseEnabled() {
+		return rowReuseEnabled;
+	}
+
+	/**
+	 * Configures the parser to return the same {@code String[]} instance for every record it parses, instead of allocating
+	 * a new array for each record (defaults to {@code false}).
+	 *
+	 * <p>This avoids allocating an array for every record, but the contents of a row are only valid until the next record is parsed:
+	 * a {@link RowProcessor} must process each row in {@link RowProcessor#rowProcessed(String[], ParsingContext)} and not keep a reference
+	 * to it, and rows returned by {@link AbstractParser#parseNext()} are overwritten by the subsequent call. Copy the array (e.g. with
+	 * {@code row.clone()}) if it must be kept. Do not enable this option with processors that hold on to rows, such as
+	 * {@link RowListProcessor} or the concurrent processors, which hand rows over to other threads.</p>
+	 *
+	 * <p>Methods that collect rows, such as {@link AbstractParser#parseAll()} and {@link AbstractParser#parseAllRecords()}, are not affected
+	 * and always produce independent rows.</p>
+	 *
+	 * <p>A new array is still allocated whenever a record has a different number of values than the previous one.</p>
+	 *
+	 * @param rowReuseEnabled flag indicating whether the array of values of each record should be reused for the next record.
+	 */
+	public void setRowReuseEnabled(boolean rowReuseEnabled) {
+		this.rowReuseEnabled = rowReuseEnabled;
+	}
+
 	/**
 	 * Indicates whether or not the first valid record parsed from the input should be considered as the row containing the names of each column
 	 *
@@ -216,9 +497,9 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 	protected CharInputReader newCharInputReader(int whitespaceRangeStart) {
 		if (readInputOnSeparateThread) {
 			if (lineSeparatorDetectionEnabled) {
-				return new ConcurrentCharInputReader(getFormat().getNormalizedNewline(), this.getInputBufferSize(), 10, whitespaceRangeStart, autoClosingEnabled);
+				return new ConcurrentCharInputReader(getFormat().getNormalizedNewline(), this.getInputBucketSize(), inputBucketCount, whitespaceRangeStart, autoClosingEnabled, getExecutorService());
 			} else {
-				return new ConcurrentCharInputReader(getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), this.getInputBufferSize(), 10, whitespaceRangeStart, autoClosingEnabled);
+				return new ConcurrentCharInputReader(getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), this.getInputBucketSize(), inputBucketCount, whitespaceRangeStart, autoClosingEnabled, getExecutorService());
 			}
 		} else {
 			if (lineSeparatorDetectionEnabled) {
@@ -229,6 +510,103 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 		}
 	}
 
+	/**
+	 * An implementation of {@link CharInputReader} which maps the given file into memory and decodes its contents directly into the parser buffer.
+	 * Used when {@link #isMemoryMappedInputEnabled()} evaluates to {@code true}.
+	 *
+	 * @param file                 the file to be read
+	 * @param encoding             the encoding of the file. If {@code null}, the encoding will be detected from the file's BOM or the default charset will be used.
+	 * @param whitespaceRangeStart starting range of characters considered to be whitespace.
+	 *
+	 * @return a {@link MappedFileCharInputReader} for the given file.
+	 */
+	protected CharInputReader newCharInputReader(File file, Charset encoding, int whitespaceRangeStart) {
+		if (lineSeparatorDetectionEnabled) {
+			return new MappedFileCharInputReader(file, encoding, getFormat().getNormalizedNewline(), this.getInputBufferSize(), MappedFileCharInputReader.DEFAULT_WINDOW_SIZE, whitespaceRangeStart, autoClosingEnabled);
+		} else {
+			return new MappedFileCharInputReader(file, encoding, getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), this.getInputBufferSize(), MappedFileCharInputReader.DEFAULT_WINDOW_SIZE, whitespaceRangeStart, autoClosingEnabled);
+		}
+	}
+
+	/**
+	 * An implementation of {@link CharInputReader} which decodes the bytes of the given input stream directly into the parser buffer.
+	 * Used when {@link #isDirectDecodingEnabled()} evaluates to {@code true}.
+	 *
+	 * @param input                the input stream to be read
+	 * @param encoding             the encoding of the input. If {@code null}, the encoding will be detected from the input's BOM or the default charset will be used.
+	 * @param whitespaceRangeStart starting range of characters considered to be whitespace.
+	 *
+	 * @return a {@link DecodingCharInputReader} for the given input stream.
+	 */
+	protected CharInputReader newCharInputReader(InputStream input, Charset encoding, int whitespaceRangeStart) {
+		if (lineSeparatorDetectionEnabled) {
+			return new DecodingCharInputReader(input, encoding, getFormat().getNormalizedNewline(), this.getInputBufferSize(), whitespaceRangeStart, autoClosingEnabled);
+		} else {
+			return new DecodingCharInputReader(input, encoding, getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), this.getInputBufferSize(), whitespaceRangeStart, autoClosingEnabled);
+		}
+	}
+
+	/**
+	 * An implementation of {@link CharInputReader} which decodes the bytes of the given channel directly into the parser buffer.
+	 *
+	 * @param channel              the channel to be read
+	 * @param encoding             the encoding of the input. If {@code null}, the encoding will be detected from the input's BOM or the default charset will be used.
+	 * @param whitespaceRangeStart starting range of characters considered to be whitespace.
+	 *
+	 * @return a {@link DecodingCharInputReader} for the given channel.
+	 */
+	protected CharInputReader newCharInputReader(ReadableByteChannel channel, Charset encoding, int whitespaceRangeStart) {
+		if (lineSeparatorDetectionEnabled) {
+			return new DecodingCharInputReader(channel, encoding, getFormat().getNormalizedNewline(), this.getInputBufferSize(), whitespaceRangeStart, autoClosingEnabled);
+		} else {
+			return new DecodingCharInputReader(channel, encoding, getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), this.getInputBufferSize(), whitespaceRangeStart, autoClosingEnabled);
+		}
+	}
+
+	/**
+	 * An implementation of {@link CharInputReader} which decodes the bytes of the given buffer directly into the parser buffer.
+	 *
+	 * @param input                the buffer to be read
+	 * @param encoding             the encoding of the input. If {@code null}, the encoding will be detected from the input's BOM or the default charset will be used.
+	 * @param whitespaceRangeStart starting range of characters considered to be whitespace.
+	 *
+	 * @return a {@link DecodingCharInputReader} for the given buffer.
+	 */
+	protected CharInputReader newCharInputReader(ByteBuffer input, Charset encoding, int whitespaceRangeStart) {
+		if (lineSeparatorDetectionEnabled) {
+			return new DecodingCharInputReader(input, encoding, getFormat().getNormalizedNewline(), this.getInputBufferSize(), whitespaceRangeStart);
+		} else {
+			return new DecodingCharInputReader(input, encoding, getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), this.getInputBufferSize(), whitespaceRangeStart);
+		}
+	}
+
+	/**
+	 * An implementation of {@link CharInputReader} which accumulates chunks of input pushed by the user, used by {@link AbstractParser#beginFeeding(Charset)}.
+	 *
+	 * @param encoding             the encoding of the bytes to be fed. If {@code null}, only characters can be fed.
+	 * @param whitespaceRangeStart starting range of characters considered to be whitespace.
+	 *
+	 * @return a {@link FeedCharInputReader} to receive the input.
+	 */
+	protected FeedCharInputReader newFeedCharInputReader(Charset encoding, int whitespaceRangeStart) {
+		int sampleLength = isInputSampleRequired() ? this.getInputBufferSize() : 0;
+		if (lineSeparatorDetectionEnabled) {
+			return new FeedCharInputReader(encoding, getFormat().getNormalizedNewline(), sampleLength, whitespaceRangeStart);
+		} else {
+			return new FeedCharInputReader(encoding, getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), sampleLength, whitespaceRangeStart);
+		}
+	}
+
+	/**
+	 * Indicates whether parts of the configuration are discovered by analyzing the first characters of the input, e.g. when
+	 * {@link #isLineSeparatorDetectionEnabled()} evaluates to {@code true}, or custom {@link InputAnalysisProcess}es were provided.
+	 *
+	 * @return {@code true} if a full buffer of characters must be available before parsing starts.
+	 */
+	protected boolean isInputSampleRequired() {
+		return lineSeparatorDetectionEnabled || inputAnalysisProcesses != null && !inputAnalysisProcesses.isEmpty();
+	}
+
 	/**
 	 * The number of valid records to be parsed before the process is stopped. A negative value indicates there's no limit (defaults to -1).
 	 *
@@ -350,6 +728,31 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 		this.lineSeparatorDetectionEnabled = lineSeparatorDetectionEnabled;
 	}
 
+	/**
+	 * Returns the strategy used to find the first record of a split, when only the records that start within a range of bytes of the input are parsed
+	 * with {@link AbstractParser#beginParsing(java.nio.channels.SeekableByteChannel, Charset, long, long)}. The same strategy determines where the last record
+	 * of a split ends, so all splits of an input must be parsed with the same strategy. Defaults to {@link SplitResynchronization#SPECULATIVE}.
+	 *
+	 * @return the strategy used to resynchronize with the records of the input at the boundaries of a split.
+	 */
+	public final SplitResynchronization getSplitResynchronization() {
+		return splitResynchronization;
+	}
+
+	/**
+	 * Defines the strategy used to find the first record of a split, when only the records that start within a range of bytes of the input are parsed
+	 * with {@link AbstractParser#beginParsing(java.nio.channels.SeekableByteChannel, Charset, long, long)}. The same strategy determines where the last record
+	 * of a split ends, so all splits of an input must be parsed with the same strategy. Defaults to {@link SplitResynchronization#SPECULATIVE}.
+	 *
+	 * @param splitResynchronization the strategy used to resynchronize with the records of the input at the boundaries of a split.
+	 */
+	public final void setSplitResynchronization(SplitResynchronization splitResynchronization) {
+		if (splitResynchronization == null) {
+			throw new IllegalArgumentException("Split resynchronization strategy must not be null");
+		}
+		this.splitResynchronization = splitResynchronization;
+	}
+
 	/**
 	 * Returns the number of rows to skip from the input before the parser can begin to execute.
 	 *
@@ -379,8 +782,17 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 		out.put("Column reordering enabled", columnReorderingEnabled);
 		out.put("Input buffer size", inputBufferSize);
 		out.put("Input reading on separate thread", readInputOnSeparateThread);
+		out.put("Input bucket count", inputBucketCount);
+		out.put("Input bucket size", getInputBucketSize());
+		out.put("Executor service", executorService == null ? "shared" : executorService.getClass().getName());
+		out.put("Memory mapped input enabled", memoryMappedInputEnabled);
+		out.put("Direct decoding enabled", directDecodingEnabled);
+		out.put("Deduplicated fields", deduplicatedFields == null ? "none" : deduplicatedFields.describe());
+		out.put("Deduplication cache size", deduplicationCacheSize);
+		out.put("Row reuse enabled", rowReuseEnabled);
 		out.put("Number of records to read", numberOfRecordsToRead == -1 ? "all" : numberOfRecordsToRead);
 		out.put("Line separator detection enabled", lineSeparatorDetectionEnabled);
+		out.put("Split resynchronization", splitResynchronization);
 		out.put("Auto-closing enabled", autoClosingEnabled);
 	}
 
@@ -507,6 +919,7 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 	protected void clearInputSpecificSettings() {
 		super.clearInputSpecificSettings();
 		processor = null;
+		deduplicatedFields = null;
 		numberOfRecordsToRead = -1L;
 		numberOfRowsToSkip = 0L;
 	}
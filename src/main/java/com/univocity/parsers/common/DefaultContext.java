@@ -144,6 +144,21 @@ public class DefaultContext implements Context {
 		return recordFactory.newRecord(row);
 	}
 
+	/**
+	 * Converts the values of a row collected in a {@link FieldView} into a {@link Record}. A {@code String} is only created for
+	 * the values that are read from the resulting {@link Record}.
+	 *
+	 * @param fields a view over the values of a parsed row
+	 *
+	 * @return a {@link Record} with the values of the given row.
+	 */
+	final Record toRecord(FieldView fields) {
+		if (recordFactory == null) {
+			recordFactory = new RecordFactory(this);
+		}
+		return recordFactory.newRecord(fields);
+	}
+
 	@Override
 	public RecordMetaData recordMetaData(){
 		if(recordFactory == null){
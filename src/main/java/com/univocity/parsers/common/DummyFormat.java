@@ -28,6 +28,8 @@ import java.util.*;
  */
 final class DummyFormat extends Format {
 
+	private static final long serialVersionUID = -3207612049940074365L;
+
 	static final DummyFormat instance = new DummyFormat();
 
 	private DummyFormat() {
@@ -0,0 +1,646 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.input.*;
+import com.univocity.parsers.common.processor.*;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * A reusable view over the values of a record, used to hand records over to a {@link FieldViewProcessor} without creating
+ * a {@code String} for each parsed value.
+ *
+ * <p> The characters of all values of the current record are kept in a single buffer (see {@link #getBuffer()}), and each field is identified
+ * by its offset and length in that buffer. The contents of a {@code FieldView} are only valid during the invocation of
+ * {@link FieldViewProcessor#rowProcessed(FieldView, ParsingContext)}, as the same instance is updated with the values of every record parsed
+ * from the input. Use {@link #toString(int)} or {@link #toArray()} to obtain the values that must be retained.
+ *
+ * <p> Numeric values can be read with {@link #getInt(int)}, {@link #getLong(int)}, {@link #getDouble(int)} and {@link #getBigDecimal(int)},
+ * which parse the characters of a field directly from the buffer, without creating an intermediate {@code String} or boxed value.
+ *
+ * <p> Field indexes follow the same rules applied to the {@code String[]} produced by the parser: if fields are selected and column reordering
+ * is enabled, only the selected fields are available, in the order they were selected.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see FieldViewProcessor
+ */
+public final class FieldView {
+
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	private char[] buffer;
+	private int used;
+
+	private int[] offsets;
+	private int[] lengths;
+	private String[] values;
+	private Field[] fields;
+
+	private int columns;
+	private int count;
+	private int[] indexes;
+	private String missingValue;
+
+	/**
+	 * Creates an empty view of a record
+	 *
+	 * @param expectedColumns the number of columns expected to be found in each record.
+	 */
+	FieldView(int expectedColumns) {
+		expectedColumns = Math.max(expectedColumns, 1);
+		buffer = new char[expectedColumns * 16];
+		offsets = new int[expectedColumns];
+		lengths = new int[expectedColumns];
+		values = new String[expectedColumns];
+		fields = new Field[expectedColumns];
+	}
+
+	private FieldView(FieldView view) {
+		columns = view.columns;
+		count = view.count;
+		indexes = view.indexes;
+		missingValue = view.missingValue;
+		used = columns == 0 ? 0 : view.used;
+		buffer = Arrays.copyOf(view.buffer, used);
+		offsets = Arrays.copyOf(view.offsets, columns);
+		lengths = Arrays.copyOf(view.lengths, columns);
+		values = Arrays.copyOf(view.values, columns);
+		fields = new Field[columns];
+	}
+
+	private void ensureColumnCapacity(int column) {
+		if (column >= offsets.length) {
+			int length = Math.max(column + 1, offsets.length * 2);
+			offsets = Arrays.copyOf(offsets, length);
+			lengths = Arrays.copyOf(lengths, length);
+			values = Arrays.copyOf(values, length);
+			fields = Arrays.copyOf(fields, length);
+		}
+	}
+
+	private int reserve(int column, int length) {
+		if (column == 0) {
+			used = 0;
+		} else {
+			ensureColumnCapacity(column);
+		}
+		int offset = used;
+		used += length;
+		if (used > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(used, buffer.length * 2));
+		}
+		offsets[column] = offset;
+		lengths[column] = length;
+		return offset;
+	}
+
+	/**
+	 * Stores the value accumulated by a {@link CharAppender} at the given column position, and resets the appender.
+	 *
+	 * @param column   the column of the value in the record
+	 * @param appender the appender with the characters of the value.
+	 */
+	void set(int column, CharAppender appender) {
+		int length = appender.length();
+		if (length <= 0) {
+			set(column, appender.getAndReset());
+		} else {
+			System.arraycopy(appender.getChars(), 0, buffer, reserve(column, length), length);
+			values[column] = null;
+			appender.reset();
+		}
+	}
+
+	/**
+	 * Stores a value at the given column position
+	 *
+	 * @param column the column of the value in the record
+	 * @param value  the value to store. Can be {@code null}
+	 */
+	void set(int column, String value) {
+		if (value == null) {
+			reserve(column, 0);
+			lengths[column] = -1;
+		} else {
+			int length = value.length();
+			value.getChars(0, length, buffer, reserve(column, length));
+		}
+		values[column] = value;
+	}
+
+	/**
+	 * Marks the values stored so far as a complete record.
+	 *
+	 * @param columns      the number of values stored.
+	 * @param indexes      the columns to expose, in order. If {@code null}, all columns are exposed in the order they were stored.
+	 * @param count        the number of fields exposed by this view.
+	 * @param missingValue the value to return for fields that do not have a corresponding column.
+	 */
+	void complete(int columns, int[] indexes, int count, String missingValue) {
+		this.columns = columns;
+		this.indexes = indexes;
+		this.count = count;
+		this.missingValue = missingValue;
+	}
+
+	/**
+	 * Creates a view over the given values.
+	 *
+	 * @param row the values of a record.
+	 *
+	 * @return a new view exposing the given values.
+	 */
+	public static FieldView of(String... row) {
+		FieldView out = new FieldView(row.length);
+		out.update(row);
+		return out;
+	}
+
+	/**
+	 * Updates this view to expose the given values, discarding the current ones.
+	 *
+	 * @param row the values of a record.
+	 */
+	public void update(String[] row) {
+		ensureColumnCapacity(row.length);
+		for (int i = 0; i < row.length; i++) {
+			set(i, row[i]);
+		}
+		complete(row.length, null, row.length, null);
+	}
+
+	/**
+	 * Creates a compact copy of this view, which remains valid after the parser moves on to the next record. The characters of
+	 * all values of the current record are copied into a single buffer of the exact size required.
+	 *
+	 * @return a copy of this view that is not affected by subsequent records.
+	 */
+	public FieldView copy() {
+		return new FieldView(this);
+	}
+
+	/**
+	 * Copies the values stored so far into an array, as {@code String}s.
+	 *
+	 * @param out     the array to populate
+	 * @param columns the number of values to copy
+	 */
+	void copyTo(String[] out, int columns) {
+		for (int i = 0; i < columns; i++) {
+			out[i] = valueOf(i);
+		}
+	}
+
+	private int column(int field) {
+		if (field < 0 || field >= count) {
+			throw new IndexOutOfBoundsException("Field index " + field + " out of bounds. Number of fields: " + count);
+		}
+		if (indexes == null) {
+			return field < columns ? field : -1;
+		}
+		int column = indexes[field];
+		return column < columns ? column : -1;
+	}
+
+	private String valueOf(int column) {
+		String value = values[column];
+		if (value == null && lengths[column] >= 0) {
+			value = new String(buffer, offsets[column], lengths[column]);
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the number of fields available in the current record.
+	 *
+	 * @return the number of fields in this view.
+	 */
+	public int getFieldCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the buffer that holds the characters of all values in the current record. Use {@link #getOffset(int)} and {@link #getLength(int)}
+	 * to locate the characters of each field. The buffer must not be modified.
+	 *
+	 * @return the character buffer of the current record.
+	 */
+	public char[] getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * Returns the position of the first character of a field in the buffer returned by {@link #getBuffer()}
+	 *
+	 * @param field the index of the field
+	 *
+	 * @return the position of the field in the buffer, or {@code -1} if the field has no corresponding column in the record
+	 */
+	public int getOffset(int field) {
+		int column = column(field);
+		return column == -1 ? -1 : offsets[column];
+	}
+
+	/**
+	 * Returns the number of characters of a field
+	 *
+	 * @param field the index of the field
+	 *
+	 * @return the length of the field, or {@code -1} if its value is {@code null}
+	 */
+	public int getLength(int field) {
+		int column = column(field);
+		if (column == -1) {
+			return missingValue == null ? -1 : missingValue.length();
+		}
+		return lengths[column];
+	}
+
+	/**
+	 * Tests whether the value of a field is {@code null}
+	 *
+	 * @param field the index of the field
+	 *
+	 * @return {@code true} if the value of the field is {@code null}, otherwise {@code false}
+	 */
+	public boolean isNull(int field) {
+		return getLength(field) == -1;
+	}
+
+	/**
+	 * Returns the value of a field as a {@link CharSequence} backed by the buffer of this view, therefore no characters are copied.
+	 * The returned sequence is reused for every record and must not be kept after the record is processed.
+	 *
+	 * @param field the index of the field
+	 *
+	 * @return the characters of the field, or {@code null} if its value is {@code null}
+	 */
+	public CharSequence get(int field) {
+		int column = column(field);
+		if (column == -1) {
+			return missingValue;
+		}
+		if (values[column] != null || lengths[column] < 0) {
+			return values[column];
+		}
+		Field out = fields[column];
+		if (out == null) {
+			out = new Field(column);
+			fields[column] = out;
+		}
+		return out;
+	}
+
+	/**
+	 * Returns a copy of the value of a field as a {@code String}, which can be retained after the record is processed.
+	 *
+	 * @param field the index of the field
+	 *
+	 * @return the value of the field
+	 */
+	public String toString(int field) {
+		int column = column(field);
+		return column == -1 ? missingValue : valueOf(column);
+	}
+
+	/**
+	 * Compares the value of a field against a sequence of characters, without creating a {@code String}
+	 *
+	 * @param field the index of the field
+	 * @param value the characters to compare
+	 *
+	 * @return {@code true} if the field contains the same characters, or if both the field and the given value are {@code null}.
+	 */
+	public boolean contentEquals(int field, CharSequence value) {
+		int column = column(field);
+		if (column == -1 || values[column] != null || lengths[column] < 0) {
+			String v = column == -1 ? missingValue : values[column];
+			return v == null ? value == null : value != null && v.contentEquals(value);
+		}
+		int length = lengths[column];
+		if (value == null || value.length() != length) {
+			return false;
+		}
+		int offset = offsets[column];
+		for (int i = 0; i < length; i++) {
+			if (buffer[offset + i] != value.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the hash code of a field value without creating a {@code String}. The result is the same as the one produced by
+	 * {@link String#hashCode()} for the value of the field.
+	 *
+	 * @param field the index of the field
+	 *
+	 * @return the hash code of the field value, or {@code 0} if the value is {@code null}.
+	 */
+	public int hashCode(int field) {
+		int column = column(field);
+		if (column == -1 || values[column] != null || lengths[column] < 0) {
+			String v = column == -1 ? missingValue : values[column];
+			return v == null ? 0 : v.hashCode();
+		}
+		int h = 0;
+		for (int i = offsets[column], end = i + lengths[column]; i < end; i++) {
+			h = 31 * h + buffer[i];
+		}
+		return h;
+	}
+
+	/**
+	 * Parses the value of a field as an {@code int}, directly from the buffer of this view.
+	 *
+	 * @param field the index of the field
+	 *
+	 * @return the {@code int} value of the field
+	 *
+	 * @throws DataProcessingException if the value of the field is {@code null} or does not represent an {@code int}
+	 */
+	public int getInt(int field) {
+		int column = typedColumn(field, "int");
+		if (column == -1) {
+			try {
+				return Integer.parseInt(missingValue);
+			} catch (NumberFormatException e) {
+				throw conversionError(field, "int");
+			}
+		}
+		return (int) parseLong(field, column, Integer.MIN_VALUE, "int");
+	}
+
+	/**
+	 * Parses the value of a field as a {@code long}, directly from the buffer of this view.
+	 *
+	 * @param field the index of the field
+	 *
+	 * @return the {@code long} value of the field
+	 *
+	 * @throws DataProcessingException if the value of the field is {@code null} or does not represent a {@code long}
+	 */
+	public long getLong(int field) {
+		int column = typedColumn(field, "long");
+		if (column == -1) {
+			try {
+				return Long.parseLong(missingValue);
+			} catch (NumberFormatException e) {
+				throw conversionError(field, "long");
+			}
+		}
+		return parseLong(field, column, Long.MIN_VALUE, "long");
+	}
+
+	/**
+	 * Parses the value of a field as a {@code double}, directly from the buffer of this view. Plain decimal values (such as
+	 * {@code 12.50} or {@code -3e5}) with up to 15 significant digits are computed without creating a {@code String}. Other
+	 * values accepted by {@link Double#parseDouble(String)} are converted with that method.
+	 *
+	 * @param field the index of the field
+	 *
+	 * @return the {@code double} value of the field
+	 *
+	 * @throws DataProcessingException if the value of the field is {@code null} or does not represent a {@code double}
+	 */
+	public double getDouble(int field) {
+		int column = typedColumn(field, "double");
+		String value = column == -1 ? missingValue : null;
+		if (value == null) {
+			int offset = offsets[column];
+			int length = lengths[column];
+			double out = parseDouble(buffer, offset, offset + length);
+			if (out == out) { // NaN is returned when the fast path can't be used
+				return out;
+			}
+			value = new String(buffer, offset, length);
+		}
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			throw conversionError(field, "double");
+		}
+	}
+
+	/**
+	 * Parses the value of a field as a {@link BigDecimal}, directly from the buffer of this view.
+	 *
+	 * @param field the index of the field
+	 *
+	 * @return the {@link BigDecimal} value of the field, or {@code null} if the value of the field is {@code null}.
+	 *
+	 * @throws DataProcessingException if the value of the field does not represent a {@link BigDecimal}
+	 */
+	public BigDecimal getBigDecimal(int field) {
+		int column = column(field);
+		try {
+			if (column == -1) {
+				return missingValue == null ? null : new BigDecimal(missingValue);
+			}
+			int length = lengths[column];
+			return length < 0 ? null : new BigDecimal(buffer, offsets[column], length);
+		} catch (NumberFormatException e) {
+			throw conversionError(field, BigDecimal.class.getName());
+		}
+	}
+
+	private int typedColumn(int field, String type) {
+		int column = column(field);
+		if (column == -1 ? missingValue == null : lengths[column] < 0) {
+			throw conversionError(field, type);
+		}
+		return column;
+	}
+
+	private DataProcessingException conversionError(int field, String type) {
+		String value = toString(field);
+		DataProcessingException exception = new DataProcessingException(value == null ? "Cannot convert null value to " + type : "Cannot convert '{value}' to " + type, field);
+		exception.setValue(value);
+		return exception;
+	}
+
+	private long parseLong(int field, int column, long min, String type) {
+		int i = offsets[column];
+		int end = i + lengths[column];
+		boolean negative = false;
+		if (i < end) {
+			char ch = buffer[i];
+			if (ch == '-') {
+				negative = true;
+				i++;
+			} else if (ch == '+') {
+				i++;
+			}
+		}
+		if (i == end) {
+			throw conversionError(field, type);
+		}
+
+		// accumulates negatively as the negative range is larger
+		long limit = negative ? min : min + 1;
+		long maxBeforeMultiplication = limit / 10;
+		long out = 0;
+		for (; i < end; i++) {
+			int digit = buffer[i] - '0';
+			if (digit < 0 || digit > 9 || out < maxBeforeMultiplication) {
+				throw conversionError(field, type);
+			}
+			out *= 10;
+			if (out < limit + digit) {
+				throw conversionError(field, type);
+			}
+			out -= digit;
+		}
+		return negative ? out : -out;
+	}
+
+	/**
+	 * Parses a plain decimal number. The result is exact as long as the significant digits fit into a {@code double} without
+	 * rounding, and the power of ten applied to them is also exact.
+	 *
+	 * @return the parsed value, or {@code NaN} if the value must be parsed with {@link Double#parseDouble(String)}.
+	 */
+	private static double parseDouble(char[] chars, int i, int end) {
+		boolean negative = false;
+		if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+			negative = chars[i] == '-';
+			i++;
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int significantDigits = 0;
+		int scale = 0;
+		boolean decimalPoint = false;
+		for (; i < end; i++) {
+			char ch = chars[i];
+			if (ch >= '0' && ch <= '9') {
+				digits++;
+				if (mantissa != 0 || ch != '0') {
+					if (++significantDigits > 15) {
+						return Double.NaN;
+					}
+				}
+				mantissa = mantissa * 10 + (ch - '0');
+				if (decimalPoint) {
+					scale++;
+				}
+			} else if (ch == '.' && !decimalPoint) {
+				decimalPoint = true;
+			} else {
+				break;
+			}
+		}
+		if (digits == 0) {
+			return Double.NaN;
+		}
+
+		int exponent = 0;
+		if (i < end) {
+			char ch = chars[i++];
+			if ((ch != 'e' && ch != 'E') || i == end) {
+				return Double.NaN;
+			}
+			boolean negativeExponent = false;
+			if (chars[i] == '-' || chars[i] == '+') {
+				negativeExponent = chars[i] == '-';
+				if (++i == end) {
+					return Double.NaN;
+				}
+			}
+			for (; i < end; i++) {
+				ch = chars[i];
+				if (ch < '0' || ch > '9' || exponent > 1000) {
+					return Double.NaN;
+				}
+				exponent = exponent * 10 + (ch - '0');
+			}
+			if (negativeExponent) {
+				exponent = -exponent;
+			}
+		}
+
+		exponent -= scale;
+		double out = mantissa;
+		if (exponent < 0) {
+			if (exponent < -22) {
+				return mantissa == 0 ? (negative ? -0.0 : 0.0) : Double.NaN;
+			}
+			out /= POWERS_OF_TEN[-exponent];
+		} else if (exponent > 0) {
+			if (exponent > 22) {
+				return mantissa == 0 ? (negative ? -0.0 : 0.0) : Double.NaN;
+			}
+			out *= POWERS_OF_TEN[exponent];
+		}
+		return negative ? -out : out;
+	}
+
+	/**
+	 * Returns a copy of all values in this view as a {@code String} array, as it would be produced by the parser.
+	 *
+	 * @return the values of the current record.
+	 */
+	public String[] toArray() {
+		String[] out = new String[count];
+		for (int i = 0; i < count; i++) {
+			out[i] = toString(i);
+		}
+		return out;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	private final class Field implements CharSequence {
+		private final int column;
+
+		Field(int column) {
+			this.column = column;
+		}
+
+		@Override
+		public int length() {
+			return lengths[column];
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= lengths[column]) {
+				throw new IndexOutOfBoundsException("Index " + index + " out of bounds. Length: " + lengths[column]);
+			}
+			return buffer[offsets[column] + index];
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return toString().substring(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return valueOf(column);
+		}
+	}
+}
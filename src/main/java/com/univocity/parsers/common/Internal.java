@@ -15,6 +15,7 @@
  */
 package com.univocity.parsers.common;
 
+import com.univocity.parsers.common.processor.*;
 import com.univocity.parsers.common.processor.core.*;
 
 import java.util.*;
@@ -58,6 +59,22 @@ class Internal {
 		}
 	}
 
+	public static final void process(FieldView fields, FieldViewProcessor processor, ParsingContext context, ProcessorErrorHandler<ParsingContext> errorHandler) {
+		try {
+			processor.rowProcessed(fields, context);
+		} catch (DataProcessingException ex) {
+			ex.setContext(context);
+			ex.setErrorContentLength(context.errorContentLength());
+			if (ex.isFatal()) {
+				throw ex;
+			}
+			ex.markAsHandled(errorHandler);
+			errorHandler.handleError(ex, fields.toArray(), context);
+		} catch (Throwable t) {
+			throwDataProcessingException(processor, t, fields.toArray(), context.errorContentLength());
+		}
+	}
+
 	private static final void throwDataProcessingException(Processor processor, Throwable t, String[] row, int errorContentLength) throws DataProcessingException {
 		DataProcessingException ex = new DataProcessingException("Unexpected error processing input row "
 				+ AbstractException.restrictContent(errorContentLength, Arrays.toString(row))
@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.processor.core.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Base class for splitting a file into byte ranges that start at record boundaries and parsing these ranges concurrently, each one with its
+ * own parser. The rows parsed from each range are made available through the {@link Iterator} interface, either in the order
+ * they appear in the file, or in the order the ranges finish parsing.
+ *
+ * <p> Implementations only need to identify where the records of each range start, and to create the parser of each range.
+ * Ranges are read with positional reads from a single {@link FileChannel}, so multiple ranges can be read at the same time.
+ *
+ * @param <T> the type of settings used by the parser of each range.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractParser#processParsedRows(Iterator)
+ */
+public abstract class ParallelFileParser<T extends CommonParserSettings<?>> implements Iterator<String[]> {
+
+	private final File file;
+	private final Charset encoding;
+	private final FileChannel channel;
+	private final long size;
+	private final int threads;
+	private final boolean preserveOrder;
+
+	private ExecutorService executor;
+	private CompletionService<List<String[]>> completionService;
+	private final Deque<Future<List<String[]>>> pending = new ArrayDeque<Future<List<String[]>>>();
+	private int running;
+
+	private T firstRangeSettings;
+	private T rangeSettings;
+	private long[] boundaries;
+	private int nextRange;
+
+	private Iterator<String[]> rows = Collections.<String[]>emptyList().iterator();
+	private volatile boolean stopped;
+
+	/**
+	 * Opens a file for parallel parsing.
+	 *
+	 * @param file          the file to be parsed
+	 * @param encoding      the encoding of the file. If {@code null}, UTF-8 will be used if the file starts with a UTF-8 Byte Order Mark (BOM),
+	 *                      otherwise the default charset will be used.
+	 * @param threads       the number of threads used to parse the file
+	 * @param preserveOrder flag indicating whether rows must be returned in the same order they appear in the file.
+	 */
+	protected ParallelFileParser(File file, Charset encoding, int threads, boolean preserveOrder) {
+		if (file == null) {
+			throw new IllegalArgumentException("File must not be null");
+		}
+		if (threads < 1) {
+			throw new IllegalArgumentException("Number of threads must be at least 1. Got " + threads);
+		}
+		this.file = file;
+		this.threads = threads;
+		this.preserveOrder = preserveOrder;
+		try {
+			this.channel = new RandomAccessFile(file, "r").getChannel();
+			this.size = channel.size();
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException(e);
+		} catch (IOException e) {
+			throw new IllegalStateException("Error opening file '" + file.getAbsolutePath() + "'", e);
+		}
+		this.encoding = encoding == null ? detectEncoding() : encoding;
+	}
+
+	private Charset detectEncoding() {
+		byte[] bom = new byte[3];
+		if (read(bom, 0, 3, 0L) == 3 && bom[0] == (byte) 0xEF && bom[1] == (byte) 0xBB && bom[2] == (byte) 0xBF) {
+			return Charset.forName("UTF-8");
+		}
+		return Charset.defaultCharset();
+	}
+
+	/**
+	 * Returns the encoding used to read the file.
+	 *
+	 * @return the encoding of the input file.
+	 */
+	public final Charset getEncoding() {
+		return encoding;
+	}
+
+	/**
+	 * Returns the size of the file, in bytes.
+	 *
+	 * @return the size of the input file.
+	 */
+	protected final long size() {
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of threads parsing the file at the same time.
+	 *
+	 * @return the number of threads used to parse the file.
+	 */
+	protected final int threads() {
+		return threads;
+	}
+
+	/**
+	 * Returns the executor that runs the tasks submitted by this class. Only available once the ranges of the file are being identified.
+	 *
+	 * @return the executor of the parallel parsing process.
+	 */
+	protected final ExecutorService executor() {
+		return executor;
+	}
+
+	/**
+	 * Indicates whether the parsing process has been stopped, in which case any work in progress should be abandoned.
+	 *
+	 * @return {@code true} if the parsing process has been stopped, otherwise {@code false}
+	 */
+	protected final boolean isStopped() {
+		return stopped;
+	}
+
+	/**
+	 * Creates an input stream that reads all bytes of the file.
+	 *
+	 * @return a new input stream over the entire file.
+	 */
+	public final InputStream newInputStream() {
+		return new ByteRangeInputStream(channel, 0L, size);
+	}
+
+	/**
+	 * Creates an input stream that reads a range of bytes of the file. Closing the input stream doesn't close the file.
+	 *
+	 * @param start the position of the first byte to read.
+	 * @param end   the position after the last byte to read.
+	 *
+	 * @return a new input stream over the given range of the file.
+	 */
+	protected final InputStream newInputStream(long start, long end) {
+		return new ByteRangeInputStream(channel, start, end);
+	}
+
+	/**
+	 * Defines the configuration used to parse the ranges of the file. Ranges will only be identified and parsed once rows are requested from
+	 * this iterator.
+	 *
+	 * @param settings the configuration used to parse the file. Must not require any format detection.
+	 * @param headers  the headers extracted from the first record of the file, if header extraction is enabled.
+	 */
+	@SuppressWarnings("unchecked")
+	public final void initialize(T settings, String[] headers) {
+		firstRangeSettings = (T) settings.clone();
+		firstRangeSettings.setProcessor(NoopProcessor.instance);
+		firstRangeSettings.setNumberOfRecordsToRead(-1);
+		firstRangeSettings.setReadInputOnSeparateThread(false);
+		firstRangeSettings.setRowReuseEnabled(false);
+
+		rangeSettings = (T) firstRangeSettings.clone();
+		rangeSettings.setNumberOfRowsToSkip(0);
+		if (settings.isHeaderExtractionEnabled()) {
+			rangeSettings.setHeaderExtractionEnabled(false);
+			if (headers != null) {
+				rangeSettings.setHeaders(headers);
+			}
+		}
+	}
+
+	private void start() {
+		executor = firstRangeSettings.getExecutorService();
+		completionService = new ExecutorCompletionService<List<String[]>>(executor);
+
+		boundaries = findRecordBoundaries(firstRangeSettings);
+		submitRanges();
+	}
+
+	/**
+	 * Identifies the ranges of the file to be parsed separately.
+	 *
+	 * @param settings the configuration used to parse the file.
+	 *
+	 * @return the positions where each range starts, in ascending order, starting with {@code 0} and followed by the size of the file.
+	 */
+	protected abstract long[] findRecordBoundaries(T settings);
+
+	/**
+	 * Creates the parser of a range of the file.
+	 *
+	 * @param settings the configuration of the parser.
+	 *
+	 * @return a new parser for a range of the file.
+	 */
+	protected abstract AbstractParser<T> newParser(T settings);
+
+	/**
+	 * Waits for the result of a task submitted to the {@link #executor()}, rethrowing any error that prevented the task from completing.
+	 *
+	 * @param future the task whose result is required.
+	 * @param <V>    the type of result of the task.
+	 *
+	 * @return the result of the task.
+	 */
+	protected final <V> V get(Future<V> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Thread interrupted while parsing '" + file.getAbsolutePath() + "' in parallel", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException("Error parsing '" + file.getAbsolutePath() + "' in parallel", cause);
+		}
+	}
+
+	private void submitRanges() {
+		while (running < threads && pending.size() < threads * 2 && submitNextRange()) {
+			running++;
+		}
+	}
+
+	private Future<List<String[]>> takeCompleted() {
+		try {
+			Future<List<String[]>> out = completionService.take();
+			running--;
+			return out;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Thread interrupted while parsing '" + file.getAbsolutePath() + "' in parallel", e);
+		}
+	}
+
+	private boolean submitNextRange() {
+		if (nextRange >= boundaries.length - 1) {
+			return false;
+		}
+		final long start = boundaries[nextRange];
+		final long end = boundaries[nextRange + 1];
+		final T settings = nextRange == 0 ? firstRangeSettings : rangeSettings;
+		nextRange++;
+
+		pending.add(completionService.submit(new Callable<List<String[]>>() {
+			@Override
+			public List<String[]> call() {
+				AbstractParser<T> parser = newParser(settings);
+				parser.beginParsing(new ByteRangeInputStream(channel, start, end), encoding);
+				List<String[]> out = new ArrayList<String[]>();
+				String[] row;
+				while (!stopped && (row = parser.parseNext()) != null) {
+					out.add(row);
+				}
+				if (stopped) {
+					parser.stopParsing();
+				}
+				return out;
+			}
+		}));
+		return true;
+	}
+
+	private List<String[]> nextBatch() {
+		Future<List<String[]>> next;
+		if (preserveOrder) {
+			next = pending.poll();
+			// keeps the threads busy with the following ranges while waiting for the next range in order.
+			while (!next.isDone()) {
+				takeCompleted();
+				submitRanges();
+			}
+			while (completionService.poll() != null) {
+				running--;
+			}
+		} else {
+			next = takeCompleted();
+			pending.remove(next);
+		}
+		List<String[]> out = get(next);
+		submitRanges();
+		return out;
+	}
+
+	@Override
+	public final boolean hasNext() {
+		if (completionService == null) {
+			start();
+		}
+		while (!rows.hasNext()) {
+			if (pending.isEmpty()) {
+				return false;
+			}
+			rows = nextBatch().iterator();
+		}
+		return true;
+	}
+
+	@Override
+	public final String[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return rows.next();
+	}
+
+	@Override
+	public final void remove() {
+		throw new UnsupportedOperationException("Can't remove rows parsed from a file");
+	}
+
+	/**
+	 * Stops all tasks in progress and closes the file.
+	 */
+	public final void close() {
+		stopped = true;
+		try {
+			for (Future<List<String[]>> task : pending) {
+				task.cancel(false);
+			}
+		} finally {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				throw new IllegalStateException("Error closing input", e);
+			}
+		}
+	}
+
+	/**
+	 * Reads bytes of the file from a given position, without affecting other reads in progress.
+	 *
+	 * @param bytes    the array to store the bytes read
+	 * @param offset   the position in the array where the first byte read should be stored
+	 * @param length   the maximum number of bytes to read
+	 * @param position the position of the file from where bytes will be read
+	 *
+	 * @return the number of bytes read, or {@code -1} if the given position is at the end of the file.
+	 */
+	protected final int read(byte[] bytes, int offset, int length, long position) {
+		return ByteRangeInputStream.read(channel, bytes, offset, length, position);
+	}
+}
@@ -60,6 +60,8 @@ public class ParserOutput {
 	protected final CommonParserSettings<?> settings;
 	private final boolean skipEmptyLines;
 	private final String nullValue;
+	private final boolean rowReuseEnabled;
+	private String[] reusableRow;
 
 	/**
 	 * <p>The appender available to parsers for accumulating characters read from the input.
@@ -77,12 +79,22 @@ public class ParserOutput {
 	private String[] headerStrings;
 	private NormalizedString[] headers;
 	private int[] selectedIndexes;
+	private int columnsToParse = -1;
 
 	private long currentRecord;
 
 	public boolean trim = false;
 	public final Deque<String[]> pendingRecords = new LinkedList<String[]>();
 
+	/**
+	 * State of this output when the current record started, restored by {@link #discardRecord()}.
+	 */
+	private int recordStartColumn;
+	private String[] recordStartValues;
+	private int recordStartPendingRecords;
+	private long recordStartCount;
+	private boolean recordStartColumnsInitialized;
+
 	/**
 	 * Headers parsed from the input when {@link CommonParserSettings#headerExtractionEnabled} is {@code true},
 	 * irrespective of any user-provided headers in {@link CommonParserSettings#getHeaders()}
@@ -91,6 +103,18 @@ public class ParserOutput {
 
 	private final AbstractParser<?> parser;
 
+	/**
+	 * View over the values of the current record. When not {@code null}, parsed values are not converted to {@code String}.
+	 */
+	private FieldView fieldView;
+	private FieldView fieldViewInstance;
+
+	/**
+	 * Tables of values used to deduplicate the values of each column, as selected with {@link CommonParserSettings#deduplicateFields(String...)}.
+	 * Columns whose values are not deduplicated have a {@code null} entry.
+	 */
+	private StringPool[] pools;
+
 	/**
 	 * Initializes the ParserOutput with the configuration specified in {@link CommonParserSettings}
 	 *
@@ -116,21 +140,39 @@ public class ParserOutput {
 		this.settings = settings;
 		this.skipEmptyLines = settings.getSkipEmptyLines();
 		this.nullValue = settings.getNullValue();
+		this.rowReuseEnabled = settings.isRowReuseEnabled();
 		this.columnsToExtractInitialized = false;
 		this.currentRecord = 0;
+		keepWhitespacesOfHeaders();
+		if (settings.getHeaders() != null) {
+			initializeHeaders();
+		}
+		this.columnReorderingEnabledSetting = settings.isColumnReorderingEnabled();
+	}
+
+	private void keepWhitespacesOfHeaders() {
 		if (settings.isHeaderExtractionEnabled() && parser != null) {
 			parser.ignoreTrailingWhitespace = false;
 			parser.ignoreLeadingWhitespace = false;
 		}
-		if (settings.getHeaders() != null) {
-			initializeHeaders();
+	}
+
+	/**
+	 * Allows the {@link #appender} to collect values by referring to the characters in the buffer of the given input
+	 * instead of copying them one by one.
+	 *
+	 * @param input the input the parser is reading from.
+	 */
+	final void deferCopiesFrom(CharInputReader input) {
+		if (appenderInstance instanceof DefaultCharAppender) {
+			((DefaultCharAppender) appenderInstance).enableDeferredCopy(input instanceof AbstractCharInputReader ? (AbstractCharInputReader) input : null);
 		}
-		this.columnReorderingEnabledSetting = settings.isColumnReorderingEnabled();
 	}
 
 	protected void initializeHeaders() {
 		columnsReordered = false;
 		selectedIndexes = null;
+		columnsToParse = -1;
 		this.appender = appenderInstance;
 		Arrays.fill(appenders, appender);
 
@@ -175,6 +217,28 @@ public class ParserOutput {
 
 		columnsToExtractInitialized = true;
 		initializeColumnsToExtract(headers);
+		initializeDeduplication(headers);
+	}
+
+	private void initializeDeduplication(NormalizedString[] headers) {
+		StringPool[] previous = pools;
+		pools = null;
+		FieldSelector selector = settings.getDeduplicatedFields();
+		if (selector != null) {
+			int[] indexes = selector.getFieldIndexes(headers);
+			if (indexes != null) {
+				for (int index : indexes) {
+					if (index >= 0 && index < parsedValues.length) {
+						if (pools == null) {
+							pools = new StringPool[parsedValues.length];
+						}
+						if (pools[index] == null) {
+							pools[index] = previous != null && previous[index] != null ? previous[index] : new StringPool(settings.getDeduplicationCacheSize());
+						}
+					}
+				}
+			}
+		}
 	}
 
 	/**
@@ -186,6 +250,9 @@ public class ParserOutput {
 		if (!pendingRecords.isEmpty()) {
 			return pendingRecords.poll();
 		}
+		if (fieldView != null && column > 0) {
+			fieldView.copyTo(parsedValues, column);
+		}
 		// some values were parsed. Let's return them
 		if (column > 0) {
 			// identifies selected columns and headers (in the first non-empty row)
@@ -216,7 +283,7 @@ public class ParserOutput {
 					column = 0;
 					return ArgumentUtils.EMPTY_STRING_ARRAY;
 				}
-				String[] reorderedValues = new String[selectedIndexes.length];
+				String[] reorderedValues = newRow(selectedIndexes.length);
 				for (int i = 0; i < selectedIndexes.length; i++) {
 					int index = selectedIndexes[i];
 					if (index >= column || index == -1) {
@@ -231,8 +298,11 @@ public class ParserOutput {
 			} else {
 				int last = columnReorderingEnabledSetting ? column : column < headers.length ? headers.length : column;
 
-				String[] out = new String[last];
+				String[] out = newRow(last);
 				System.arraycopy(parsedValues, 0, out, 0, column);
+				if (rowReuseEnabled && column < last) {
+					Arrays.fill(out, column, last, null);
+				}
 				column = 0;
 				this.appender = appenders[0];
 				return out;
@@ -259,6 +329,105 @@ public class ParserOutput {
 		return null;
 	}
 
+	/**
+	 * Returns an array to hold the values of a record. If {@link CommonParserSettings#isRowReuseEnabled()} evaluates to {@code true},
+	 * the array returned for the previous record is returned again if it has the given length.
+	 *
+	 * @param length the number of values in the record
+	 *
+	 * @return an array of the given length.
+	 */
+	private String[] newRow(int length) {
+		if (!rowReuseEnabled) {
+			return new String[length];
+		}
+		if (reusableRow == null || reusableRow.length != length) {
+			reusableRow = new String[length];
+		}
+		return reusableRow;
+	}
+
+	/**
+	 * Returns a copy of a row produced by {@link #rowParsed()} that can be retained after the next record is parsed, which is
+	 * required if {@link CommonParserSettings#isRowReuseEnabled()} evaluates to {@code true}.
+	 *
+	 * @param row a row produced by {@link #rowParsed()}
+	 *
+	 * @return a row whose array is not reused by this output, or {@code null} if the given row is {@code null}.
+	 */
+	public final String[] retain(String[] row) {
+		return rowReuseEnabled && row != null && row == reusableRow ? row.clone() : row;
+	}
+
+	/**
+	 * Enables or disables the collection of parsed values into a {@link FieldView}, which avoids creating a {@code String} for each value.
+	 * When enabled, records should be obtained with {@link #fieldsParsed()}. Calls to {@link #rowParsed()} are still supported.
+	 *
+	 * @param enabled flag indicating whether values should be collected into a {@link FieldView}
+	 */
+	final void setFieldViewEnabled(boolean enabled) {
+		if (enabled) {
+			if (fieldViewInstance == null) {
+				fieldViewInstance = new FieldView(parsedValues.length);
+			}
+			fieldView = fieldViewInstance;
+		} else {
+			fieldView = null;
+		}
+	}
+
+	/**
+	 * Indicates whether the values of any column are deduplicated, as configured with {@link CommonParserSettings#deduplicateFields(String...)}.
+	 *
+	 * @return {@code true} if values of at least one column are deduplicated.
+	 */
+	final boolean isDeduplicating() {
+		return pools != null;
+	}
+
+	/**
+	 * Indicates whether the characters of the value of the current column should be accumulated in the {@link #appender} and
+	 * handed over via {@link #valueParsed()}, instead of being converted into a {@code String} by the parser. This is the case
+	 * when values are collected into a {@link FieldView}, or when the values of the current column are deduplicated.
+	 *
+	 * @return {@code true} if the parser should avoid creating a {@code String} for the value of the current column.
+	 */
+	public final boolean isCollectingCharacters() {
+		return fieldView != null || pools != null && column < pools.length && pools[column] != null;
+	}
+
+	/**
+	 * Gets a view over all values parsed for the current record. Requires the field view to be enabled with {@link #setFieldViewEnabled(boolean)}.
+	 *
+	 * @return a view over the values of the current record, or {@code null} if no record is available (as in {@link #rowParsed()}).
+	 */
+	final FieldView fieldsParsed() {
+		if (!pendingRecords.isEmpty()) {
+			// the field view holds the values of the record still being parsed, so pending records get a view of their own
+			String[] row = pendingRecords.poll();
+			return row == null ? null : FieldView.of(row);
+		}
+		if (column == 0 || !columnsToExtractInitialized) {
+			String[] row = rowParsed();
+			if (row == null) {
+				return null;
+			}
+			fieldView.update(row);
+			return fieldView;
+		}
+
+		currentRecord++;
+		if (columnsReordered) {
+			fieldView.complete(column, selectedIndexes, selectedIndexes.length, nullValue);
+		} else {
+			int last = columnReorderingEnabledSetting ? column : column < headers.length ? headers.length : column;
+			fieldView.complete(column, null, last, null);
+		}
+		column = 0;
+		this.appender = appenders[0];
+		return fieldView;
+	}
+
 	FieldSelector getFieldSelector() {
 		return settings.getFieldSelector();
 	}
@@ -284,6 +453,14 @@ public class ParserOutput {
 				}
 
 				columnsReordered = settings.isColumnReorderingEnabled();
+				if (columnsReordered) {
+					columnsToParse = 1;
+					for (int i = 0; i < selectedIndexes.length; i++) {
+						if (selectedIndexes[i] >= columnsToParse) {
+							columnsToParse = selectedIndexes[i] + 1;
+						}
+					}
+				}
 
 				int length = values == null ? selectedIndexes.length : values.length;
 
@@ -326,6 +503,18 @@ public class ParserOutput {
 		return this.selectedIndexes;
 	}
 
+	/**
+	 * Returns the number of columns of each record that must be parsed to produce the selected fields, i.e. the position
+	 * of the last selected field plus one. Values of any subsequent column are discarded by this output and can be skipped by the
+	 * parser.
+	 *
+	 * @return the number of leading columns of a record that are required, or {@code -1} if all columns are required, which is the case when
+	 * no fields were selected, column reordering is disabled or the selected fields have not been identified yet.
+	 */
+	public final int getColumnsToParse() {
+		return columnsToExtractInitialized ? columnsToParse : -1;
+	}
+
 	/**
 	 * Indicates whether fields selected using the field selection methods (in {@link CommonSettings}) are being reordered.
 	 *
@@ -349,6 +538,11 @@ public class ParserOutput {
 	 * Adds a nullValue (as specified in {@link CommonSettings#getNullValue()}) to the output and prepares the next position in the record to receive more values.
 	 */
 	public void emptyParsed() {
+		if (fieldView != null) {
+			fieldView.set(column++, nullValue);
+			this.appender = appenders[column];
+			return;
+		}
 		this.parsedValues[column++] = nullValue;
 		this.appender = appenders[column];
 	}
@@ -360,6 +554,22 @@ public class ParserOutput {
 		if (trim) {
 			appender.updateWhitespace();
 		}
+		if (fieldView != null) {
+			fieldView.set(column++, appender);
+			this.appender = appenders[column];
+			return;
+		}
+		if (pools != null && pools[column] != null) {
+			int length = appender.length();
+			if (length > 0) {
+				this.parsedValues[column] = pools[column].get(appender.getChars(), 0, length);
+				appender.reset();
+			} else {
+				this.parsedValues[column] = appender.getAndReset();
+			}
+			this.appender = appenders[++column];
+			return;
+		}
 		this.parsedValues[column++] = appender.getAndReset();
 		this.appender = appenders[column];
 	}
@@ -370,6 +580,14 @@ public class ParserOutput {
 	 * @param value the value to be added to the current record position.
 	 */
 	public void valueParsed(String value) {
+		if (fieldView != null) {
+			fieldView.set(column++, value);
+			this.appender = appenders[column];
+			return;
+		}
+		if (pools != null && pools[column] != null) {
+			value = pools[column].get(value);
+		}
 		this.parsedValues[column++] = value;
 		this.appender = appenders[column];
 	}
@@ -383,6 +601,13 @@ public class ParserOutput {
 		return currentRecord;
 	}
 
+	/**
+	 * Updates the current record index to account for a record parsed by another parser and handed over to the parser of this output.
+	 */
+	final void externalRecordParsed() {
+		currentRecord++;
+	}
+
 	/**
 	 * Discards the values parsed so far
 	 */
@@ -391,6 +616,73 @@ public class ParserOutput {
 		this.appender = appenders[0];
 	}
 
+	/**
+	 * Marks the start of a record, so that it can be discarded with {@link #discardRecord()} and parsed again.
+	 */
+	final void markRecordStart() {
+		recordStartColumn = column;
+		if (column > 0) {
+			// values of a record that continues after records queued in pendingRecords were emitted
+			recordStartValues = new String[column];
+			if (fieldView != null) {
+				fieldView.copyTo(recordStartValues, column);
+			} else {
+				System.arraycopy(parsedValues, 0, recordStartValues, 0, column);
+			}
+		}
+		recordStartPendingRecords = pendingRecords.size();
+		recordStartCount = currentRecord;
+		recordStartColumnsInitialized = columnsToExtractInitialized;
+	}
+
+	/**
+	 * Discards the values parsed since the last call to {@link #markRecordStart()}, along with any characters collected for the value
+	 * being parsed and any records queued in {@link #pendingRecords} meanwhile, so the current record can be parsed again.
+	 */
+	final void discardRecord() {
+		for (int i = 0, last = Math.max(column, recordStartColumn); i <= last && i < appenders.length; i++) {
+			appenders[i].reset();
+		}
+		while (pendingRecords.size() > recordStartPendingRecords) {
+			pendingRecords.removeLast();
+		}
+		currentRecord = recordStartCount;
+		if (columnsToExtractInitialized && !recordStartColumnsInitialized) {
+			// headers and selected columns are initialized again when the record is parsed again
+			columnsToExtractInitialized = false;
+			Arrays.fill(appenders, appenderInstance);
+			keepWhitespacesOfHeaders();
+		}
+		for (int i = 0; i < recordStartColumn; i++) {
+			if (fieldView != null) {
+				fieldView.set(i, recordStartValues[i]);
+			} else {
+				parsedValues[i] = recordStartValues[i];
+			}
+		}
+		column = recordStartColumn;
+		this.appender = appenders[column];
+	}
+
+	/**
+	 * Prepares this output to continue a parsing process from a {@link ParsingCheckpoint}, with the headers and the number of records
+	 * parsed before it.
+	 *
+	 * @param checkpoint the checkpoint from where parsing resumes.
+	 */
+	final void resume(ParsingCheckpoint checkpoint) {
+		String[] parsedHeaders = checkpoint.getHeaders();
+		if (parsedHeaders != null) {
+			// initializes the headers as if they had just been parsed from the input
+			System.arraycopy(parsedHeaders, 0, parsedValues, 0, parsedHeaders.length);
+			column = parsedHeaders.length;
+			initializeHeaders();
+			Arrays.fill(parsedValues, 0, parsedHeaders.length, null);
+			discardValues();
+		}
+		currentRecord = checkpoint.getRecordCount();
+	}
+
 	/**
 	 * Resets the parser output and prepares for a new parsing process.
 	 */
@@ -400,5 +692,8 @@ public class ParserOutput {
 		this.column = 0;
 		this.headers = null;
 		this.headerStrings = null;
+		this.fieldView = null;
+		//fields selected by position can be deduplicated before headers are known.
+		initializeDeduplication(NormalizedString.toIdentifierGroupArray(settings.getHeaders()));
 	}
 }
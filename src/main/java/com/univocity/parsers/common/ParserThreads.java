@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Provides the {@link ExecutorService} used by default to run the background tasks of this library, such as reading the input on a separate
+ * thread (see {@link CommonParserSettings#setReadInputOnSeparateThread(boolean)}) or processing rows with a
+ * {@link com.univocity.parsers.common.processor.ConcurrentRowProcessor}.
+ *
+ * <p> The shared executor keeps a pool of daemon threads that are reused among parsing processes, so parsing many small inputs does not require
+ * creating and destroying threads for each one of them. New threads are created on demand, and threads that remain idle for a minute are
+ * discarded.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see CommonParserSettings#setExecutorService(ExecutorService)
+ */
+public final class ParserThreads {
+
+	private static final ExecutorService sharedExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new ThreadFactory() {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, "unVocity-parsers background thread-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}) {
+		@Override
+		public void shutdown() {
+			throw new UnsupportedOperationException("The shared executor of unVocity-parsers can't be shut down");
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			throw new UnsupportedOperationException("The shared executor of unVocity-parsers can't be shut down");
+		}
+	};
+
+	private ParserThreads() {
+	}
+
+	/**
+	 * Returns the {@link ExecutorService} shared by all parsers and processors that were not given an {@link ExecutorService} explicitly.
+	 * The returned executor must not be shut down.
+	 *
+	 * @return the executor service shared library-wide to run background tasks.
+	 */
+	public static ExecutorService getSharedExecutor() {
+		return sharedExecutor;
+	}
+}
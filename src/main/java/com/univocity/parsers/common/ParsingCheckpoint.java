@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import java.io.*;
+
+/**
+ * A position of the input at the start of a record, from where a parsing process can be resumed with
+ * {@link AbstractParser#beginParsing(File, java.nio.charset.Charset, ParsingCheckpoint)} and similar methods, e.g. after the failure of a long running process.
+ *
+ * <p> Besides the position itself, a checkpoint holds everything the parser learned from the input before that position and would not be able to learn again
+ * from there: the headers extracted from the input, and the format detected automatically, if any. The record, line and character numbers reported by the
+ * {@link ParsingContext} of the resumed process continue from the ones of the checkpoint.
+ *
+ * <p> Checkpoints are obtained with {@link AbstractParser#checkpoint()}, and can be serialized to be stored along with the results of the parsing process.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractParser#checkpoint()
+ */
+public final class ParsingCheckpoint implements Serializable {
+
+	private static final long serialVersionUID = -6482915072651304827L;
+
+	private final long byteOffset;
+	private final long charOffset;
+	private final long line;
+	private final long record;
+	private final String[] headers;
+	private final Format format;
+
+	ParsingCheckpoint(long byteOffset, long charOffset, long line, long record, String[] headers, Format format) {
+		this.byteOffset = byteOffset;
+		this.charOffset = charOffset;
+		this.line = line;
+		this.record = record;
+		this.headers = headers == null ? null : headers.clone();
+		this.format = format;
+	}
+
+	/**
+	 * Returns the position of the first byte of the next record in the input. Only available if the parser was reading bytes and decoding them
+	 * itself, i.e. when parsing a {@link java.nio.channels.ReadableByteChannel}, a {@link java.nio.ByteBuffer}, or when
+	 * {@link CommonParserSettings#isDirectDecodingEnabled()} or {@link CommonParserSettings#isMemoryMappedInputEnabled()} evaluate to {@code true}.
+	 *
+	 * @return the byte offset of the next record, or {@code -1} if unknown, in which case the input must be resumed from the character offset.
+	 */
+	public long getByteOffset() {
+		return byteOffset;
+	}
+
+	/**
+	 * Returns the position of the first character of the next record in the input, as given by {@link ParsingContext#currentChar()}.
+	 *
+	 * @return the character offset of the next record.
+	 */
+	public long getCharOffset() {
+		return charOffset;
+	}
+
+	/**
+	 * Returns the number of lines read from the input up to the next record, as given by {@link ParsingContext#currentLine()}.
+	 *
+	 * @return the line count at the start of the next record.
+	 */
+	public long getLine() {
+		return line;
+	}
+
+	/**
+	 * Returns the number of records parsed before the checkpoint, as given by {@link ParsingContext#currentRecord()}.
+	 *
+	 * @return the number of records already parsed.
+	 */
+	public long getRecordCount() {
+		return record;
+	}
+
+	/**
+	 * Returns the headers extracted from the input before the checkpoint, if {@link CommonParserSettings#isHeaderExtractionEnabled()} evaluates to {@code true}.
+	 *
+	 * @return a copy of the headers parsed from the input, or {@code null} if no headers were extracted.
+	 */
+	public String[] getHeaders() {
+		return headers == null ? null : headers.clone();
+	}
+
+	/**
+	 * Returns the format detected automatically from the input before the checkpoint, as given by {@link AbstractParser#getDetectedFormat()}.
+	 *
+	 * @return a copy of the detected format, or {@code null} if no format detection was enabled.
+	 */
+	public Format getFormat() {
+		return format == null ? null : format.clone();
+	}
+
+	@Override
+	public String toString() {
+		return "ParsingCheckpoint{byteOffset=" + byteOffset + ", charOffset=" + charOffset + ", line=" + line + ", record=" + record + '}';
+	}
+}
@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+/**
+ * Identifies where records start in the bytes of an input, so that a split of the input (i.e. a range of bytes) can be parsed independently
+ * of the others, as done by {@link AbstractParser#beginParsing(SeekableByteChannel, Charset, long, long)}.
+ *
+ * <p> By default, every line separator ends a record. Parsers of formats where values may contain line separators provide a subclass that tracks the
+ * state of the parser byte by byte, through {@link #getStateCount()}, {@link #nextState(int, byte)}, {@link #isRecordEnd(int, byte)} and
+ * {@link #isInsideValue(int)}, so that line separators within values are not mistaken for the end of a record. The state {@code 0} is the state at the
+ * start of a record.
+ *
+ * <p> The input must be encoded with a charset in which the line separator and any other character tracked by a subclass are represented by a single
+ * byte that never appears as part of other characters, such as UTF-8, US-ASCII or ISO-8859-1.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see SplitResynchronization
+ */
+public class RecordBoundaryScanner {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Charset encoding;
+	protected final byte newLine;
+
+	/**
+	 * Creates a scanner that identifies where records start in an input with the given encoding.
+	 *
+	 * @param encoding      the encoding of the input.
+	 * @param lineSeparator the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}. Only its last
+	 *                      character is used to identify the end of a record.
+	 */
+	public RecordBoundaryScanner(Charset encoding, char[] lineSeparator) {
+		if (encoding == null) {
+			throw new IllegalArgumentException("Encoding must not be null");
+		}
+		this.encoding = encoding;
+		this.newLine = toByte(lineSeparator[lineSeparator.length - 1], "line separator");
+	}
+
+	/**
+	 * Returns the byte that represents the given character in the encoding of the input.
+	 *
+	 * @param ch          the character to convert
+	 * @param description a description of the character, used in the error message if it is not represented by a single byte.
+	 *
+	 * @return the byte that represents the given character.
+	 */
+	protected final byte toByte(char ch, String description) {
+		byte[] bytes = String.valueOf(ch).getBytes(encoding);
+		if (bytes.length != 1 || bytes[0] != (byte) ch) {
+			throw new IllegalArgumentException("Cannot split input encoded in " + encoding + ": the " + description + " character '" + ch + "' is not represented by a single byte");
+		}
+		return bytes[0];
+	}
+
+	/**
+	 * Returns the number of states tracked while scanning the input. Defaults to {@code 1}, as every line separator ends a record.
+	 *
+	 * @return the number of possible states of the parser.
+	 */
+	protected int getStateCount() {
+		return 1;
+	}
+
+	/**
+	 * Returns the state of the parser after the given byte is read.
+	 *
+	 * @param state the state before the byte is read.
+	 * @param ch    the byte read.
+	 *
+	 * @return the state after the byte is read.
+	 */
+	protected int nextState(int state, byte ch) {
+		return 0;
+	}
+
+	/**
+	 * Indicates whether the given byte ends a record if it is read in the given state.
+	 *
+	 * @param state the state before the byte is read.
+	 * @param ch    the byte read.
+	 *
+	 * @return {@code true} if the next record starts after the given byte.
+	 */
+	protected boolean isRecordEnd(int state, byte ch) {
+		return ch == newLine;
+	}
+
+	/**
+	 * Indicates whether the given state is within a value that may contain line separators, such as a quoted value.
+	 *
+	 * @param state the state of the parser.
+	 *
+	 * @return {@code true} if a line separator found in the given state may belong to a value.
+	 */
+	protected boolean isInsideValue(int state) {
+		return false;
+	}
+
+	/**
+	 * Finds the position of the first record that starts at or after the given position of the input.
+	 *
+	 * @param channel           the input.
+	 * @param size              the number of bytes of the input.
+	 * @param position          the position from where the first record should be searched for.
+	 * @param strategy          the strategy used to find the start of a record, as described in {@link SplitResynchronization}.
+	 * @param maxCharsPerColumn the maximum number of characters of a value, as defined by {@link CommonSettings#getMaxCharsPerColumn()}, used by the
+	 *                          {@link SplitResynchronization#SPECULATIVE} strategy to discard states that would produce longer values.
+	 *
+	 * @return the position of the first byte of the first record found, or the given size if no record starts after the given position.
+	 */
+	public final long findRecordStart(SeekableByteChannel channel, long size, long position, SplitResynchronization strategy, int maxCharsPerColumn) {
+		if (position <= 0L) {
+			return 0L;
+		}
+		if (position >= size) {
+			return size;
+		}
+		int states = getStateCount();
+		if (strategy == SplitResynchronization.LINE_SEPARATOR || states == 1) {
+			return scan(channel, size, position - 1, position, null, -1L);
+		} else if (strategy == SplitResynchronization.FROM_START) {
+			return scan(channel, size, 0L, position, new int[]{0}, -1L);
+		}
+		int[] hypotheses = new int[states];
+		for (int s = 0; s < states; s++) {
+			hypotheses[s] = s;
+		}
+		// each character of a value takes no more than the maximum number of bytes per character, except for escape sequences such as "",
+		// which take two single byte characters to produce one.
+		long maxValueLength = -1L;
+		if (maxCharsPerColumn > 0) {
+			maxValueLength = (long) maxCharsPerColumn * ((long) Math.ceil(encoding.newEncoder().maxBytesPerChar()) + 1L);
+		}
+		return scan(channel, size, position - 1, position, hypotheses, maxValueLength);
+	}
+
+	/**
+	 * Scans the input until a byte at or after the given position ends a record in every state that is still possible.
+	 *
+	 * @param channel        the input.
+	 * @param size           the number of bytes of the input.
+	 * @param from           the position of the first byte to scan.
+	 * @param position       the earliest position of the record to be found.
+	 * @param hypotheses     the possible states of the parser at the first byte scanned, or {@code null} if every line separator ends a record.
+	 * @param maxValueLength the maximum number of bytes of a value. States that remain inside a value for more bytes than that are discarded.
+	 *                       Not applied if negative.
+	 *
+	 * @return the position of the first byte of the record found, or the given size if no record starts after the given position.
+	 */
+	private long scan(SeekableByteChannel channel, long size, long from, long position, int[] hypotheses, long maxValueLength) {
+		int count = hypotheses == null ? 0 : hypotheses.length;
+		// a state is discarded based on how long it has been inside the current value, rather than on where the scan started, so that the position
+		// found never decreases when the scan starts further ahead. This keeps adjacent splits from overlapping.
+		long[] valueLength = new long[count];
+
+		InputStream input = new ByteRangeInputStream(channel, from, size);
+		byte[] bytes = new byte[(int) Math.min(BUFFER_SIZE, size - from)];
+		long offset = from;
+		int length;
+		try {
+			while ((length = input.read(bytes, 0, bytes.length)) > 0) {
+				for (int i = 0; i < length; i++) {
+					byte ch = bytes[i];
+					boolean recordEnd = offset + i + 1 >= position;
+					if (hypotheses == null) {
+						if (recordEnd && ch == newLine) {
+							return offset + i + 1;
+						}
+						continue;
+					}
+					for (int h = 0; h < count; h++) {
+						recordEnd &= isRecordEnd(hypotheses[h], ch);
+						hypotheses[h] = nextState(hypotheses[h], ch);
+						if (!isInsideValue(hypotheses[h])) {
+							valueLength[h] = 0;
+						} else if (++valueLength[h] > maxValueLength && maxValueLength >= 0) {
+							count--;
+							hypotheses[h] = hypotheses[count];
+							valueLength[h] = valueLength[count];
+							h--;
+						}
+					}
+					if (recordEnd) {
+						return offset + i + 1;
+					}
+				}
+				offset += length;
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+		return size;
+	}
+
+	/**
+	 * Finds the position of the first data record of the input, after the given number of lines to skip and, optionally, the record with the headers.
+	 * Comment lines and empty lines before the headers are skipped as well.
+	 *
+	 * @param channel     the input.
+	 * @param size        the number of bytes of the input.
+	 * @param linesToSkip the number of lines to skip from the start of the input, as defined by {@link CommonParserSettings#getNumberOfRowsToSkip()}.
+	 * @param skipHeaders flag indicating whether the first record after the lines to skip contains the headers and must be skipped.
+	 * @param comment     the character that starts a comment line, or {@code '\0'} if comments are not processed.
+	 *
+	 * @return the position of the first byte after the skipped lines and the headers.
+	 */
+	public final long findDataStart(SeekableByteChannel channel, long size, long linesToSkip, boolean skipHeaders, char comment) {
+		byte[] commentBytes = String.valueOf(comment).getBytes(encoding);
+		byte commentByte = comment == '\0' || commentBytes.length != 1 ? 0 : commentBytes[0];
+		InputStream input = new BufferedInputStream(new ByteRangeInputStream(channel, 0L, size), BUFFER_SIZE);
+		long position = 0L;
+		int state = 0;
+		boolean recordStart = true;
+		boolean blank = true;
+		boolean inComment = false;
+		int ch;
+		try {
+			while ((ch = input.read()) != -1) {
+				byte b = (byte) ch;
+				position++;
+				if (linesToSkip > 0) {
+					if (b == newLine) {
+						linesToSkip--;
+					}
+					continue;
+				}
+				if (!skipHeaders) {
+					return position - 1;
+				}
+				if (recordStart) {
+					recordStart = false;
+					inComment = commentByte != 0 && b == commentByte;
+				}
+				if (inComment ? b == newLine : isRecordEnd(state, b)) {
+					if (!blank && !inComment) {
+						return position;
+					}
+					state = 0;
+					recordStart = true;
+					blank = true;
+					continue;
+				}
+				state = nextState(state, b);
+				blank &= ch <= ' ';
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+		return size;
+	}
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A sparse index of the positions of the records of an input, with the byte offset of one record out of every {@link #getInterval()} records.
+ * Used to seek directly to any record of a large input with {@link AbstractParser#beginParsing(File, java.nio.charset.Charset, RecordOffsetIndex, long)},
+ * or to parse a page of records with {@link AbstractParser#parseAll(File, java.nio.charset.Charset, RecordOffsetIndex, long, int)}, instead of parsing
+ * every record that precedes it.
+ *
+ * <p> Indexes are built with {@code indexRecords} of {@link com.univocity.parsers.common.routine.AbstractRoutines}, which parses the whole input once,
+ * and can be stored in a sidecar file with {@link #write(File)} to be loaded again with {@link #read(File)}. An index is only valid for the input it was built
+ * from, parsed with the same configuration, and can't be used after the input is modified.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see ParsingCheckpoint
+ */
+public final class RecordOffsetIndex implements Serializable {
+
+	private static final long serialVersionUID = 3140657436018862107L;
+
+	private final long inputLength;
+	private final int interval;
+	private final long recordCount;
+	private final String[] headers;
+	private final Format format;
+	private final long[] byteOffsets;
+	private final long[] charOffsets;
+	private final long[] lines;
+
+	/**
+	 * Creates an index from the checkpoints taken while parsing an input.
+	 *
+	 * @param inputLength the length of the input, in bytes.
+	 * @param interval    the number of records between two consecutive checkpoints.
+	 * @param recordCount the total number of records of the input.
+	 * @param checkpoints the checkpoints taken before the first record, and after every {@code interval} records. All checkpoints must have a byte offset.
+	 */
+	public RecordOffsetIndex(long inputLength, int interval, long recordCount, List<ParsingCheckpoint> checkpoints) {
+		if (interval <= 0) {
+			throw new IllegalArgumentException("Interval between indexed records must be positive");
+		}
+		if (checkpoints == null || checkpoints.isEmpty()) {
+			throw new IllegalArgumentException("Checkpoints must not be null or empty");
+		}
+		this.inputLength = inputLength;
+		this.interval = interval;
+		this.recordCount = recordCount;
+
+		ParsingCheckpoint first = checkpoints.get(0);
+		this.headers = first.getHeaders();
+		this.format = first.getFormat();
+
+		int count = checkpoints.size();
+		byteOffsets = new long[count];
+		charOffsets = new long[count];
+		lines = new long[count];
+		for (int i = 0; i < count; i++) {
+			ParsingCheckpoint checkpoint = checkpoints.get(i);
+			if (checkpoint.getRecordCount() != (long) i * interval) {
+				throw new IllegalArgumentException("Checkpoint " + i + " must be taken after " + ((long) i * interval) + " records. Got " + checkpoint);
+			}
+			if (checkpoint.getByteOffset() < 0) {
+				throw new IllegalArgumentException("Checkpoint " + i + " has no byte offset. Records can only be indexed while parsing a channel, a ByteBuffer, or with direct decoding enabled");
+			}
+			byteOffsets[i] = checkpoint.getByteOffset();
+			charOffsets[i] = checkpoint.getCharOffset();
+			lines[i] = checkpoint.getLine();
+		}
+	}
+
+	/**
+	 * Returns the checkpoint of the closest indexed record at or before a given record, from where parsing can resume to reach that record.
+	 *
+	 * @param record the zero-based position of a record, not counting headers.
+	 *
+	 * @return a checkpoint at the start of the record, or at most {@link #getInterval()} records before it.
+	 */
+	public ParsingCheckpoint getCheckpoint(long record) {
+		if (record < 0) {
+			throw new IllegalArgumentException("Record position must not be negative");
+		}
+		int i = (int) Math.min(record / interval, byteOffsets.length - 1);
+		return new ParsingCheckpoint(byteOffsets[i], charOffsets[i], lines[i], (long) i * interval, headers, format);
+	}
+
+	/**
+	 * Returns the length of the indexed input, in bytes, used to reject an index that does not match the input being parsed.
+	 *
+	 * @return the length of the input when it was indexed.
+	 */
+	public long getInputLength() {
+		return inputLength;
+	}
+
+	/**
+	 * Returns the number of records between two consecutive indexed records, i.e. the maximum number of records parsed and discarded
+	 * to reach any record of the input.
+	 *
+	 * @return the interval between indexed records.
+	 */
+	public int getInterval() {
+		return interval;
+	}
+
+	/**
+	 * Returns the total number of records of the indexed input, not counting headers.
+	 *
+	 * @return the number of records of the input.
+	 */
+	public long getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * Returns the headers extracted from the input, if {@link CommonParserSettings#isHeaderExtractionEnabled()} evaluated to {@code true} while indexing.
+	 *
+	 * @return a copy of the headers of the input, or {@code null} if no headers were extracted.
+	 */
+	public String[] getHeaders() {
+		return headers == null ? null : headers.clone();
+	}
+
+	/**
+	 * Writes this index to a sidecar file.
+	 *
+	 * @param file the file to write the index into.
+	 */
+	public void write(File file) {
+		try {
+			write(new FileOutputStream(file));
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException("Unable to write record offset index to file '" + file.getAbsolutePath() + "'", e);
+		}
+	}
+
+	/**
+	 * Writes this index to an output stream. The stream is closed after the index is written.
+	 *
+	 * @param output the output to write the index into.
+	 */
+	public void write(OutputStream output) {
+		try {
+			ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(output));
+			try {
+				out.writeObject(this);
+			} finally {
+				out.close();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error writing record offset index", e);
+		}
+	}
+
+	/**
+	 * Reads an index from a sidecar file written with {@link #write(File)}.
+	 *
+	 * @param file the file that contains the index.
+	 *
+	 * @return the index read from the file.
+	 */
+	public static RecordOffsetIndex read(File file) {
+		try {
+			return read(new FileInputStream(file));
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException("Unable to read record offset index from file '" + file.getAbsolutePath() + "'", e);
+		}
+	}
+
+	/**
+	 * Reads an index from an input stream written with {@link #write(OutputStream)}. The stream is closed after the index is read.
+	 *
+	 * @param input the input that contains the index.
+	 *
+	 * @return the index read from the input.
+	 */
+	public static RecordOffsetIndex read(InputStream input) {
+		try {
+			ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(input));
+			try {
+				return (RecordOffsetIndex) in.readObject();
+			} finally {
+				in.close();
+			}
+		} catch (Exception e) {
+			throw new IllegalStateException("Error reading record offset index", e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "RecordOffsetIndex{records=" + recordCount + ", interval=" + interval + ", entries=" + byteOffsets.length + ", inputLength=" + inputLength + '}';
+	}
+}
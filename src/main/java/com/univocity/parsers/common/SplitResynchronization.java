@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+/**
+ * This enumeration is used to determine how the parser finds the first record of a split of the input, when only the records that start
+ * within a range of bytes are parsed with {@link AbstractParser#beginParsing(java.nio.channels.SeekableByteChannel, java.nio.charset.Charset, long, long)}.
+ *
+ * <p> The same strategy is used to find where the last record of a split ends, so adjacent splits parsed with the same strategy never parse
+ * the same record twice, nor skip any record. Strategies only differ when values may contain line separators, i.e. quoted values in CSV:
+ * parsers of formats where line separators always end a record behave as {@link #LINE_SEPARATOR} with every strategy.
+ *
+ * <p> Use {@link CommonParserSettings#setSplitResynchronization(SplitResynchronization)} to configure the strategy.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractParser#beginParsing(java.nio.channels.SeekableByteChannel, java.nio.charset.Charset, long, long)
+ * @see CommonParserSettings#getSplitResynchronization()
+ */
+public enum SplitResynchronization {
+
+	/**
+	 * The first record of a split starts right after the first line separator found from the start of the split, as done by line-based
+	 * record readers of distributed processing frameworks. Only the bytes up to that line separator are read, but line separators inside values
+	 * (such as quoted values that span multiple lines) are mistaken for the end of a record.
+	 */
+	LINE_SEPARATOR,
+
+	/**
+	 * The bytes from the start of the split are scanned assuming every possible state of the parser at that point, e.g. inside or outside a quoted
+	 * value. The first record of the split starts after the first line separator that ends a record in all of these states. Assumptions that would
+	 * require a value longer than {@link CommonParserSettings#getMaxCharsPerColumn()} are discarded, so the scan stops shortly after the start of the split
+	 * even if the input has no quoted values. If the maximum number of characters per column is unlimited, the scan may read up to the end of the input.
+	 */
+	SPECULATIVE,
+
+	/**
+	 * The state of the parser is tracked from the beginning of the input, so the first record of the split is always found precisely. Every byte before the
+	 * split is read.
+	 */
+	FROM_START
+}
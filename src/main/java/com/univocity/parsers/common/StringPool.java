@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+/**
+ * A small, bounded table of {@code String}s used to deduplicate values of low cardinality columns. A {@code String} is
+ * only created when a sequence of characters is not already present in the table. When a new value is stored, it replaces
+ * whatever value occupied its position in the table, so the table never grows.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see CommonParserSettings#deduplicateFields(String...)
+ */
+final class StringPool {
+
+	/**
+	 * Longer values are unlikely to repeat, and comparing them would cost more than creating a new {@code String}.
+	 */
+	static final int MAX_VALUE_LENGTH = 64;
+
+	private final String[] values;
+	private final int[] hashes;
+	private final int mask;
+
+	/**
+	 * Creates a table of strings.
+	 *
+	 * @param size the maximum number of values to hold. Rounded up to the next power of two.
+	 */
+	StringPool(int size) {
+		int capacity = Integer.highestOneBit(Math.max(size, 2) - 1) << 1;
+		values = new String[capacity];
+		hashes = new int[capacity];
+		mask = capacity - 1;
+	}
+
+	private static int slot(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Returns a {@code String} with the given characters, reusing a previously created instance if possible.
+	 *
+	 * @param chars  the characters of the value
+	 * @param offset position of the first character of the value
+	 * @param length the number of characters of the value
+	 *
+	 * @return a {@code String} with the given characters.
+	 */
+	String get(char[] chars, int offset, int length) {
+		if (length > MAX_VALUE_LENGTH) {
+			return new String(chars, offset, length);
+		}
+		int hash = 0;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			hash = 31 * hash + chars[i];
+		}
+		int slot = slot(hash) & mask;
+		String value = values[slot];
+		if (value != null && hashes[slot] == hash && value.length() == length) {
+			int i = 0;
+			while (i < length && value.charAt(i) == chars[offset + i]) {
+				i++;
+			}
+			if (i == length) {
+				return value;
+			}
+		}
+		value = new String(chars, offset, length);
+		values[slot] = value;
+		hashes[slot] = hash;
+		return value;
+	}
+
+	/**
+	 * Returns a previously stored {@code String} equal to the given value, or stores the given value if none is found.
+	 *
+	 * @param value the value to deduplicate
+	 *
+	 * @return the stored instance of the given value.
+	 */
+	String get(String value) {
+		if (value == null || value.length() > MAX_VALUE_LENGTH) {
+			return value;
+		}
+		int hash = value.hashCode();
+		int slot = slot(hash) & mask;
+		String existing = values[slot];
+		if (existing != null && hashes[slot] == hash && existing.equals(value)) {
+			return existing;
+		}
+		values[slot] = value;
+		hashes[slot] = hash;
+		return value;
+	}
+}
@@ -18,6 +18,8 @@ package com.univocity.parsers.common.input;
 import com.univocity.parsers.common.*;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
 import java.util.*;
 
 /**
@@ -46,6 +48,14 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 	private long lineCount;
 	private long charCount;
 	private int recordStart;
+	private long recordLineCount;
+	private long initialLineCount;
+	private long initialByteCount;
+
+	private char[] byteCountBuffer;
+	private long byteCountDecoded;
+	private int byteCountIndex;
+	private long byteCountPending;
 	final int whitespaceRangeStart;
 	private boolean skipping = false;
 	private boolean commentProcessing = false;
@@ -68,6 +78,8 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 	 */
 	public int length = -1;
 	private boolean incrementLineCount;
+	private boolean inputExhausted;
+	DefaultCharAppender deferredAppender; // appender that may refer to characters in the buffer, which must be copied before it is reloaded
 	private boolean normalizeLineEndings = true;
 
 	/**
@@ -171,7 +183,8 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		}
 		stop();
 		setReader(reader);
-		lineCount = 0;
+		lineCount = initialLineCount;
+		inputExhausted = false;
 
 		lineSeparatorDetected = false;
 		submitLineSeparatorDetector();
@@ -199,8 +212,17 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		if (!commentProcessing && length - recordStart > 0 && buffer != null && !skipping) {
 			tmp.append(buffer, recordStart, length - recordStart);
 		}
+		if (deferredAppender != null) {
+			deferredAppender.copyDeferred();
+		}
+		if (inputExhausted) {
+			//end of input already reached while looking ahead for input analysis. The reader may have been closed already.
+			inputExhausted = false;
+			length = -1;
+		} else {
+			reloadBuffer();
+		}
 		recordStart = 0;
-		reloadBuffer();
 
 		charCount += i;
 		i = 0;
@@ -230,6 +252,7 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 				} else {
 					buffer = tmp;
 					length = tmpLength;
+					inputExhausted = true;
 				}
 			}
 			try {
@@ -430,6 +453,123 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 	public final void markRecordStart() {
 		tmp.reset();
 		recordStart = i % length;
+		recordLineCount = lineCount;
+	}
+
+	/**
+	 * Moves the position of this reader back to the start of the current record, as marked by {@link #markRecordStart()}, so that
+	 * the record can be read again from the beginning. Characters of the buffer that precede the record are discarded.
+	 * Requires all characters of the record to be in the buffer, i.e. {@link #reloadBuffer()} must not have replaced the buffer since the
+	 * record started.
+	 */
+	final void rewindToRecordStart() {
+		if (recordStart > 0) {
+			System.arraycopy(buffer, recordStart, buffer, 0, length - recordStart);
+			length -= recordStart;
+			charCount += recordStart;
+			recordStart = 0;
+		}
+		i = 0;
+		ch = '\0';
+		lineCount = recordLineCount;
+		tmp.reset();
+		skipping = false;
+		normalizeLineEndings = true;
+	}
+
+	/**
+	 * Indicates whether any {@link InputAnalysisProcess} is still waiting to analyze the first batch of characters of the input.
+	 *
+	 * @return {@code true} if the first buffer loaded from the input will be analyzed, otherwise {@code false}
+	 */
+	final boolean isInputAnalysisPending() {
+		return inputAnalysisProcesses != null;
+	}
+
+	/**
+	 * Defines the position of the first character of the input, for inputs that continue from a position of a previous input, such as a
+	 * parsing process resumed from a {@link ParsingCheckpoint}. Must be called before {@link #start(Reader)}.
+	 *
+	 * @param charCount the number of characters that precede the input, added to the values returned by {@link #charCount()}.
+	 * @param lineCount the number of lines that precede the input, added to the values returned by {@link #lineCount()}.
+	 * @param byteCount the number of bytes that precede the input, added to the values returned by {@link #byteCount()}.
+	 */
+	public final void setInitialPosition(long charCount, long lineCount, long byteCount) {
+		this.charCount = charCount;
+		this.initialLineCount = lineCount;
+		this.initialByteCount = byteCount;
+	}
+
+	/**
+	 * Returns the number of bytes of the input that precede the current position, i.e. the byte offset of the next character to be read.
+	 * Only available from readers that decode the bytes of the input themselves.
+	 *
+	 * @return the number of bytes consumed so far, or {@code -1} if unknown.
+	 */
+	public long byteCount() {
+		return -1L;
+	}
+
+	/**
+	 * Computes the value of {@link #byteCount()} from the number of bytes decoded into the characters loaded so far, by discounting the encoded length
+	 * of the characters of the buffer that have not been consumed yet. Successive calls while reading the same buffer only encode the characters
+	 * consumed in between.
+	 *
+	 * @param bytesDecoded the number of bytes decoded into all characters loaded so far, up to the last character of the buffer.
+	 * @param encoding     the encoding of the input.
+	 *
+	 * @return the number of bytes consumed so far.
+	 */
+	protected final long byteCount(long bytesDecoded, Charset encoding) {
+		long pending = 0L;
+		if (length > 0 && i < length) {
+			if (byteCountBuffer == buffer && byteCountDecoded == bytesDecoded && byteCountIndex <= i) {
+				pending = byteCountPending - encodedLength(encoding, buffer, byteCountIndex, i);
+			} else {
+				pending = encodedLength(encoding, buffer, i, length);
+			}
+			byteCountBuffer = buffer;
+			byteCountDecoded = bytesDecoded;
+			byteCountIndex = i;
+			byteCountPending = pending;
+		}
+		return initialByteCount + bytesDecoded - pending;
+	}
+
+	private static long encodedLength(Charset encoding, char[] chars, int from, int to) {
+		String name = encoding.name();
+		if ("UTF-8".equals(name)) {
+			long out = 0L;
+			for (int k = from; k < to; k++) {
+				char c = chars[k];
+				if (c < 0x80) {
+					out++;
+				} else if (c < 0x800) {
+					out += 2;
+				} else if (Character.isHighSurrogate(c) && k + 1 < to && Character.isLowSurrogate(chars[k + 1])) {
+					out += 4;
+					k++;
+				} else {
+					out += 3;
+				}
+			}
+			return out;
+		} else if ("ISO-8859-1".equals(name) || "US-ASCII".equals(name)) {
+			return to - from;
+		}
+
+		// encoders of UTF-16 and UTF-32 write a byte order mark, while the ones with an explicit byte order don't.
+		if ("UTF-16".equals(name)) {
+			encoding = Charset.forName("UTF-16BE");
+		} else if ("UTF-32".equals(name)) {
+			encoding = Charset.forName("UTF-32BE");
+		}
+		try {
+			CharsetEncoder encoder = encoding.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+			return encoder.encode(CharBuffer.wrap(chars, from, to - from)).remaining();
+		} catch (CharacterCodingException e) {
+			throw new IllegalStateException("Unable to encode characters in " + encoding, e);
+		}
 	}
 
 	@Override
@@ -456,6 +596,15 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 
 	@Override
 	public final String getString(char ch, char stop, boolean trim, String nullValue, int maxLength) {
+		return collectString(ch, stop, trim, nullValue, maxLength, null);
+	}
+
+	@Override
+	public final boolean appendString(char ch, char stop, boolean trim, int maxLength, CharAppender appender) {
+		return collectString(ch, stop, trim, null, maxLength, appender) != null;
+	}
+
+	private String collectString(char ch, char stop, boolean trim, String nullValue, int maxLength, CharAppender appender) {
 		if (i == 0) {
 			return null;
 		}
@@ -486,7 +635,12 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		}
 
 		String out;
-		if (len <= 0) {
+		if (appender != null) {
+			if (len > 0) {
+				appender.append(buffer, pos, len);
+			}
+			out = "";
+		} else if (len <= 0) {
 			out = nullValue;
 		} else {
 			out = new String(buffer, pos, len);
@@ -497,8 +651,76 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		return out;
 	}
 
+	@Override
+	public final char appendUntil(char ch, CharAppender appender, char stop1, char stop2, char stop3) {
+		while (ch != stop1 && ch != stop2 && ch != stop3) {
+			appender.append(ch);
+
+			//stops before the last character of the buffer so nextChar() can load more characters when needed.
+			int start = this.i;
+			int end = length - 1;
+			int i = start;
+			while (i < end) {
+				char c = buffer[i];
+				if (c == stop1 || c == stop2 || c == stop3 || c == lineSeparator1) { //line separators are handled by nextChar()
+					break;
+				}
+				i++;
+			}
+			if (i > start) {
+				appender.append(buffer, start, i - start);
+				this.i = i;
+				ch = buffer[i - 1];
+			}
+
+			try {
+				ch = nextChar();
+			} catch (EOFException e) {
+				this.ch = ch; //the last character appended
+				throw e;
+			}
+		}
+		return ch;
+	}
+
+	/**
+	 * Consumes a sequence of characters that starts with the current character, without reading them one by one, if the entire sequence is
+	 * available in the {@link #buffer} and contains no line separators. The last character of the sequence becomes the current character,
+	 * and the next call to {@link #nextChar()} will return the character that follows the sequence.
+	 *
+	 * @param count the number of characters in the sequence, including the current character.
+	 *
+	 * @return the position of the first character of the sequence in the {@link #buffer}, or {@code -1} if the sequence can't be consumed
+	 * at once, in which case nothing is consumed.
+	 */
+	public final int consumeSequence(int count) {
+		int start = i - 1;
+		int end = start + count;
+		if (start < 0 || end >= length || ch == lineSeparator1 || ch == normalizedLineSeparator) {
+			return -1;
+		}
+		for (int i = start + 1; i < end; i++) {
+			char c = buffer[i];
+			if (c == lineSeparator1 || c == normalizedLineSeparator) {
+				return -1;
+			}
+		}
+		this.i = end;
+		ch = buffer[end - 1];
+		return start;
+	}
+
 	@Override
 	public final String getQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing) {
+		return collectQuotedString(quote, escape, escapeEscape, maxLength, stop1, stop2, keepQuotes, keepEscape, trimLeading, trimTrailing, null);
+	}
+
+	@Override
+	public final boolean appendQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing, CharAppender appender) {
+		return collectQuotedString(quote, escape, escapeEscape, maxLength, stop1, stop2, keepQuotes, keepEscape, trimLeading, trimTrailing, appender) != null;
+	}
+
+	private String collectQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing, CharAppender appender) {
 		if (i == 0) {
 			return null;
 		}
@@ -567,6 +789,9 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		String out;
 		if (len <= 0) {
 			out = "";
+		} else if (appender != null) {
+			appender.append(buffer, pos, len);
+			out = "";
 		} else {
 			out = new String(buffer, pos, len);
 		}
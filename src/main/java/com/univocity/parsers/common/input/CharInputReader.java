@@ -155,6 +155,24 @@ public interface CharInputReader extends CharInput {
 	 */
 	String getString(char ch, char stop, boolean trim, String nullValue, int maxLength);
 
+	/**
+	 * Works like {@link #getString(char, char, boolean, String, int)}, but instead of creating a {@code String}, the characters found on the
+	 * input are appended to the given {@link CharAppender}. Nothing is appended if the content is empty.
+	 *
+	 * <p> By default, {@code false} is returned and nothing is consumed, so that the parser collects the characters one by one.
+	 *
+	 * @param ch        the current character to be considered.
+	 * @param stop      the stop character that identifies the end of the content to be collected
+	 * @param trim      flag indicating whether or not trailing whitespaces should be discarded
+	 * @param maxLength the maximum length of the content to be collected. If the length exceeds this limit, {@code false} will be returned
+	 * @param appender  the appender that will receive the characters collected from the input
+	 *
+	 * @return {@code true} if the content was collected, or {@code false} if the buffer needs to reloaded or the maximum length has been exceeded.
+	 */
+	default boolean appendString(char ch, char stop, boolean trim, int maxLength, CharAppender appender) {
+		return false;
+	}
+
 	/**
 	 * Attempts to skip a {@code String} from the current position until a stop character is found on the input,
 	 * or a line ending is reached. If the {@code String} can be skipped, the current position of the parser will be updated to
@@ -188,6 +206,54 @@ public interface CharInputReader extends CharInput {
 	 */
 	String getQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing);
 
+	/**
+	 * Works like {@link #getQuotedString(char, char, char, int, char, char, boolean, boolean, boolean, boolean)}, but instead of creating
+	 * a {@code String}, the characters found on the input are appended to the given {@link CharAppender}. Nothing is appended if the
+	 * content is empty.
+	 *
+	 * <p> By default, {@code false} is returned and nothing is consumed, so that the parser collects the characters one by one.
+	 *
+	 * @param quote the quote character
+	 * @param escape the quote escape character
+	 * @param escapeEscape the escape of the quote escape character
+	 * @param maxLength the maximum length of the content to be collected. If the length exceeds this limit, {@code false} will be returned
+	 * @param stop1 the first stop character that identifies the end of the content to be collected
+	 * @param stop2 the second stop character that identifies the end of the content to be collected
+	 * @param keepQuotes flag to indicate the quotes that wrap the resulting content should be kept.
+	 * @param keepEscape flag to indicate that escape sequences should be kept
+	 * @param trimLeading flag to indicate leading whitespaces should be trimmed
+	 * @param trimTrailing flag to indicate that trailing whitespaces should be trimmed
+	 * @param appender the appender that will receive the characters collected from the input
+	 * @return {@code true} if the content was collected, or {@code false} if the buffer needs to reloaded or the maximum length has been exceeded.
+	 */
+	default boolean appendQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing, CharAppender appender) {
+		return false;
+	}
+
+	/**
+	 * Appends characters from the input to the given {@link CharAppender}, until one of the stop characters is found. Works like
+	 * {@link CharAppender#appendUntil(char, CharInput, char, char, char)}, but sequences of characters available in the
+	 * internal buffer are copied to the appender at once instead of one character at a time.
+	 *
+	 * <p> If the end of the input is reached, every character read has already been appended when the {@link EOFException}
+	 * is thrown, and {@link #getChar()} returns the last character appended. The character given in {@code ch} may no longer
+	 * be the current character at that point, so callers must read it again from {@link #getChar()}.
+	 *
+	 * <p> By default, the characters are collected one by one through {@link CharAppender#appendUntil(char, CharInput, char, char, char)},
+	 * and {@link #getChar()} returns what {@link #nextChar()} left in it once the end of the input was reached.
+	 *
+	 * @param ch the first character of the input to be appended.
+	 * @param appender the appender that will receive the characters collected from the input
+	 * @param stop1 the first stop character
+	 * @param stop2 the second stop character
+	 * @param stop3 the third stop character
+	 *
+	 * @return one of the stop characters found on the input.
+	 */
+	default char appendUntil(char ch, CharAppender appender, char stop1, char stop2, char stop3) {
+		return appender.appendUntil(ch, this, stop1, stop2, stop3);
+	}
+
 	/**
 	 * Attempts to skip a quoted {@code String} from the current position until a stop character is found on the input,
 	 * or a line ending is reached. If the {@code String} can be skipped, the current position of the parser will be updated to
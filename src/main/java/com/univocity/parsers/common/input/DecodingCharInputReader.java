@@ -0,0 +1,429 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.common.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+/**
+ * A {@link CharInputReader} that reads raw bytes from an {@link InputStream}, a {@link ReadableByteChannel} or a {@link ByteBuffer}, and decodes them
+ * directly into the {@link AbstractCharInputReader#buffer}, without going through a {@link InputStreamReader}.
+ *
+ * <p> Inputs encoded with the ASCII compatible charsets US-ASCII, ISO-8859-1 and UTF-8 are decoded by a single loop that widens each byte into a
+ * character. For UTF-8, only runs of non-ASCII bytes are handed over to a {@link CharsetDecoder}. Any other charset is decoded in bulk by its
+ * {@link CharsetDecoder}.
+ *
+ * <p> Bytes of a {@link ByteBuffer} backed by an accessible array are decoded straight from that array. Bytes of any other buffer, such as a direct
+ * {@link ByteBuffer}, are copied in bulk to an internal array before being decoded.
+ *
+ * <p> The {@link Reader} given to {@link #start(Reader)} is ignored as bytes are always read from the input provided in the constructor.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see CommonParserSettings#setDirectDecodingEnabled(boolean)
+ */
+public class DecodingCharInputReader extends AbstractCharInputReader {
+
+	private static final int OTHER = 0;
+	private static final int ISO_8859_1 = 1;
+	private static final int US_ASCII = 2;
+	private static final int UTF_8 = 3;
+
+	private final InputStream input;
+	private final ReadableByteChannel channel;
+	private final ByteBuffer source;
+	private final Charset encoding;
+
+	private ByteBuffer bytes;
+	private byte[] b;
+	private ByteBuffer run;
+	private CharBuffer chars;
+	private CharsetDecoder decoder;
+	private Charset decodedCharset;
+	private long bytesRead;
+	private int charset;
+	private boolean endOfInput;
+	private boolean flushed;
+	private boolean started;
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently. Line separators will be detected automatically.
+	 *
+	 * @param input                   the input stream to be read
+	 * @param encoding                the encoding of the input. If {@code null}, the encoding will be determined from the input's Byte Order Mark (BOM),
+	 *                                or the default charset will be used if no BOM is present.
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop             indicates whether to automatically close the input when {@link #stop()} is called
+	 */
+	public DecodingCharInputReader(InputStream input, Charset encoding, char normalizedLineSeparator, int bufferSize, int whitespaceRangeStart, boolean closeOnStop) {
+		this(input, encoding, null, normalizedLineSeparator, bufferSize, whitespaceRangeStart, closeOnStop);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently.
+	 *
+	 * @param input                   the input stream to be read
+	 * @param encoding                the encoding of the input. If {@code null}, the encoding will be determined from the input's Byte Order Mark (BOM),
+	 *                                or the default charset will be used if no BOM is present.
+	 * @param lineSeparator           the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop             indicates whether to automatically close the input when {@link #stop()} is called
+	 */
+	public DecodingCharInputReader(InputStream input, Charset encoding, char[] lineSeparator, char normalizedLineSeparator, int bufferSize, int whitespaceRangeStart, boolean closeOnStop) {
+		this(input, null, null, encoding, lineSeparator, normalizedLineSeparator, bufferSize, whitespaceRangeStart, closeOnStop);
+		if (input == null) {
+			throw new IllegalArgumentException("Input stream must not be null");
+		}
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently. Line separators will be detected automatically.
+	 *
+	 * @param channel                 the channel to be read. Must be a blocking channel.
+	 * @param encoding                the encoding of the input. If {@code null}, the encoding will be determined from the input's Byte Order Mark (BOM),
+	 *                                or the default charset will be used if no BOM is present.
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop             indicates whether to automatically close the channel when {@link #stop()} is called
+	 */
+	public DecodingCharInputReader(ReadableByteChannel channel, Charset encoding, char normalizedLineSeparator, int bufferSize, int whitespaceRangeStart, boolean closeOnStop) {
+		this(channel, encoding, null, normalizedLineSeparator, bufferSize, whitespaceRangeStart, closeOnStop);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently.
+	 *
+	 * @param channel                 the channel to be read. Must be a blocking channel.
+	 * @param encoding                the encoding of the input. If {@code null}, the encoding will be determined from the input's Byte Order Mark (BOM),
+	 *                                or the default charset will be used if no BOM is present.
+	 * @param lineSeparator           the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop             indicates whether to automatically close the channel when {@link #stop()} is called
+	 */
+	public DecodingCharInputReader(ReadableByteChannel channel, Charset encoding, char[] lineSeparator, char normalizedLineSeparator, int bufferSize, int whitespaceRangeStart, boolean closeOnStop) {
+		this(null, channel, null, encoding, lineSeparator, normalizedLineSeparator, bufferSize, whitespaceRangeStart, closeOnStop);
+		if (channel == null) {
+			throw new IllegalArgumentException("Channel must not be null");
+		}
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently. Line separators will be detected automatically.
+	 *
+	 * @param input                   the buffer with the bytes to be read, from its position up to its limit. The position of the buffer is not modified.
+	 * @param encoding                the encoding of the input. If {@code null}, the encoding will be determined from the input's Byte Order Mark (BOM),
+	 *                                or the default charset will be used if no BOM is present.
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 */
+	public DecodingCharInputReader(ByteBuffer input, Charset encoding, char normalizedLineSeparator, int bufferSize, int whitespaceRangeStart) {
+		this(input, encoding, null, normalizedLineSeparator, bufferSize, whitespaceRangeStart);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently.
+	 *
+	 * @param input                   the buffer with the bytes to be read, from its position up to its limit. The position of the buffer is not modified.
+	 * @param encoding                the encoding of the input. If {@code null}, the encoding will be determined from the input's Byte Order Mark (BOM),
+	 *                                or the default charset will be used if no BOM is present.
+	 * @param lineSeparator           the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 */
+	public DecodingCharInputReader(ByteBuffer input, Charset encoding, char[] lineSeparator, char normalizedLineSeparator, int bufferSize, int whitespaceRangeStart) {
+		this(null, null, input == null ? null : input.duplicate(), encoding, lineSeparator, normalizedLineSeparator, bufferSize, whitespaceRangeStart, false);
+		if (input == null) {
+			throw new IllegalArgumentException("Input buffer must not be null");
+		}
+	}
+
+	private DecodingCharInputReader(InputStream input, ReadableByteChannel channel, ByteBuffer source, Charset encoding, char[] lineSeparator, char normalizedLineSeparator, int bufferSize, int whitespaceRangeStart, boolean closeOnStop) {
+		super(lineSeparator, normalizedLineSeparator, whitespaceRangeStart, closeOnStop);
+		this.input = input;
+		this.channel = channel;
+		this.source = source;
+		this.encoding = encoding;
+		super.buffer = new char[bufferSize];
+		this.chars = CharBuffer.wrap(buffer);
+
+		if (source == null || !source.hasArray()) {
+			//at least a few bytes are required to hold an encoded character or a BOM
+			this.bytes = ByteBuffer.allocate(Math.max(bufferSize, 16));
+			this.b = bytes.array();
+			this.run = ByteBuffer.wrap(b);
+		}
+	}
+
+	@Override
+	public void stop() {
+		try {
+			// the input is only available once, so it can't be closed before parsing begins.
+			if (closeOnStop && started) {
+				if (input != null) {
+					input.close();
+				} else if (channel != null) {
+					channel.close();
+				}
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error closing input", e);
+		}
+	}
+
+	/**
+	 * Reads the first bytes of the input provided in the constructor of this class and prepares the decoding process. The given reader is ignored.
+	 *
+	 * @param reader ignored.
+	 */
+	@Override
+	protected void setReader(Reader reader) {
+		started = true;
+		if (source != null && source.hasArray()) {
+			// decodes straight from the array of the buffer, which is entirely available
+			bytes = ByteBuffer.wrap(source.array(), source.arrayOffset() + source.position(), source.remaining());
+			b = bytes.array();
+			run = ByteBuffer.wrap(b);
+			endOfInput = true;
+			bytesRead = bytes.remaining();
+		} else {
+			bytes.clear();
+			bytes.flip();
+			endOfInput = false;
+			bytesRead = 0L;
+		}
+		flushed = false;
+
+		Charset charset = encoding;
+		try {
+			while (!endOfInput && bytes.remaining() < 4) {
+				fill();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+		if (charset == null) {
+			charset = detectCharset();
+		}
+
+		String name = charset.name();
+		if ("UTF-8".equals(name)) {
+			this.charset = UTF_8;
+		} else if ("ISO-8859-1".equals(name)) {
+			this.charset = ISO_8859_1;
+		} else if ("US-ASCII".equals(name)) {
+			this.charset = US_ASCII;
+		} else {
+			this.charset = OTHER;
+		}
+		decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		decodedCharset = charset;
+	}
+
+	/**
+	 * Returns the number of bytes of the input that precede the current position, i.e. the byte offset of the next character to be read.
+	 *
+	 * @return the number of bytes consumed so far, or {@code -1} if the input has not been started.
+	 */
+	@Override
+	public long byteCount() {
+		if (decodedCharset == null) {
+			return -1L;
+		}
+		return byteCount(bytesRead - bytes.remaining(), decodedCharset);
+	}
+
+	private boolean matchesBom(byte[] bom) {
+		if (bytes.remaining() < bom.length) {
+			return false;
+		}
+		for (int i = 0; i < bom.length; i++) {
+			if (b[bytes.position() + i] != bom[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Charset detectCharset() {
+		// the BOM itself is decoded into a '\uFEFF' character, which is discarded when the input starts.
+		if (matchesBom(BomInput.UTF_8_BOM)) {
+			return Charset.forName("UTF-8");
+		} else if (matchesBom(BomInput.UTF_32LE_BOM)) {
+			return Charset.forName("UTF-32LE");
+		} else if (matchesBom(BomInput.UTF_32BE_BOM)) {
+			return Charset.forName("UTF-32BE");
+		} else if (matchesBom(BomInput.UTF_16BE_BOM)) {
+			return Charset.forName("UTF-16BE");
+		} else if (matchesBom(BomInput.UTF_16LE_BOM)) {
+			return Charset.forName("UTF-16LE");
+		}
+		return Charset.defaultCharset();
+	}
+
+	private void fill() throws IOException {
+		if (bytes.remaining() == bytes.capacity()) {
+			throw new IllegalStateException("Input buffer of " + buffer.length + " characters is too small to hold a decoded character");
+		}
+		bytes.compact();
+		int read;
+		if (input != null) {
+			read = input.read(b, bytes.position(), bytes.remaining());
+			if (read > 0) {
+				bytes.position(bytes.position() + read);
+			}
+		} else if (channel != null) {
+			read = channel.read(bytes);
+		} else {
+			read = Math.min(source.remaining(), bytes.remaining());
+			if (read > 0) {
+				source.get(b, bytes.position(), read);
+				bytes.position(bytes.position() + read);
+			} else {
+				read = -1;
+			}
+		}
+		if (read == -1) {
+			endOfInput = true;
+		} else {
+			bytesRead += read;
+		}
+		bytes.flip();
+	}
+
+	/**
+	 * Decodes the next sequence of characters from the input into the {@link DecodingCharInputReader#buffer}, and updates the
+	 * {@link DecodingCharInputReader#length} to the number of characters decoded.
+	 */
+	@Override
+	protected void reloadBuffer() {
+		if (chars.array() != buffer) { // buffer may have been replaced while running input analysis processes.
+			chars = CharBuffer.wrap(buffer);
+		}
+
+		int decoded = 0;
+		try {
+			while (true) {
+				if (bytes.hasRemaining() || endOfInput) {
+					decoded = decode();
+					if (decoded > 0 || endOfInput) {
+						break;
+					}
+				}
+				fill();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+		super.length = decoded > 0 ? decoded : -1;
+	}
+
+	private int decode() {
+		switch (charset) {
+			case ISO_8859_1:
+				return decodeSingleByte(false);
+			case US_ASCII:
+				return decodeSingleByte(true);
+			case UTF_8:
+				return decodeUtf8();
+			default:
+				return decodeOther();
+		}
+	}
+
+	private int decodeSingleByte(boolean ascii) {
+		final char[] buffer = this.buffer;
+		final byte[] b = this.b;
+		final int p = bytes.position();
+		final int n = Math.min(bytes.remaining(), buffer.length);
+
+		if (ascii) {
+			for (int i = 0; i < n; i++) {
+				byte v = b[p + i];
+				buffer[i] = v >= 0 ? (char) v : '\uFFFD';
+			}
+		} else {
+			for (int i = 0; i < n; i++) {
+				buffer[i] = (char) (b[p + i] & 0xFF);
+			}
+		}
+		bytes.position(p + n);
+		return n;
+	}
+
+	private int decodeUtf8() {
+		final char[] buffer = this.buffer;
+		final byte[] b = this.b;
+		final int max = buffer.length;
+		final int limit = bytes.limit();
+		int p = bytes.position();
+		int out = 0;
+
+		while (out < max && p < limit) {
+			byte v = b[p];
+			if (v >= 0) {
+				buffer[out++] = (char) v;
+				p++;
+			} else {
+				int end = p + 1;
+				while (end < limit && b[end] < 0) {
+					end++;
+				}
+
+				run.limit(end);
+				run.position(p);
+				chars.clear();
+				chars.position(out);
+
+				//a sequence cut short by an ASCII byte (or by the end of the input) is malformed and can be replaced.
+				decoder.reset();
+				CoderResult result = decoder.decode(run, chars, end < limit || endOfInput);
+				out = chars.position();
+				p = run.position();
+
+				if (result.isOverflow() || p < end) {
+					//no space left in the buffer, or an incomplete sequence that needs more bytes.
+					break;
+				}
+			}
+		}
+
+		bytes.position(p);
+		return out;
+	}
+
+	private int decodeOther() {
+		chars.clear();
+		if (!flushed) {
+			decoder.decode(bytes, chars, endOfInput);
+			if (endOfInput && !bytes.hasRemaining() && decoder.flush(chars).isUnderflow()) {
+				flushed = true;
+			}
+		}
+		return chars.position();
+	}
+}
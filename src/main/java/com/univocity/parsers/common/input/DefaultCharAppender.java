@@ -27,6 +27,9 @@ public class DefaultCharAppender implements CharAppender {
 	final String emptyValue; // default value to return when no characters have been accumulated
 	int whitespaceCount;
 
+	private AbstractCharInputReader reader; // input whose buffer holds the characters of a deferred value
+	private int deferredStart = -1; // position of the first character of a deferred value in the reader buffer, or -1 if the value is in 'chars'
+
 	/**
 	 * Creates a DefaultCharAppender with a maximum limit of characters to append and the default value to return when no characters have been accumulated.
 	 * The padding character is defaulted to a whitespace character ' '.
@@ -47,9 +50,69 @@ public class DefaultCharAppender implements CharAppender {
 		}
 	}
 
+	/**
+	 * Allows this appender to accumulate characters read from the given input without copying them. While the characters appended
+	 * are the ones found sequentially in the buffer of the input, only the position and length of the value are recorded,
+	 * and the resulting {@code String} is created directly from the input buffer.
+	 *
+	 * <p>The characters are copied into this appender when the buffer of the input is about to be reloaded, when a character that
+	 * does not follow the value in the input buffer is appended (e.g. escape sequences or normalized line endings), or when
+	 * the accumulated value is read or modified in any other way.</p>
+	 *
+	 * @param reader the input whose characters will be appended to this appender, or {@code null} to always copy appended characters.
+	 */
+	public final void enableDeferredCopy(AbstractCharInputReader reader) {
+		copyDeferred();
+		if (this.reader != null && this.reader.deferredAppender == this) {
+			this.reader.deferredAppender = null;
+		}
+		this.reader = reader;
+		if (reader != null) {
+			reader.deferredAppender = this;
+		}
+	}
+
+	/**
+	 * Attempts to record the given character as the next character of a value deferred in the input buffer.
+	 *
+	 * @param ch the character being appended
+	 *
+	 * @return {@code true} if the character is part of the deferred value, or {@code false} if it must be stored in {@link #chars}
+	 */
+	private boolean appendDeferred(char ch) {
+		if (deferredStart != -1) {
+			int pos = deferredStart + index;
+			if (index < chars.length && pos < reader.length && reader.buffer[pos] == ch) {
+				index++;
+				return true;
+			}
+			copyDeferred();
+		} else if (index == 0 && chars.length > 0) {
+			int pos = reader.i - 1;
+			if (pos >= 0 && pos < reader.length && reader.buffer[pos] == ch) {
+				deferredStart = pos;
+				index = 1;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Copies the characters of a deferred value from the input buffer into {@link #chars}.
+	 */
+	final void copyDeferred() {
+		if (deferredStart != -1) {
+			System.arraycopy(reader.buffer, deferredStart, chars, 0, index);
+			deferredStart = -1;
+		}
+	}
+
 	@Override
 	public void appendIgnoringPadding(char ch, char padding) {
-		chars[index++] = ch;
+		if (reader == null || !appendDeferred(ch)) {
+			chars[index++] = ch;
+		}
 		if (ch == padding) {
 			whitespaceCount++;
 		} else {
@@ -59,7 +122,9 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public void appendIgnoringWhitespaceAndPadding(char ch, char padding) {
-		chars[index++] = ch;
+		if (reader == null || !appendDeferred(ch)) {
+			chars[index++] = ch;
+		}
 		if (ch == padding || (ch <= ' ' && whitespaceRangeStart < ch)) {
 			whitespaceCount++;
 		} else {
@@ -69,7 +134,9 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public void appendIgnoringWhitespace(char ch) {
-		chars[index++] = ch;
+		if (reader == null || !appendDeferred(ch)) {
+			chars[index++] = ch;
+		}
 		if (ch <= ' ' && whitespaceRangeStart < ch) {
 			whitespaceCount++;
 		} else {
@@ -79,6 +146,7 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public int indexOf(char ch, int from) {
+		copyDeferred();
 		int len = index - whitespaceCount;
 		for (int i = from; i < len; i++) {
 			if (chars[i] == ch) {
@@ -90,6 +158,7 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public int indexOfAny(char[] chars, int from) {
+		copyDeferred();
 		int len = index - whitespaceCount;
 		for (int i = from; i < len; i++) {
 			for (int j = 0; j < chars.length; j++) {
@@ -103,11 +172,13 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public String substring(int from, int length) {
+		copyDeferred();
 		return new String(chars, from, length);
 	}
 
 	@Override
 	public void remove(int from, int length) {
+		copyDeferred();
 		if (length > 0) {
 			int srcPos = from + length;
 			int len = index - length;
@@ -122,7 +193,9 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public void append(char ch) {
-		chars[index++] = ch;
+		if (reader == null || !appendDeferred(ch)) {
+			chars[index++] = ch;
+		}
 	}
 
 	@Override
@@ -159,8 +232,13 @@ public class DefaultCharAppender implements CharAppender {
 	public String getAndReset() {
 		String out = emptyValue;
 		if (index > whitespaceCount) {
-			out = new String(chars, 0, index - whitespaceCount);
+			if (deferredStart != -1) {
+				out = new String(reader.buffer, deferredStart, index - whitespaceCount);
+			} else {
+				out = new String(chars, 0, index - whitespaceCount);
+			}
 		}
+		deferredStart = -1;
 		index = 0;
 		whitespaceCount = 0;
 		return out;
@@ -178,6 +256,9 @@ public class DefaultCharAppender implements CharAppender {
 		if (index <= whitespaceCount) {
 			return emptyValue;
 		}
+		if (deferredStart != -1) {
+			return new String(reader.buffer, deferredStart, index - whitespaceCount);
+		}
 		return new String(chars, 0, index - whitespaceCount);
 	}
 
@@ -199,8 +280,13 @@ public class DefaultCharAppender implements CharAppender {
 		if (index > whitespaceCount) {
 			int length = index - whitespaceCount;
 			out = new char[length];
-			System.arraycopy(chars, 0, out, 0, length);
+			if (deferredStart != -1) {
+				System.arraycopy(reader.buffer, deferredStart, out, 0, length);
+			} else {
+				System.arraycopy(chars, 0, out, 0, length);
+			}
 		}
+		deferredStart = -1;
 		index = 0;
 		whitespaceCount = 0;
 		return out;
@@ -213,6 +299,7 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public void reset() {
+		deferredStart = -1;
 		index = 0;
 		whitespaceCount = 0;
 	}
@@ -223,6 +310,8 @@ public class DefaultCharAppender implements CharAppender {
 	 * @param appender The DefaultCharAppender instance got get contents from.
 	 */
 	public void append(DefaultCharAppender appender) {
+		appender.copyDeferred();
+		copyDeferred();
 		System.arraycopy(appender.chars, 0, this.chars, this.index, appender.index - appender.whitespaceCount);
 		this.index += appender.index - appender.whitespaceCount;
 		appender.reset();
@@ -235,11 +324,13 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public final char[] getChars() {
+		copyDeferred();
 		return chars;
 	}
 
 	@Override
 	public void fill(char ch, int length) {
+		copyDeferred();
 		for (int i = 0; i < length; i++) {
 			chars[index++] = ch;
 		}
@@ -252,6 +343,7 @@ public class DefaultCharAppender implements CharAppender {
 	 */
 	@Override
 	public void prepend(char ch) {
+		copyDeferred();
 		System.arraycopy(chars, 0, this.chars, 1, index);
 		chars[0] = ch;
 		index++;
@@ -259,6 +351,7 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public void prepend(char ch1, char ch2) {
+		copyDeferred();
 		System.arraycopy(chars, 0, this.chars, 2, index);
 		chars[0] = ch1;
 		chars[1] = ch2;
@@ -267,6 +360,7 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public void prepend(char[] chars) {
+		copyDeferred();
 		System.arraycopy(this.chars, 0, this.chars, chars.length, index);
 		System.arraycopy(chars, 0, this.chars, 0, chars.length);
 		index += chars.length;
@@ -276,34 +370,67 @@ public class DefaultCharAppender implements CharAppender {
 	 * Updates the internal whitespace count of this appender to trim trailing whitespaces.
 	 */
 	public final void updateWhitespace() {
+		copyDeferred();
 		whitespaceCount = 0;
 		for (int i = index - 1; i >= 0 && chars[i] <= ' ' && whitespaceRangeStart < chars[i]; i--, whitespaceCount++)
 			;
 	}
 
 	public char appendUntil(char ch, CharInput input, char stop) {
+		if (input == reader && reader != null) {
+			return reader.appendUntil(ch, this, stop, stop, stop);
+		}
 		for (; ch != stop; ch = input.nextChar()) {
-			chars[index++] = ch;
+			if (reader == null || !appendDeferred(ch)) {
+				chars[index++] = ch;
+			}
 		}
 		return ch;
 	}
 
 	public char appendUntil(char ch, CharInput input, char stop1, char stop2) {
+		if (input == reader && reader != null) {
+			return reader.appendUntil(ch, this, stop1, stop2, stop2);
+		}
 		for (; ch != stop1 && ch != stop2; ch = input.nextChar()) {
-			chars[index++] = ch;
+			if (reader == null || !appendDeferred(ch)) {
+				chars[index++] = ch;
+			}
 		}
 		return ch;
 	}
 
 	public char appendUntil(char ch, CharInput input, char stop1, char stop2, char stop3) {
+		if (input == reader && reader != null) {
+			return reader.appendUntil(ch, this, stop1, stop2, stop3);
+		}
 		for (; ch != stop1 && ch != stop2 && ch != stop3; ch = input.nextChar()) {
-			chars[index++] = ch;
+			if (reader == null || !appendDeferred(ch)) {
+				chars[index++] = ch;
+			}
 		}
 		return ch;
 	}
 
 	@Override
 	public void append(char[] ch, int from, int length) {
+		if (reader != null && ch == reader.buffer && length > 0 && index + length <= chars.length) {
+			if (deferredStart == -1 && index == 0) {
+				deferredStart = from;
+				index = length;
+				return;
+			} else if (deferredStart != -1 && deferredStart + index == from) {
+				index += length;
+				return;
+			}
+		}
+		copyDeferred();
+		if (index + length > chars.length) {
+			//same as appending one character at a time: fills up the available space and reports the limit that was exceeded.
+			System.arraycopy(ch, from, chars, index, chars.length - index);
+			index = chars.length + 1;
+			throw new ArrayIndexOutOfBoundsException(String.valueOf(chars.length));
+		}
 		System.arraycopy(ch, from, chars, index, length);
 		index += length;
 	}
@@ -314,6 +441,7 @@ public class DefaultCharAppender implements CharAppender {
 	}
 
 	public void append(String string, int from, int to) {
+		copyDeferred();
 		string.getChars(from, to, chars, index);
 		index += to - from;
 	}
@@ -325,11 +453,13 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public final char charAt(int i) {
+		copyDeferred();
 		return chars[i];
 	}
 
 	@Override
 	public final String subSequence(int from, int to) {
+		copyDeferred();
 		return new String(chars, from, to - from);
 	}
 
@@ -349,6 +479,7 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public int indexOf(char[] charSequence, int fromIndex) {
+		copyDeferred();
 		if (charSequence.length == 0) {
 			return fromIndex;
 		}
@@ -379,6 +510,7 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public int indexOf(CharSequence charSequence, int fromIndex) {
+		copyDeferred();
 		if (charSequence.length() == 0) {
 			return fromIndex;
 		}
@@ -414,6 +546,7 @@ public class DefaultCharAppender implements CharAppender {
 
 	@Override
 	public int lastIndexOf(char ch) {
+		copyDeferred();
 		for (int x = index - whitespaceCount -1; x >= 0; x--) {
 			if (chars[x] == ch) {
 				return x;
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.common.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+
+/**
+ * A {@link CharInputReader} that receives its input in chunks pushed by the user, instead of pulling characters from a {@link java.io.Reader}.
+ * Chunks of characters or bytes are accumulated with {@link #feed(char[], int, int)} or {@link #feed(byte[], int, int)}, and
+ * {@link #endOfInput()} signals no more chunks will be provided.
+ *
+ * <p> The reader never blocks: when the parser consumes all characters fed so far before the end of the input, an {@link InputUnderflowException}
+ * is thrown, and {@link #rewind()} moves the position of the reader back to the start of the record being parsed so it can be parsed again once
+ * more characters are available. The characters of that record are kept in the buffer until then.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+public class FeedCharInputReader extends AbstractCharInputReader {
+
+	private final CharsetDecoder decoder;
+	private final ByteBuffer carry;
+	private final int sampleLength;
+
+	private char[] chars = new char[16];
+	private int count;
+	private int readyLength = 1;
+	private boolean started;
+	private boolean ended;
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently. Line separators will be detected automatically.
+	 *
+	 * @param encoding                the encoding of the bytes fed with {@link #feed(byte[], int, int)}. If {@code null}, only characters can be fed into this reader.
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param sampleLength            the number of characters to accumulate before parsing starts, if the input must be analyzed first (e.g. to detect line separators).
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 */
+	public FeedCharInputReader(Charset encoding, char normalizedLineSeparator, int sampleLength, int whitespaceRangeStart) {
+		this(encoding, null, normalizedLineSeparator, sampleLength, whitespaceRangeStart);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently.
+	 *
+	 * @param encoding                the encoding of the bytes fed with {@link #feed(byte[], int, int)}. If {@code null}, only characters can be fed into this reader.
+	 * @param lineSeparator           the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param sampleLength            the number of characters to accumulate before parsing starts, if the input must be analyzed first (e.g. to detect line separators).
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 */
+	public FeedCharInputReader(Charset encoding, char[] lineSeparator, char normalizedLineSeparator, int sampleLength, int whitespaceRangeStart) {
+		super(lineSeparator, normalizedLineSeparator, whitespaceRangeStart, false);
+		if (encoding == null) {
+			decoder = null;
+			carry = null;
+		} else {
+			decoder = encoding.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+			carry = ByteBuffer.allocate(16);
+		}
+		//input analysis processes request more characters if the first buffer has 4 characters or less.
+		this.sampleLength = Math.max(sampleLength, 5);
+	}
+
+	/**
+	 * Appends a chunk of characters to the input.
+	 *
+	 * @param chunk  the characters to append.
+	 * @param offset position of the first character of the chunk.
+	 * @param length number of characters of the chunk.
+	 */
+	public final void feed(char[] chunk, int offset, int length) {
+		validateFeed();
+		ensureCapacity(length);
+		System.arraycopy(chunk, offset, chars, count, length);
+		count += length;
+		updateLength();
+	}
+
+	/**
+	 * Appends a chunk of bytes to the input, decoded with the encoding given in the constructor of this class. Incomplete
+	 * byte sequences at the end of the chunk are kept until the next chunk is fed.
+	 *
+	 * @param chunk  the bytes to decode and append.
+	 * @param offset position of the first byte of the chunk.
+	 * @param length number of bytes of the chunk.
+	 */
+	public final void feed(byte[] chunk, int offset, int length) {
+		validateFeed();
+		if (decoder == null) {
+			throw new IllegalStateException("Cannot feed bytes without an encoding to decode them");
+		}
+		//completes the sequence of bytes left over from the previous chunk, one byte at a time.
+		while (carry.position() > 0 && length > 0) {
+			carry.put(chunk[offset++]);
+			length--;
+			carry.flip();
+			decode(carry, false);
+			carry.compact();
+		}
+		ByteBuffer bytes = ByteBuffer.wrap(chunk, offset, length);
+		decode(bytes, false);
+		carry.put(bytes);
+		updateLength();
+	}
+
+	/**
+	 * Notifies that no more chunks will be fed. Any bytes of an incomplete sequence left over from the last chunk are decoded as replacement characters.
+	 */
+	public final void endOfInput() {
+		validateFeed();
+		if (decoder != null) {
+			carry.flip();
+			decode(carry, true);
+			carry.clear();
+			CoderResult result;
+			do {
+				ensureCapacity(16);
+				CharBuffer out = CharBuffer.wrap(chars, count, chars.length - count);
+				result = decoder.flush(out);
+				count = out.position();
+			} while (result.isOverflow());
+			updateLength();
+		}
+		ended = true;
+	}
+
+	private void validateFeed() {
+		if (ended) {
+			throw new IllegalStateException("Cannot feed input after its end has been reached");
+		}
+	}
+
+	private void decode(ByteBuffer bytes, boolean endOfInput) {
+		while (true) {
+			ensureCapacity(bytes.remaining() + 1);
+			CharBuffer out = CharBuffer.wrap(chars, count, chars.length - count);
+			CoderResult result = decoder.decode(bytes, out, endOfInput);
+			count = out.position();
+			if (!result.isOverflow()) {
+				return;
+			}
+		}
+	}
+
+	private void ensureCapacity(int length) {
+		if (count + length > chars.length) {
+			chars = Arrays.copyOf(chars, Math.max(count + length, chars.length * 2));
+		}
+	}
+
+	private void updateLength() {
+		if (started) {
+			buffer = chars;
+			length = count;
+		}
+	}
+
+	/**
+	 * Indicates whether enough characters have been fed for the parser to make progress: either the input ended, or at least the
+	 * number of characters required to analyze the input are available, or the characters available at least doubled since the last
+	 * {@link #rewind()}, so that records spanning many chunks are not parsed again at every chunk.
+	 *
+	 * @return {@code true} if parsing can resume.
+	 */
+	public final boolean isReady() {
+		if (ended) {
+			return true;
+		}
+		if (!started && isInputAnalysisPending()) {
+			return count >= sampleLength;
+		}
+		return count >= readyLength;
+	}
+
+	/**
+	 * Moves the position of this reader back to the start of the record being parsed when an {@link InputUnderflowException} was thrown,
+	 * so that it can be parsed again once more input is fed.
+	 */
+	public final void rewind() {
+		rewindToRecordStart();
+		count = length;
+		readyLength = count * 2;
+	}
+
+	/**
+	 * The characters fed into this reader are provided by {@link #reloadBuffer()}. The given reader is ignored.
+	 *
+	 * @param reader ignored.
+	 */
+	@Override
+	protected void setReader(Reader reader) {
+	}
+
+	/**
+	 * Provides all characters fed so far in the first invocation. Subsequent invocations happen only after every character was consumed:
+	 * if the input ended, the end of the input is reported, otherwise an {@link InputUnderflowException} is thrown.
+	 */
+	@Override
+	protected void reloadBuffer() {
+		if (!started) {
+			started = true;
+			buffer = chars;
+			length = count == 0 ? -1 : count;
+		} else if (ended) {
+			length = -1;
+		} else {
+			throw new InputUnderflowException();
+		}
+	}
+
+	/**
+	 * Nothing to close: the chunks are provided by the user.
+	 */
+	@Override
+	public void stop() {
+	}
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+/**
+ * Internal exception marker to signalize that all characters fed into a {@link FeedCharInputReader} were consumed before the end of the input.
+ */
+public final class InputUnderflowException extends RuntimeException {
+
+	private static final long serialVersionUID = 3380622339487424021L;
+
+	/**
+	 * Creates a new exception
+	 */
+	public InputUnderflowException() {
+		super();
+	}
+
+	@Override
+	public Throwable fillInStackTrace() {
+		return this;
+	}
+}
@@ -99,6 +99,27 @@ public class LookaheadCharInputReader implements CharInputReader {
 
 	}
 
+	/**
+	 * Returns the number of characters currently available in the lookahead buffer.
+	 *
+	 * @return the number of characters that can be obtained with {@link #getLookaheadChar(int)}
+	 */
+	public int getLookaheadLength() {
+		return length - start;
+	}
+
+	/**
+	 * Returns a character from the lookahead buffer.
+	 *
+	 * @param index position of the character in the lookahead buffer, where {@code 0} is the first character after the last
+	 *              character used by the parser. Must be less than {@link #getLookaheadLength()}.
+	 *
+	 * @return the character at the given position of the lookahead buffer.
+	 */
+	public char getLookaheadChar(int index) {
+		return lookahead[start + index];
+	}
+
 	/**
 	 * Returns the current lookahead value.
 	 *
@@ -244,6 +265,16 @@ public class LookaheadCharInputReader implements CharInputReader {
 		return reader.currentParsedContentLength();
 	}
 
+	@Override
+	public boolean appendString(char ch, char stop, boolean trim, int maxLength, CharAppender appender) {
+		return reader.appendString(ch, stop, trim, maxLength, appender);
+	}
+
+	@Override
+	public boolean appendQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing, CharAppender appender) {
+		return reader.appendQuotedString(quote, escape, escapeEscape, maxLength, stop1, stop2, keepQuotes, keepEscape, trimLeading, trimTrailing, appender);
+	}
+
 	@Override
 	public boolean skipString(char ch, char stop) {
 		return reader.skipString(ch, stop);
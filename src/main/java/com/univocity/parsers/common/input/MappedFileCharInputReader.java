@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.common.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+/**
+ * A {@link CharInputReader} that maps a {@link File} into memory with {@link FileChannel#map(FileChannel.MapMode, long, long)} and decodes
+ * its bytes directly into the {@link AbstractCharInputReader#buffer}.
+ *
+ * <p> The file is mapped in windows of a fixed size. Each call to {@link #reloadBuffer()} decodes the next batch of characters from the current
+ * window, and a new window is mapped (starting at the first byte not yet decoded) once the current one is exhausted. This avoids the intermediate
+ * buffering of {@link InputStreamReader} and lets the operating system page cache serve repeated reads of the same file without copying.
+ *
+ * <p> The {@link Reader} given to {@link #start(Reader)} is ignored as characters are always read from the file provided in the constructor.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see CommonParserSettings#setMemoryMappedInputEnabled(boolean)
+ */
+public class MappedFileCharInputReader extends AbstractCharInputReader {
+
+	/**
+	 * The default number of bytes of the file mapped into memory at any given time.
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 32 * 1024 * 1024;
+
+	private final File file;
+	private final Charset encoding;
+	private final int windowSize;
+
+	private FileChannel channel;
+	private long fileSize;
+	private MappedByteBuffer window;
+	private long windowStart;
+	private CharsetDecoder decoder;
+	private Charset decodedCharset;
+	private CharBuffer chars;
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently. Line separators will be detected automatically.
+	 *
+	 * @param file                    the file to be read
+	 * @param encoding                the encoding of the file. If {@code null}, the encoding will be determined from the file's Byte Order Mark (BOM),
+	 *                                or the default charset will be used if no BOM is present.
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the file.
+	 * @param windowSize              the number of bytes of the file to map into memory at a time.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop             indicates whether to automatically close the input when {@link #stop()} is called
+	 */
+	public MappedFileCharInputReader(File file, Charset encoding, char normalizedLineSeparator, int bufferSize, int windowSize, int whitespaceRangeStart, boolean closeOnStop) {
+		this(file, encoding, null, normalizedLineSeparator, bufferSize, windowSize, whitespaceRangeStart, closeOnStop);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently.
+	 *
+	 * @param file                    the file to be read
+	 * @param encoding                the encoding of the file. If {@code null}, the encoding will be determined from the file's Byte Order Mark (BOM),
+	 *                                or the default charset will be used if no BOM is present.
+	 * @param lineSeparator           the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the file.
+	 * @param windowSize              the number of bytes of the file to map into memory at a time.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop             indicates whether to automatically close the input when {@link #stop()} is called
+	 */
+	public MappedFileCharInputReader(File file, Charset encoding, char[] lineSeparator, char normalizedLineSeparator, int bufferSize, int windowSize, int whitespaceRangeStart, boolean closeOnStop) {
+		super(lineSeparator, normalizedLineSeparator, whitespaceRangeStart, closeOnStop);
+		if (file == null) {
+			throw new IllegalArgumentException("File must not be null");
+		}
+		if (windowSize < 4) {
+			throw new IllegalArgumentException("Mapping window size must be at least 4 bytes. Got " + windowSize);
+		}
+		this.file = file;
+		this.encoding = encoding;
+		this.windowSize = windowSize;
+		super.buffer = new char[bufferSize];
+	}
+
+	@Override
+	public void stop() {
+		try {
+			if (closeOnStop && channel != null) {
+				channel.close();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error closing input", e);
+		}
+	}
+
+	/**
+	 * Opens the file provided in the constructor of this class and maps its first window into memory. The given reader is ignored.
+	 *
+	 * @param reader ignored.
+	 */
+	@Override
+	protected void setReader(Reader reader) {
+		try {
+			if (channel != null && channel.isOpen()) {
+				channel.close();
+			}
+			channel = new RandomAccessFile(file, "r").getChannel();
+			fileSize = channel.size();
+			mapWindow(0L);
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException(e);
+		} catch (IOException e) {
+			throw new IllegalStateException("Error mapping file '" + file.getAbsolutePath() + "' into memory", e);
+		}
+
+		Charset charset = encoding;
+		if (charset == null) {
+			charset = detectCharset();
+		}
+		decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		decodedCharset = charset;
+		chars = CharBuffer.wrap(buffer);
+	}
+
+	/**
+	 * Returns the number of bytes of the file that precede the current position, i.e. the byte offset of the next character to be read.
+	 *
+	 * @return the number of bytes consumed so far, or {@code -1} if the file has not been opened.
+	 */
+	@Override
+	public long byteCount() {
+		if (decodedCharset == null) {
+			return -1L;
+		}
+		return byteCount(decoder == null ? fileSize : windowStart + window.position(), decodedCharset);
+	}
+
+	private void mapWindow(long position) throws IOException {
+		windowStart = position;
+		window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, fileSize - position));
+	}
+
+	private boolean matchesBom(byte[] bom) {
+		if (window.limit() < bom.length) {
+			return false;
+		}
+		for (int i = 0; i < bom.length; i++) {
+			if (window.get(i) != bom[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Charset detectCharset() {
+		// the BOM itself is decoded into a '\uFEFF' character, which is discarded when the input starts.
+		if (matchesBom(BomInput.UTF_8_BOM)) {
+			return Charset.forName("UTF-8");
+		} else if (matchesBom(BomInput.UTF_32LE_BOM)) {
+			return Charset.forName("UTF-32LE");
+		} else if (matchesBom(BomInput.UTF_32BE_BOM)) {
+			return Charset.forName("UTF-32BE");
+		} else if (matchesBom(BomInput.UTF_16BE_BOM)) {
+			return Charset.forName("UTF-16BE");
+		} else if (matchesBom(BomInput.UTF_16LE_BOM)) {
+			return Charset.forName("UTF-16LE");
+		}
+		return Charset.defaultCharset();
+	}
+
+	/**
+	 * Decodes the next sequence of characters from the mapped file into the {@link MappedFileCharInputReader#buffer}, and updates the
+	 * {@link MappedFileCharInputReader#length} to the number of characters decoded. The mapping window slides forward when exhausted.
+	 */
+	@Override
+	protected void reloadBuffer() {
+		if (decoder == null) {
+			super.length = -1;
+			return;
+		}
+		if (chars.array() != buffer) { // buffer may have been replaced while running input analysis processes.
+			chars = CharBuffer.wrap(buffer);
+		}
+		chars.clear();
+		try {
+			while (true) {
+				boolean endOfInput = windowStart + window.limit() >= fileSize;
+				CoderResult result = decoder.decode(window, chars, endOfInput);
+				if (chars.position() > 0) {
+					break;
+				}
+				if (result.isOverflow()) {
+					throw new IllegalStateException("Input buffer of " + buffer.length + " characters is too small to hold a decoded character");
+				}
+				if (endOfInput) {
+					decoder.flush(chars);
+					decoder = null;
+					break;
+				}
+				mapWindow(windowStart + window.position());
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+		super.length = chars.position() > 0 ? chars.position() : -1;
+	}
+}
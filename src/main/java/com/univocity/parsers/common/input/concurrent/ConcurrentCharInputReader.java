@@ -19,6 +19,7 @@ import com.univocity.parsers.common.*;
 import com.univocity.parsers.common.input.*;
 
 import java.io.*;
+import java.util.concurrent.*;
 
 /**
  * A concurrent CharInputReader that loads batches of characters in a separate thread and assigns them to buffer in {@link AbstractCharInputReader} when requested.
@@ -40,6 +41,7 @@ public class ConcurrentCharInputReader extends AbstractCharInputReader {
 	private ConcurrentCharLoader bucketLoader;
 	private final int bucketSize;
 	private final int bucketQuantity;
+	private final ExecutorService executor;
 	private boolean unwrapping = false;
 
 	/**
@@ -53,9 +55,26 @@ public class ConcurrentCharInputReader extends AbstractCharInputReader {
 	 * @param closeOnStop			  indicates whether to automatically close the input when {@link #stop()} is called
 	 */
 	public ConcurrentCharInputReader(char normalizedLineSeparator, int bucketSize, int bucketQuantity, int whitespaceRangeStart, boolean closeOnStop) {
+		this(normalizedLineSeparator, bucketSize, bucketQuantity, whitespaceRangeStart, closeOnStop, null);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently. Line separators will be detected automatically.
+	 *
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()})
+	 *                                that is used to replace any lineSeparator sequence found in the input.
+	 * @param bucketSize              the size of an each individual "bucket" used to store characters read from the input.
+	 * @param bucketQuantity          the number of "buckets" to load in memory. Note the reader will stop if all buckets are full.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop			  indicates whether to automatically close the input when {@link #stop()} is called
+	 * @param executor                the executor that runs the input reading process. If {@code null}, the executor returned by
+	 *                                {@link ParserThreads#getSharedExecutor()} will be used.
+	 */
+	public ConcurrentCharInputReader(char normalizedLineSeparator, int bucketSize, int bucketQuantity, int whitespaceRangeStart, boolean closeOnStop, ExecutorService executor) {
 		super(normalizedLineSeparator, whitespaceRangeStart, closeOnStop);
 		this.bucketSize = bucketSize;
 		this.bucketQuantity = bucketQuantity;
+		this.executor = executor == null ? ParserThreads.getSharedExecutor() : executor;
 	}
 
 	/**
@@ -70,9 +89,27 @@ public class ConcurrentCharInputReader extends AbstractCharInputReader {
 	 * @param closeOnStop			  indicates whether to automatically close the input when {@link #stop()} is called
 	 */
 	public ConcurrentCharInputReader(char[] lineSeparator, char normalizedLineSeparator, int bucketSize, int bucketQuantity, int whitespaceRangeStart, boolean closeOnStop) {
+		this(lineSeparator, normalizedLineSeparator, bucketSize, bucketQuantity, whitespaceRangeStart, closeOnStop, null);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently.
+	 *
+	 * @param lineSeparator           the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()})
+	 *                                that is used to replace any lineSeparator sequence found in the input.
+	 * @param bucketSize              the size of an each individual "bucket" used to store characters read from the input.
+	 * @param bucketQuantity          the number of "buckets" to load in memory. Note the reader will stop if all buckets are full.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop			  indicates whether to automatically close the input when {@link #stop()} is called
+	 * @param executor                the executor that runs the input reading process. If {@code null}, the executor returned by
+	 *                                {@link ParserThreads#getSharedExecutor()} will be used.
+	 */
+	public ConcurrentCharInputReader(char[] lineSeparator, char normalizedLineSeparator, int bucketSize, int bucketQuantity, int whitespaceRangeStart, boolean closeOnStop, ExecutorService executor) {
 		super(lineSeparator, normalizedLineSeparator, whitespaceRangeStart, closeOnStop);
 		this.bucketSize = bucketSize;
 		this.bucketQuantity = bucketQuantity;
+		this.executor = executor == null ? ParserThreads.getSharedExecutor() : executor;
 	}
 
 	/**
@@ -94,7 +131,7 @@ public class ConcurrentCharInputReader extends AbstractCharInputReader {
 	protected void setReader(Reader reader) {
 		if(!unwrapping) {
 			stop();
-			bucketLoader = new ConcurrentCharLoader(reader, bucketSize, bucketQuantity, closeOnStop);
+			bucketLoader = new ConcurrentCharLoader(reader, bucketSize, bucketQuantity, closeOnStop, executor);
 			bucketLoader.reportError();
 		} else {
 			bucketLoader.reader = reader;
@@ -20,66 +20,127 @@ import com.univocity.parsers.common.input.*;
 
 import java.io.*;
 import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
 
 /**
- * A concurrent character loader for loading a pool of {@link CharBucket} instances using a {@link java.io.Reader} in a separate thread
+ * A concurrent character loader for loading a ring of {@link CharBucket} instances using a {@link java.io.Reader} in a separate thread
+ *
+ * <p> The buckets are allocated once and handed over from the reading thread (the single producer) to the parsing thread (the single consumer)
+ * through two sequence counters: the number of buckets filled by the reading thread, and the number of buckets released by the parsing thread.
+ * A bucket becomes available to be filled again once the parsing thread requests the bucket that comes after it.
+ * <p> Each thread waits for the other by spinning for a short while, then parks until it is notified (or a short timeout elapses).
  *
  * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
  * @see ConcurrentCharInputReader
  * @see CharBucket
- * @see Entry
  */
 class ConcurrentCharLoader implements Runnable {
-	private final ArrayBlockingQueue<Object> buckets;
+	private static final int SPIN_LIMIT = 1000;
+	private static final long PARK_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private final CharBucket[] buckets;
 	private final CharBucket end;
-	private final FixedInstancePool<CharBucket> instances;
 
-	private Entry<CharBucket> currentBucket;
+	// number of buckets filled by the reading thread. Only updated by the thread reading the input.
+	private volatile long published;
+	// number of buckets the parsing thread is done with. Only updated by the thread consuming the buckets.
+	private volatile long released;
+	// number of buckets taken by the parsing thread.
+	private long consumed;
 
-	private boolean finished = false;
-	private boolean active;
+	private volatile Thread waitingProducer;
+	private volatile Thread waitingConsumer;
+
+	private volatile boolean finished = false;
+	private volatile boolean active;
 	Reader reader;
-	private Thread activeExecution;
-	private Exception error;
+	private final ExecutorService executor;
+	private Future<?> activeExecution;
+	private volatile Exception error;
 	private final boolean closeOnStop;
 
 	/**
-	 * Creates a {@link FixedInstancePool} with a given amount of {@link CharBucket} instances and starts a thread to fill each one.
+	 * Creates a ring with a given amount of {@link CharBucket} instances and starts a thread to fill each one.
 	 *
 	 * @param reader         The source of characters to extract and fill {@link CharBucket} instances
 	 * @param bucketSize     The size of each individual {@link CharBucket}
 	 * @param bucketQuantity The number of {@link CharBucket} instances used to extract characters from the given reader.
 	 * @param closeOnStop	 Indicates whether to automatically close the input when {@link #stopReading()} is called
+	 * @param executor       The executor used to run the reading process in a separate thread.
 	 */
-	public ConcurrentCharLoader(Reader reader, final int bucketSize, int bucketQuantity, boolean closeOnStop) {
+	public ConcurrentCharLoader(Reader reader, final int bucketSize, int bucketQuantity, boolean closeOnStop, ExecutorService executor) {
+		if (bucketQuantity < 1) {
+			throw new IllegalArgumentException("Number of buckets must be at least 1. Got " + bucketQuantity);
+		}
 		this.closeOnStop = closeOnStop;
 		this.end = new CharBucket(-1);
-		this.buckets = new ArrayBlockingQueue<Object>(bucketQuantity);
+		this.buckets = new CharBucket[bucketQuantity];
+		for (int i = 0; i < bucketQuantity; i++) {
+			buckets[i] = new CharBucket(bucketSize);
+		}
 
 		this.reader = reader;
-
-		this.instances = new FixedInstancePool<CharBucket>(bucketQuantity) {
-			@Override
-			protected CharBucket newInstance() {
-				return new CharBucket(bucketSize);
-			}
-		};
+		this.executor = executor;
 
 		finished = false;
 		active = true;
 	}
 
-	private int readBucket() throws IOException, InterruptedException {
-		Entry<CharBucket> bucket = instances.allocate();
-		int length = bucket.get().fill(reader);
+	private static void wake(Thread thread) {
+		if (thread != null) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	private int readBucket() throws IOException {
+		long sequence = published;
+		int spins = 0;
+		while (sequence - released >= buckets.length) {
+			if (!active || Thread.currentThread().isInterrupted()) {
+				return -1;
+			}
+			if (spins < SPIN_LIMIT) {
+				spins++;
+			} else {
+				waitingProducer = Thread.currentThread();
+				if (sequence - released >= buckets.length && active) {
+					LockSupport.parkNanos(this, PARK_TIMEOUT);
+				}
+				waitingProducer = null;
+			}
+		}
+
+		int length = buckets[(int) (sequence % buckets.length)].fill(reader);
 		if (length != -1) {
-			buckets.put(bucket);
-		} else {
-			instances.release(bucket);
+			published = sequence + 1;
+			wake(waitingConsumer);
 		}
 		return length;
 	}
 
+	private boolean awaitBucket(long sequence) {
+		int spins = 0;
+		while (published <= sequence) {
+			if (finished) {
+				return published > sequence;
+			}
+			if (Thread.currentThread().isInterrupted()) {
+				finished = true;
+				return false;
+			}
+			if (spins < SPIN_LIMIT) {
+				spins++;
+			} else {
+				waitingConsumer = Thread.currentThread();
+				if (published <= sequence && !finished) {
+					LockSupport.parkNanos(this, PARK_TIMEOUT);
+				}
+				waitingConsumer = null;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * The {@link CharBucket} loading process that executes in parallel until the input is completely read.
 	 * Once the end of the input is reached, the {@link java.io.Reader} instance provided in the constructor is closed.
@@ -87,18 +148,13 @@ class ConcurrentCharLoader implements Runnable {
 	@Override
 	public void run() {
 		try {
-			try {
-				while (active && readBucket() != -1) ;
-			} finally {
-				buckets.put(end);
-			}
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
+			while (active && readBucket() != -1) ;
 		} catch (Exception e) {
-			finished = true;
 			setError(e);
 		} finally {
-			stopReading();
+			finished = true;
+			wake(waitingConsumer);
+			closeReader();
 		}
 	}
 
@@ -110,16 +166,16 @@ class ConcurrentCharLoader implements Runnable {
 
 	/**
 	 * Returns the next available bucket. Blocks until a bucket is made available or the reading process stops.
+	 * The bucket returned by the previous invocation of this method is released to be filled again by the reading thread.
 	 *
 	 * @return the next available bucket.
 	 */
-	@SuppressWarnings("unchecked")
-	public synchronized CharBucket nextBucket() {
+	public CharBucket nextBucket() {
 		if (activeExecution == null && !finished) {
 			int length = -1;
 			try {
 				length = readBucket();
-				if (length >= 0 && length <= 4) {
+				if (length >= 0 && length <= 4 && buckets.length > 1) {
 					length = readBucket();
 				}
 			} catch (BomInput.BytesProcessedNotification e) {
@@ -129,60 +185,32 @@ class ConcurrentCharLoader implements Runnable {
 			}
 
 			if(length != -1) {
-				activeExecution = new Thread(this, "unVocity-parsers input reading thread");
-				activeExecution.start();
+				activeExecution = executor.submit(this);
 			} else {
 				finished = true;
-				try {
-					buckets.put(end);
-				} catch(InterruptedException e){
-					Thread.currentThread().interrupt();
-				} finally {
-					stopReading();
-				}
+				stopReading();
 			}
 		}
 
-		try {
-			if (finished) {
-				if (buckets.size() <= 1) {
-					return end;
-				}
-			}
-			if (currentBucket != null) {
-				instances.release(currentBucket);
-			}
+		released = consumed;
+		wake(waitingProducer);
 
-			Object element = buckets.take();
-			if (element == end) {
-				finished = true;
-				return end;
-			} else {
-				currentBucket = (Entry<CharBucket>) element;
-			}
-			return currentBucket.get();
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			finished = true;
+		if (!awaitBucket(consumed)) {
 			return end;
 		}
+		return buckets[(int) (consumed++ % buckets.length)];
 	}
 
 	/**
 	 * Stops the {@link CharBucket} loading process and closes the reader provided in the constructor of this class
 	 */
 	public void stopReading() {
-		active = false;
 		try {
-			if(closeOnStop) {
-				reader.close();
-			}
-		} catch (IOException e) {
-			throw new IllegalStateException("Error closing input", e);
+			closeReader();
 		} finally {
 			try {
 				if (activeExecution != null) {
-					activeExecution.interrupt();
+					activeExecution.cancel(true);
 				}
 			} catch (Throwable ex) {
 				throw new IllegalStateException("Error stopping input reader thread", ex);
@@ -190,6 +218,17 @@ class ConcurrentCharLoader implements Runnable {
 		}
 	}
 
+	private void closeReader() {
+		active = false;
+		try {
+			if(closeOnStop) {
+				reader.close();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error closing input", e);
+		}
+	}
+
 	void reportError() {
 		if (error != null) {
 			ArgumentUtils.throwUnchecked(error);
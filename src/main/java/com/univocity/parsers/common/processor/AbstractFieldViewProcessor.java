@@ -13,37 +13,28 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  ******************************************************************************/
-package com.univocity.parsers.common.input.concurrent;
+package com.univocity.parsers.common.processor;
 
-/**
- * An entry used by the {@link FixedInstancePool}
+import com.univocity.parsers.common.*;
 
- * @param <T> the type of this entry.
- *
- * @see FixedInstancePool
+/**
+ * A {@link FieldViewProcessor} implementation that sends every record to {@link #rowProcessed(FieldView, ParsingContext)}. Records received
+ * as {@code String} arrays are wrapped in a {@link FieldView}.
  *
  * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
- *
+ * @see FieldView
  */
-class Entry<T> {
-	final T entry;
-	final int index;
+public abstract class AbstractFieldViewProcessor extends AbstractRowProcessor implements FieldViewProcessor {
 
-	/**
-	 * Creates a new entry with an object and its position in the {@link FixedInstancePool}
-	 * @param entry the value in this entry
-	 * @param index the position of this entry in the {@link FixedInstancePool}
-	 */
-	Entry(T entry, int index) {
-		this.entry = entry;
-		this.index = index;
-	}
+	private FieldView view;
 
-	/**
-	 * Returns the object stored in this  {@link FixedInstancePool} entry.
-	 * @return the object stored in this  {@link FixedInstancePool} entry.
-	 */
-	public T get() {
-		return this.entry;
+	@Override
+	public final void rowProcessed(String[] row, ParsingContext context) {
+		if (view == null) {
+			view = FieldView.of(row);
+		} else {
+			view.update(row);
+		}
+		rowProcessed(view, context);
 	}
 }
@@ -18,10 +18,15 @@ package com.univocity.parsers.common.processor;
 import com.univocity.parsers.common.*;
 import com.univocity.parsers.common.processor.core.*;
 
+import java.util.concurrent.*;
+
 /**
  * A {@link RowProcessor} implementation to perform row processing tasks in parallel. The {@code ConcurrentRowProcessor} wraps another {@link RowProcessor}, and collects rows read from the input.
  * The actual row processing is performed in by wrapped {@link RowProcessor} in a separate thread.
  *
+ * <p>A thread-safe {@link RowProcessor} can also be executed by multiple threads with {@link #setWorkerCount(int)}, in which case order sensitive
+ * steps should be moved to a downstream {@link RowProcessor} given to {@link #setDownstreamProcessor(Processor)}.
+ *
  * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
  * @see AbstractParser
  * @see RowProcessor
@@ -48,6 +53,18 @@ public class ConcurrentRowProcessor extends AbstractConcurrentProcessor<ParsingC
 		super(rowProcessor, limit);
 	}
 
+	/**
+	 * Creates a {@code ConcurrentRowProcessor} that performs the processing of rows parsed from the input using a given {@link ExecutorService}.
+	 *
+	 * @param rowProcessor a regular {@link RowProcessor} implementation which will be executed in a separate thread.
+	 * @param limit        the limit of rows to be kept in memory before the input parsing process is blocked. Use -1 for no limit.
+	 * @param executor     the executor used to run the given {@link RowProcessor}. If {@code null}, the executor returned by
+	 *                     {@link ParserThreads#getSharedExecutor()} will be used. The executor is never shut down by this processor.
+	 */
+	public ConcurrentRowProcessor(RowProcessor rowProcessor, int limit, ExecutorService executor) {
+		super(rowProcessor, limit, executor);
+	}
+
 	@Override
 	protected ParsingContext copyContext(ParsingContext context) {
 		return new ParsingContextSnapshot(context);
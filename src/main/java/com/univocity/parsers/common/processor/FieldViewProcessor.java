@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+
+/**
+ * A {@link RowProcessor} that receives each record parsed from the input as a {@link FieldView}, instead of a {@code String} array.
+ *
+ * <p> When a {@code FieldViewProcessor} is given to {@link CommonParserSettings#setProcessor(com.univocity.parsers.common.processor.core.Processor)},
+ * the parse methods of {@link AbstractParser} will not create a {@code String} for each parsed value. The characters of each value are made
+ * available through a reusable {@link FieldView} instead, which is only valid during the invocation of {@link #rowProcessed(FieldView, ParsingContext)}.
+ * This is useful for filtering, hashing or routing records where most of the parsed values are never used.
+ *
+ * <p> Records that are not produced directly by the parser (e.g. when parsing with {@link AbstractParser#parseNext()}, or when this processor is
+ * wrapped by another processor) are delivered to {@link #rowProcessed(String[], ParsingContext)}. See {@link AbstractFieldViewProcessor} for a
+ * convenience implementation that handles both cases.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see FieldView
+ * @see AbstractFieldViewProcessor
+ */
+public interface FieldViewProcessor extends RowProcessor {
+
+	/**
+	 * Invoked by the parser after all values of a valid record have been parsed.
+	 *
+	 * @param fields  a view over the values of the record, which is only valid until this method returns.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	void rowProcessed(FieldView fields, ParsingContext context);
+}
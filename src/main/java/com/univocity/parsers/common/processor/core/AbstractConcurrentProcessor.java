@@ -18,6 +18,8 @@ package com.univocity.parsers.common.processor.core;
 import com.univocity.parsers.common.*;
 
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
 
 /**
  * A {@link Processor} implementation to perform row processing tasks in parallel. The {@code ConcurrentRowProcessor}
@@ -28,41 +30,80 @@ import java.util.concurrent.*;
  * state of the parser at the time the row as generated, but the current state of the parser instead. You can enable the
  * {@link #contextCopyingEnabled} flag to generate copies of the {@link Context} at the time each row was generated.
  *
+ * <p>Rows are handed over to the processing thread in batches (see {@link #setBatchSize(int)}) through a lock-free queue. Each thread
+ * waits for the other by spinning for a short while, then parks until it is notified (or a short timeout elapses). The number of rows
+ * waiting to be processed and the number of times each side had to wait are available from {@link #getQueueDepth()},
+ * {@link #getProducerStallCount()} and {@link #getConsumerStallCount()}.
+ *
+ * <p>When the wrapped {@link Processor} is expensive (e.g. it performs conversions and validations) it can be executed by multiple
+ * worker threads with {@link #setWorkerCount(int)}. Rows are then handed over to the workers in batches, and each processed row can be
+ * sent to a downstream {@link Processor} (see {@link #setDownstreamProcessor(Processor)}) in the same order they were parsed,
+ * unless ordering is disabled with {@link #setOrderingEnabled(boolean)}.
+ *
  * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
  * @see AbstractParser
  * @see Processor
  */
 public abstract class AbstractConcurrentProcessor<T extends Context> implements Processor<T> {
 
+	private static final int SPIN_LIMIT = 1000;
+	private static final long PARK_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(10);
+
 	private final Processor processor;
 
-	private boolean ended = false;
+	private volatile boolean ended = false;
 
-	private static class Node<T> {
-		public Node(String[] row, T context) {
-			this.row = row;
-			this.context = context;
-		}
+	private static class Batch<T> {
+		final String[][] rows;
+		final Object[] contexts;
+		final CountDownLatch processed = new CountDownLatch(1);
+		int size;
 
-		public final T context;
-		public final String[] row;
-		public Node next;
+		Batch(int size) {
+			rows = new String[size][];
+			contexts = new Object[size];
+		}
 	}
 
-	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private static final Batch END = new Batch(0);
+
+	private final ExecutorService executor;
 	private volatile long rowCount;
 
 	private Future<Void> process;
 
 	private T currentContext;
-	private Node<T> inputQueue;
-	private volatile Node<T> outputQueue;
 	private final int limit;
-	private volatile long input;
-	private volatile long output;
-	private final Object lock;
 	private boolean contextCopyingEnabled = false;
 
+	private int workerCount = 1;
+	private int batchSize = 256;
+	private boolean orderingEnabled = true;
+	private Processor<T> downstreamProcessor;
+
+	private Batch<T> batch;
+	private int currentBatchSize;
+
+	// rows received from the parser. Only updated by the parsing thread.
+	private volatile long input;
+	private volatile long producerStalls;
+	private final AtomicLong consumerStalls = new AtomicLong();
+
+	// single processing thread: lock-free handoff
+	private ConcurrentLinkedQueue<Batch<T>> handoff;
+	private final AtomicInteger queuedBatches = new AtomicInteger();
+	private int capacity;
+	private volatile Thread waitingProducer;
+	private volatile Thread waitingConsumer;
+
+	// multiple workers and/or downstream processor
+	private boolean batching;
+	private BlockingQueue<Batch<T>> workQueue;
+	private BlockingQueue<Batch<T>> sequence;
+	private Semaphore permits;
+	private Future<?>[] tasks;
+	private volatile Throwable error;
+
 	/**
 	 * Creates a non-blocking {@code AbstractConcurrentProcessor}, to perform processing of rows parsed from the input in a separate thread.
 	 *
@@ -79,13 +120,23 @@ public abstract class AbstractConcurrentProcessor<T extends Context> implements
 	 * @param limit     the limit of rows to be kept in memory before blocking the input parsing process.
 	 */
 	public AbstractConcurrentProcessor(Processor<T> processor, int limit) {
+		this(processor, limit, null);
+	}
+
+	/**
+	 * Creates a blocking {@code ConcurrentProcessor}, to perform processing of rows parsed from the input in a separate thread.
+	 *
+	 * @param processor a regular {@link Processor} implementation which will be executed in a separate thread.
+	 * @param limit     the limit of rows to be kept in memory before blocking the input parsing process. Use -1 for no limit.
+	 * @param executor  the executor used to run the given {@link Processor}. If {@code null}, the executor returned by
+	 *                  {@link ParserThreads#getSharedExecutor()} will be used. The executor is never shut down by this processor.
+	 */
+	public AbstractConcurrentProcessor(Processor<T> processor, int limit, ExecutorService executor) {
 		if (processor == null) {
 			throw new IllegalArgumentException("Row processor cannot be null");
 		}
 		this.processor = processor;
-		input = 0;
-		output = 0;
-		lock = new Object();
+		this.executor = executor == null ? ParserThreads.getSharedExecutor() : executor;
 		this.limit = limit;
 	}
 
@@ -117,104 +168,444 @@ public abstract class AbstractConcurrentProcessor<T extends Context> implements
 		this.contextCopyingEnabled = contextCopyingEnabled;
 	}
 
+	/**
+	 * Returns the number of threads that execute the wrapped {@link Processor} given in the constructor of this class.
+	 *
+	 * Defaults to {@code 1}
+	 *
+	 * @return the number of worker threads that process rows concurrently.
+	 */
+	public int getWorkerCount() {
+		return workerCount;
+	}
+
+	/**
+	 * Defines the number of threads that execute the wrapped {@link Processor} given in the constructor of this class. When more than
+	 * one worker is used, rows are distributed in batches (see {@link #setBatchSize(int)}) and the {@link Processor#rowProcessed(String[], Context)}
+	 * method of the wrapped processor will be invoked <b>concurrently</b>, therefore it must be thread-safe. Order sensitive steps should
+	 * be performed by a downstream processor, provided via {@link #setDownstreamProcessor(Processor)}.
+	 *
+	 * <p>All worker threads are obtained from the {@link ExecutorService} given in the constructor of this class, and run for the entire
+	 * duration of the parsing process.</p>
+	 *
+	 * Defaults to {@code 1}
+	 *
+	 * @param workerCount the number of worker threads that process rows concurrently.
+	 */
+	public void setWorkerCount(int workerCount) {
+		if (workerCount < 1) {
+			throw new IllegalArgumentException("Number of workers must be at least 1. Got " + workerCount);
+		}
+		this.workerCount = workerCount;
+	}
+
+	/**
+	 * Returns the number of rows handed over to a processing thread at once.
+	 *
+	 * Defaults to {@code 256}
+	 *
+	 * @return the number of rows processed by a worker in one go.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Defines the number of rows handed over to a processing thread at once. Larger batches reduce the coordination overhead between
+	 * the parser and the processing threads. If the limit of rows to be kept in memory given in the constructor of this class is
+	 * smaller than the batch size, the limit is used as the batch size instead.
+	 *
+	 * Defaults to {@code 256}
+	 *
+	 * @param batchSize the number of rows processed by a worker in one go.
+	 */
+	public void setBatchSize(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("Batch size must be at least 1. Got " + batchSize);
+		}
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Indicates whether rows are sent to the downstream processor in the same order they were parsed from the input.
+	 *
+	 * Defaults to {@code true}
+	 *
+	 * @return flag indicating whether the order of the input is restored before rows reach the downstream processor.
+	 */
+	public boolean isOrderingEnabled() {
+		return orderingEnabled;
+	}
+
+	/**
+	 * Defines whether rows are sent to the downstream processor in the same order they were parsed from the input. When disabled, each
+	 * batch of rows is sent to the downstream processor as soon as a worker finishes processing it, which avoids holding
+	 * processed rows while a slower batch is still being processed.
+	 *
+	 * Defaults to {@code true}
+	 *
+	 * @param orderingEnabled flag indicating whether the order of the input is restored before rows reach the downstream processor.
+	 */
+	public void setOrderingEnabled(boolean orderingEnabled) {
+		this.orderingEnabled = orderingEnabled;
+	}
+
+	/**
+	 * Returns the processor that receives each row after the wrapped {@link Processor} is done with it.
+	 *
+	 * @return the downstream processor, or {@code null} if none has been provided.
+	 */
+	public Processor<T> getDownstreamProcessor() {
+		return downstreamProcessor;
+	}
+
+	/**
+	 * Defines a processor that receives each row after the wrapped {@link Processor} given in the constructor of this class is done
+	 * with it. The downstream processor is never invoked concurrently and, unless {@link #setOrderingEnabled(boolean)} is set
+	 * to {@code false}, receives rows in the same order they were parsed from the input. This allows the expensive work to be executed
+	 * by multiple worker threads while order sensitive steps, such as collecting results into a list or writing them out, remain sequential.
+	 *
+	 * <p>Rows given to the downstream processor are the same arrays the wrapped processor received, so any changes made to them by the
+	 * wrapped processor will be visible.</p>
+	 *
+	 * @param downstreamProcessor the processor that receives rows after the wrapped processor. Use {@code null} to disable.
+	 */
+	public void setDownstreamProcessor(Processor<T> downstreamProcessor) {
+		this.downstreamProcessor = downstreamProcessor;
+	}
+
+	/**
+	 * Returns the number of rows received from the parser that have not been processed yet.
+	 *
+	 * @return the number of rows waiting to be processed.
+	 */
+	public final long getQueueDepth() {
+		return input - rowCount;
+	}
+
+	/**
+	 * Returns how many times the parsing thread had to wait for rows to be processed, in the current (or last) parsing process,
+	 * because the limit of rows kept in memory was reached.
+	 *
+	 * @return the number of times the parsing thread was blocked.
+	 */
+	public final long getProducerStallCount() {
+		return producerStalls;
+	}
+
+	/**
+	 * Returns how many times a processing thread had to wait for the parser to produce more rows, in the current (or last) parsing process.
+	 *
+	 * @return the number of times a processing thread ran out of rows to process.
+	 */
+	public final long getConsumerStallCount() {
+		return consumerStalls.get();
+	}
+
 	@Override
 	public final void processStarted(T context) {
 		currentContext = wrapContext(context);
 
 		processor.processStarted(currentContext);
 
-		startProcess();
+		rowCount = 0;
+		input = 0;
+		producerStalls = 0;
+		consumerStalls.set(0);
+		error = null;
+
+		batching = workerCount > 1 || downstreamProcessor != null;
+		if (batching) {
+			if (downstreamProcessor != null) {
+				downstreamProcessor.processStarted(currentContext);
+			}
+			startWorkers();
+		} else {
+			startProcess();
+		}
 	}
 
-	private void startProcess() {
-		ended = false;
-		rowCount = 0;
+	private void startWorkers() {
+		currentBatchSize = batchSize;
+		batch = new Batch<T>(currentBatchSize);
 
-		process = executor.submit(new Callable<Void>() {
+		int inFlight = workerCount * 2;
+		if (limit > 0) {
+			inFlight = Math.max(inFlight, limit / batchSize);
+		}
+		permits = new Semaphore(inFlight);
+		workQueue = new LinkedBlockingQueue<Batch<T>>();
+
+		final boolean sequencing = downstreamProcessor != null && orderingEnabled;
+		sequence = sequencing ? new LinkedBlockingQueue<Batch<T>>() : null;
+
+		tasks = new Future<?>[workerCount + (sequencing ? 1 : 0)];
+		for (int i = 0; i < workerCount; i++) {
+			tasks[i] = executor.submit(new Callable<Void>() {
+				@Override
+				public Void call() throws InterruptedException {
+					Batch<T> batch;
+					while ((batch = takeWork()) != END) {
+						try {
+							if (error == null) {
+								for (int i = 0; i < batch.size; i++) {
+									processor.rowProcessed(batch.rows[i], (T) batch.contexts[i]);
+								}
+							}
+						} catch (Throwable t) {
+							error = t;
+						} finally {
+							batch.processed.countDown();
+						}
+						if (!sequencing) {
+							deliver(batch);
+						}
+					}
+					return null;
+				}
+			});
+		}
 
-			@Override
-			public Void call() {
-				while (outputQueue == null && !ended) {
-					Thread.yield();
+		if (sequencing) {
+			tasks[workerCount] = executor.submit(new Callable<Void>() {
+				@Override
+				public Void call() throws InterruptedException {
+					Batch<T> batch;
+					while ((batch = sequence.take()) != END) {
+						batch.processed.await();
+						deliver(batch);
+					}
+					return null;
 				}
+			});
+		}
+	}
+
+	private Batch<T> takeWork() throws InterruptedException {
+		Batch<T> batch = workQueue.poll();
+		if (batch == null) {
+			consumerStalls.incrementAndGet();
+			batch = workQueue.take();
+		}
+		return batch;
+	}
 
-				while (!ended) {
+	private void deliver(Batch<T> batch) {
+		try {
+			synchronized (this) {
+				if (downstreamProcessor == null) {
+					rowCount += batch.size;
+					return;
+				}
+				for (int i = 0; i < batch.size && error == null; i++) {
 					rowCount++;
+					try {
+						downstreamProcessor.rowProcessed(batch.rows[i], (T) batch.contexts[i]);
+					} catch (Throwable t) {
+						error = t;
+					}
+				}
+			}
+		} finally {
+			permits.release();
+		}
+	}
+
+	private void dispatch() {
+		try {
+			if (!permits.tryAcquire()) {
+				producerStalls++;
+				permits.acquire();
+			}
+			if (sequence != null) {
+				sequence.put(batch);
+			}
+			workQueue.put(batch);
+		} catch (InterruptedException e) {
+			// rows of this batch and the following ones would be lost, so the process can't go on
+			cancelWorkers();
+			Thread.currentThread().interrupt();
+			throw new DataProcessingException("Interrupted while handing rows over to the worker threads", e);
+		}
+		batch = new Batch<T>(currentBatchSize);
+	}
 
+	private void cancelWorkers() {
+		for (Future<?> task : tasks) {
+			task.cancel(true);
+		}
+	}
 
-					processor.rowProcessed(outputQueue.row, outputQueue.context);
-					while (outputQueue.next == null) {
-						if (ended && outputQueue.next == null) {
-							return null;
+	private static void wake(Thread thread) {
+		if (thread != null) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	private void startProcess() {
+		ended = false;
+		currentBatchSize = limit > 1 ? Math.min(batchSize, limit) : batchSize;
+		capacity = limit > 1 ? Math.max(1, limit / currentBatchSize) : -1;
+		batch = new Batch<T>(currentBatchSize);
+		handoff = new ConcurrentLinkedQueue<Batch<T>>();
+		queuedBatches.set(0);
+
+		process = executor.submit(new Callable<Void>() {
+
+			@Override
+			public Void call() {
+				while (true) {
+					Batch<T> batch = handoff.poll();
+					if (batch == null) {
+						if (awaitBatch()) {
+							continue;
 						}
-						Thread.yield();
+						return null;
 					}
-					outputQueue = outputQueue.next;
-					output++;
-					if (limit > 1) {
-						synchronized (lock) {
-							lock.notify();
-						}
+					for (int i = 0; i < batch.size; i++) {
+						rowCount++;
+						processor.rowProcessed(batch.rows[i], (T) batch.contexts[i]);
 					}
+					queuedBatches.decrementAndGet();
+					wake(waitingProducer);
 				}
+			}
 
-				while (outputQueue != null) {
-					rowCount++;
-					processor.rowProcessed(outputQueue.row, outputQueue.context);
-					outputQueue = outputQueue.next;
+		});
+	}
+
+	private boolean awaitBatch() {
+		consumerStalls.incrementAndGet();
+		int spins = 0;
+		while (handoff.isEmpty()) {
+			if (ended) {
+				return !handoff.isEmpty();
+			}
+			if (Thread.currentThread().isInterrupted()) {
+				return false;
+			}
+			if (spins < SPIN_LIMIT) {
+				spins++;
+			} else {
+				waitingConsumer = Thread.currentThread();
+				if (handoff.isEmpty() && !ended) {
+					LockSupport.parkNanos(this, PARK_TIMEOUT);
 				}
+				waitingConsumer = null;
+			}
+		}
+		return true;
+	}
 
-				return null;
+	private void awaitCapacity() {
+		producerStalls++;
+		int spins = 0;
+		while (queuedBatches.get() >= capacity) {
+			if (process.isDone()) {
+				awaitProcess();
+				return;
+			}
+			if (Thread.currentThread().isInterrupted()) {
+				return;
 			}
+			if (spins < SPIN_LIMIT) {
+				spins++;
+			} else {
+				waitingProducer = Thread.currentThread();
+				if (queuedBatches.get() >= capacity) {
+					LockSupport.parkNanos(this, PARK_TIMEOUT);
+				}
+				waitingProducer = null;
+			}
+		}
+	}
 
-		});
+	private void publish() {
+		if (capacity > 0 && queuedBatches.get() >= capacity) {
+			awaitCapacity();
+		}
+		queuedBatches.incrementAndGet();
+		handoff.offer(batch);
+		wake(waitingConsumer);
+		batch = new Batch<T>(currentBatchSize);
+	}
+
+	private void awaitProcess() {
+		try {
+			process.get();
+		} catch (ExecutionException e) {
+			throw new DataProcessingException("Error executing process", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
 	}
 
 	@Override
 	public final void rowProcessed(String[] row, T context) {
-		if (inputQueue == null) {
-			inputQueue = new Node(row, grabContext(context));
-			outputQueue = inputQueue;
-		} else {
-			if (limit > 1) {
-				synchronized (lock) {
-					try {
-						if (input - output >= limit) {
-							lock.wait();
-						}
-					} catch (InterruptedException e) {
-						ended = true;
-						Thread.currentThread().interrupt();
-						return;
-					}
-				}
-			}
-			inputQueue.next = new Node(row, grabContext(context));
-			inputQueue = inputQueue.next;
+		if (error != null) {
+			throw new DataProcessingException("Error executing process", error);
 		}
+		batch.rows[batch.size] = row;
+		batch.contexts[batch.size] = grabContext(context);
 		input++;
+		if (++batch.size == currentBatchSize) {
+			if (batching) {
+				dispatch();
+			} else {
+				publish();
+			}
+		}
 	}
 
 	@Override
 	public final void processEnded(T context) {
-		ended = true;
-		if (limit > 1) {
-			synchronized (lock) {
-				lock.notify();
+		if (batching) {
+			endWorkers(context);
+			return;
+		}
+		try {
+			if (batch.size > 0) {
+				handoff.offer(batch);
+				queuedBatches.incrementAndGet();
 			}
+			ended = true;
+			wake(waitingConsumer);
+			awaitProcess();
+		} finally {
+			processor.processEnded(grabContext(context));
 		}
+	}
 
+	private void endWorkers(T context) {
 		try {
-			process.get();
+			if (batch.size > 0) {
+				dispatch();
+			}
+			for (int i = 0; i < workerCount; i++) {
+				workQueue.put(END);
+			}
+			if (sequence != null) {
+				sequence.put(END);
+			}
+			for (Future<?> task : tasks) {
+				task.get();
+			}
+			if (error != null) {
+				throw new DataProcessingException("Error executing process", error);
+			}
 		} catch (ExecutionException e) {
 			throw new DataProcessingException("Error executing process", e);
 		} catch (InterruptedException e) {
+			cancelWorkers();
 			Thread.currentThread().interrupt();
 		} finally {
+			T ctx = grabContext(context);
 			try {
-				processor.processEnded(grabContext(context));
-			} finally{
-				executor.shutdown();
+				processor.processEnded(ctx);
+			} finally {
+				if (downstreamProcessor != null) {
+					downstreamProcessor.processEnded(ctx);
+				}
 			}
 		}
 	}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.record;
+
+import com.univocity.parsers.common.*;
+
+/**
+ * A {@link Record} that keeps the characters of all values of a parsed record in a compact {@link FieldView}, and only creates
+ * a {@code String} for the values that are actually read. Values are cached once created.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+class LazyRecordImpl<C extends Context> extends RecordImpl<C> {
+
+	private FieldView fields;
+
+	LazyRecordImpl(FieldView fields, RecordMetaDataImpl metaData) {
+		super(new String[fields.getFieldCount()], metaData);
+		this.fields = fields;
+	}
+
+	@Override
+	String value(int index) {
+		String value = data[index];
+		if (value == null && fields != null) {
+			value = fields.toString(index);
+			data[index] = value;
+		}
+		return value;
+	}
+
+	@Override
+	public String[] getValues() {
+		if (fields != null) {
+			for (int i = 0; i < data.length; i++) {
+				if (data[i] == null) {
+					data[i] = fields.toString(i);
+				}
+			}
+			//all values are available now.
+			fields = null;
+		}
+		return data;
+	}
+}
@@ -45,6 +45,19 @@ public class RecordFactory extends AbstractRecordFactory<Record, RecordMetaDataI
 		return new RecordImpl(data, metaData);
 	}
 
+	/**
+	 * Creates a new {@link Record} with the values of a row parsed from the input, as collected in a {@link FieldView}.
+	 * The characters of the row are copied into a compact buffer and a {@code String} is only created for the values that are read
+	 * from the resulting {@link Record}.
+	 *
+	 * @param fields a view over the values of the row parsed from the input
+	 *
+	 * @return a {@link Record} that provides many utility methods for consuming the data collected for a record parsed from the input.
+	 */
+	public Record newRecord(FieldView fields) {
+		return new LazyRecordImpl(fields.copy(), metaData);
+	}
+
 	@Override
 	public RecordMetaDataImpl createMetaData(Context context) {
 		return new RecordMetaDataImpl(context);
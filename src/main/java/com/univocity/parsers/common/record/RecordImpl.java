@@ -21,7 +21,7 @@ import java.util.*;
 
 class RecordImpl<C extends Context> implements Record {
 
-	private final String[] data;
+	final String[] data;
 	private final RecordMetaDataImpl<C> metaData;
 
 	RecordImpl(String[] data, RecordMetaDataImpl metaData) {
@@ -29,6 +29,26 @@ class RecordImpl<C extends Context> implements Record {
 		this.metaData = metaData;
 	}
 
+	/**
+	 * Returns the value at the given position of this record.
+	 *
+	 * @param index the position of the value
+	 *
+	 * @return the value at the given position.
+	 */
+	String value(int index) {
+		return data[index];
+	}
+
+	/**
+	 * Returns the number of values in this record.
+	 *
+	 * @return the number of values in this record.
+	 */
+	int length() {
+		return data.length;
+	}
+
 	@Override
 	public RecordMetaData getMetaData() {
 		return metaData;
@@ -41,101 +61,101 @@ class RecordImpl<C extends Context> implements Record {
 
 	@Override
 	public <T> T getValue(String headerName, Class<T> expectedType) {
-		return metaData.getObjectValue(data, headerName, expectedType, null);
+		return metaData.getObjectValue(this, headerName, expectedType, null);
 	}
 
 	@Override
 	public <T> T getValue(Enum<?> column, Class<T> expectedType) {
-		return metaData.getObjectValue(data, column, expectedType, null);
+		return metaData.getObjectValue(this, column, expectedType, null);
 	}
 
 	@Override
 	public <T> T getValue(int columnIndex, Class<T> expectedType) {
-		return metaData.getObjectValue(data, columnIndex, expectedType, null);
+		return metaData.getObjectValue(this, columnIndex, expectedType, null);
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public <T> T getValue(String headerName, Class<T> expectedType, Conversion... conversions) {
-		return metaData.getValue(data, headerName, expectedType, conversions);
+		return metaData.getValue(this, headerName, expectedType, conversions);
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public <T> T getValue(Enum<?> column, Class<T> expectedType, Conversion... conversions) {
-		return metaData.getValue(data, column, expectedType, conversions);
+		return metaData.getValue(this, column, expectedType, conversions);
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public <T> T getValue(int columnIndex, Class<T> expectedType, Conversion... conversions) {
-		return metaData.getValue(data, columnIndex, expectedType, conversions);
+		return metaData.getValue(this, columnIndex, expectedType, conversions);
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T getValue(String headerName, T defaultValue) {
-		return metaData.getObjectValue(data, headerName, (Class<T>) defaultValue.getClass(), defaultValue);
+		return metaData.getObjectValue(this, headerName, (Class<T>) defaultValue.getClass(), defaultValue);
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T getValue(Enum<?> column, T defaultValue) {
-		return metaData.getObjectValue(data, column, (Class<T>) defaultValue.getClass(), defaultValue);
+		return metaData.getObjectValue(this, column, (Class<T>) defaultValue.getClass(), defaultValue);
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T getValue(int columnIndex, T defaultValue) {
-		return metaData.getObjectValue(data, columnIndex, (Class<T>) defaultValue.getClass(), defaultValue);
+		return metaData.getObjectValue(this, columnIndex, (Class<T>) defaultValue.getClass(), defaultValue);
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public <T> T getValue(String headerName, T defaultValue, Conversion... conversions) {
-		return metaData.getValue(data, headerName, defaultValue, conversions);
+		return metaData.getValue(this, headerName, defaultValue, conversions);
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public <T> T getValue(Enum<?> column, T defaultValue, Conversion... conversions) {
-		return metaData.getValue(data, column, defaultValue, conversions);
+		return metaData.getValue(this, column, defaultValue, conversions);
 	}
 
 	@SuppressWarnings("rawtypes")
 	@Override
 	public <T> T getValue(int columnIndex, T defaultValue, Conversion... conversions) {
-		return metaData.getValue(data, columnIndex, defaultValue, conversions);
+		return metaData.getValue(this, columnIndex, defaultValue, conversions);
 	}
 
 	@Override
 	public String getString(String headerName) {
-		return metaData.getObjectValue(data, headerName, String.class, null);
+		return metaData.getObjectValue(this, headerName, String.class, null);
 	}
 
 	@Override
 	public String getString(Enum<?> column) {
-		return metaData.getObjectValue(data, column, String.class, null);
+		return metaData.getObjectValue(this, column, String.class, null);
 	}
 
 	@Override
 	public String getString(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, String.class, null);
+		return metaData.getObjectValue(this, columnIndex, String.class, null);
 	}
 
 	@Override
 	public String getString(String headerName, int maxLength) {
-		return truncate(metaData.getValue(data, headerName), maxLength);
+		return truncate(metaData.getValue(this, headerName), maxLength);
 	}
 
 	@Override
 	public String getString(Enum<?> column, int maxLength) {
-		return truncate(metaData.getValue(data, column), maxLength);
+		return truncate(metaData.getValue(this, column), maxLength);
 	}
 
 	@Override
 	public String getString(int columnIndex, int maxLength) {
-		return truncate(metaData.getValue(data, columnIndex), maxLength);
+		return truncate(metaData.getValue(this, columnIndex), maxLength);
 	}
 
 	private String truncate(String string, int maxLength) {
@@ -153,197 +173,197 @@ class RecordImpl<C extends Context> implements Record {
 
 	@Override
 	public Byte getByte(String headerName, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, headerName, Byte.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, headerName, Byte.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Byte getByte(Enum<?> column, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, column, Byte.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, column, Byte.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Byte getByte(int columnIndex, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, columnIndex, Byte.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, columnIndex, Byte.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Short getShort(String headerName, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, headerName, Short.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, headerName, Short.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Short getShort(Enum<?> column, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, column, Short.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, column, Short.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Short getShort(int columnIndex, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, columnIndex, Short.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, columnIndex, Short.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Integer getInt(String headerName, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, headerName, Integer.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, headerName, Integer.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Integer getInt(Enum<?> column, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, column, Integer.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, column, Integer.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Integer getInt(int columnIndex, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, columnIndex, Integer.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, columnIndex, Integer.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Long getLong(String headerName, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, headerName, Long.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, headerName, Long.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Long getLong(Enum<?> column, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, column, Long.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, column, Long.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Long getLong(int columnIndex, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, columnIndex, Long.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, columnIndex, Long.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Float getFloat(String headerName, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, headerName, Float.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, headerName, Float.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Float getFloat(Enum<?> column, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, column, Float.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, column, Float.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Float getFloat(int columnIndex, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, columnIndex, Float.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, columnIndex, Float.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Double getDouble(String headerName, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, headerName, Double.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, headerName, Double.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Double getDouble(Enum<?> column, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, column, Double.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, column, Double.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Double getDouble(int columnIndex, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, columnIndex, Double.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, columnIndex, Double.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Character getChar(String headerName) {
-		return metaData.getObjectValue(data, headerName, Character.class, null);
+		return metaData.getObjectValue(this, headerName, Character.class, null);
 	}
 
 	@Override
 	public Character getChar(Enum<?> column) {
-		return metaData.getObjectValue(data, column, Character.class, null);
+		return metaData.getObjectValue(this, column, Character.class, null);
 	}
 
 	@Override
 	public Character getChar(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, Character.class, null);
+		return metaData.getObjectValue(this, columnIndex, Character.class, null);
 	}
 
 	@Override
 	public Boolean getBoolean(String headerName) {
-		return metaData.getObjectValue(data, headerName, Boolean.class, null);
+		return metaData.getObjectValue(this, headerName, Boolean.class, null);
 	}
 
 	@Override
 	public Boolean getBoolean(Enum<?> column) {
-		return metaData.getObjectValue(data, column, Boolean.class, null);
+		return metaData.getObjectValue(this, column, Boolean.class, null);
 	}
 
 	@Override
 	public Boolean getBoolean(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, Boolean.class, null);
+		return metaData.getObjectValue(this, columnIndex, Boolean.class, null);
 	}
 
 	@Override
 	public Boolean getBoolean(String headerName, String trueString, String falseString) {
-		return metaData.getObjectValue(data, headerName, Boolean.class, false, trueString, falseString);
+		return metaData.getObjectValue(this, headerName, Boolean.class, false, trueString, falseString);
 	}
 
 	@Override
 	public Boolean getBoolean(Enum<?> column, String trueString, String falseString) {
-		return metaData.getObjectValue(data, column, Boolean.class, false, trueString, falseString);
+		return metaData.getObjectValue(this, column, Boolean.class, false, trueString, falseString);
 	}
 
 	@Override
 	public Boolean getBoolean(int columnIndex, String trueString, String falseString) {
-		return metaData.getObjectValue(data, columnIndex, Boolean.class, false, trueString, falseString);
+		return metaData.getObjectValue(this, columnIndex, Boolean.class, false, trueString, falseString);
 	}
 
 	@Override
 	public BigInteger getBigInteger(String headerName, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, headerName, BigInteger.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, headerName, BigInteger.class, null, format, formatOptions);
 	}
 
 	@Override
 	public BigInteger getBigInteger(Enum<?> column, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, column, BigInteger.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, column, BigInteger.class, null, format, formatOptions);
 	}
 
 	@Override
 	public BigInteger getBigInteger(int columnIndex, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, columnIndex, BigInteger.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, columnIndex, BigInteger.class, null, format, formatOptions);
 	}
 
 	@Override
 	public BigDecimal getBigDecimal(String headerName, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, headerName, BigDecimal.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, headerName, BigDecimal.class, null, format, formatOptions);
 	}
 
 	@Override
 	public BigDecimal getBigDecimal(Enum<?> column, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, column, BigDecimal.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, column, BigDecimal.class, null, format, formatOptions);
 	}
 
 	@Override
 	public BigDecimal getBigDecimal(int columnIndex, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, columnIndex, BigDecimal.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, columnIndex, BigDecimal.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Date getDate(String headerName, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, headerName, Date.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, headerName, Date.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Date getDate(Enum<?> column, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, column, Date.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, column, Date.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Date getDate(int columnIndex, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, columnIndex, Date.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, columnIndex, Date.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Calendar getCalendar(String headerName, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, headerName, Calendar.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, headerName, Calendar.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Calendar getCalendar(Enum<?> column, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, column, Calendar.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, column, Calendar.class, null, format, formatOptions);
 	}
 
 	@Override
 	public Calendar getCalendar(int columnIndex, String format, String... formatOptions) {
-		return metaData.getObjectValue(data, columnIndex, Calendar.class, null, format, formatOptions);
+		return metaData.getObjectValue(this, columnIndex, Calendar.class, null, format, formatOptions);
 	}
 
 
@@ -356,8 +376,8 @@ class RecordImpl<C extends Context> implements Record {
 
 	private int[] buildSelection(int[] selectedIndexes) {
 		if (selectedIndexes.length == 0) {
-			selectedIndexes = new int[data.length];
-			for (int i = 0; i < data.length; i++) {
+			selectedIndexes = new int[length()];
+			for (int i = 0; i < selectedIndexes.length; i++) {
 				selectedIndexes[i] = i;
 			}
 		}
@@ -432,7 +452,7 @@ class RecordImpl<C extends Context> implements Record {
 	public Map<String, Object> fillFieldObjectMap(Map<String, Object> map, String... selectedFields) {
 		selectedFields = buildSelection(selectedFields);
 		for (int i = 0; i < selectedFields.length; i++) {
-			map.put(selectedFields[i], metaData.getObjectValue(data, selectedFields[i], null, null));
+			map.put(selectedFields[i], metaData.getObjectValue(this, selectedFields[i], null, null));
 		}
 		return map;
 	}
@@ -441,7 +461,7 @@ class RecordImpl<C extends Context> implements Record {
 	public Map<Integer, Object> fillIndexObjectMap(Map<Integer, Object> map, int... selectedIndexes) {
 		selectedIndexes = buildSelection(selectedIndexes);
 		for (int i = 0; i < selectedIndexes.length; i++) {
-			map.put(selectedIndexes[i], metaData.getObjectValue(data, selectedIndexes[i], null, null));
+			map.put(selectedIndexes[i], metaData.getObjectValue(this, selectedIndexes[i], null, null));
 		}
 		return map;
 	}
@@ -450,162 +470,163 @@ class RecordImpl<C extends Context> implements Record {
 	public <T extends Enum<T>> Map<T, Object> fillEnumObjectMap(Map<T, Object> map, T... selectedColumns) {
 		selectedColumns = buildSelection((Class<T>) selectedColumns.getClass().getComponentType(), selectedColumns);
 		for (int i = 0; i < selectedColumns.length; i++) {
-			map.put(selectedColumns[i], metaData.getObjectValue(data, selectedColumns[i], null, null));
+			map.put(selectedColumns[i], metaData.getObjectValue(this, selectedColumns[i], null, null));
 		}
 		return map;
 	}
 
 	@Override
 	public BigInteger getBigInteger(String headerName) {
-		return metaData.getObjectValue(data, headerName, BigInteger.class, null);
+		return metaData.getObjectValue(this, headerName, BigInteger.class, null);
 	}
 
 	@Override
 	public BigInteger getBigInteger(Enum<?> column) {
-		return metaData.getObjectValue(data, column, BigInteger.class, null);
+		return metaData.getObjectValue(this, column, BigInteger.class, null);
 	}
 
 	@Override
 	public BigInteger getBigInteger(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, BigInteger.class, null);
+		return metaData.getObjectValue(this, columnIndex, BigInteger.class, null);
 	}
 
 	@Override
 	public BigDecimal getBigDecimal(String headerName) {
-		return metaData.getObjectValue(data, headerName, BigDecimal.class, null);
+		return metaData.getObjectValue(this, headerName, BigDecimal.class, null);
 	}
 
 	@Override
 	public BigDecimal getBigDecimal(Enum<?> column) {
-		return metaData.getObjectValue(data, column, BigDecimal.class, null);
+		return metaData.getObjectValue(this, column, BigDecimal.class, null);
 	}
 
 	@Override
 	public BigDecimal getBigDecimal(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, BigDecimal.class, null);
+		return metaData.getObjectValue(this, columnIndex, BigDecimal.class, null);
 	}
 
 	@Override
 	public Byte getByte(String headerName) {
-		return metaData.getObjectValue(data, headerName, Byte.class, null);
+		return metaData.getObjectValue(this, headerName, Byte.class, null);
 	}
 
 	@Override
 	public Byte getByte(Enum<?> column) {
-		return metaData.getObjectValue(data, column, Byte.class, null);
+		return metaData.getObjectValue(this, column, Byte.class, null);
 	}
 
 	@Override
 	public Byte getByte(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, Byte.class, null);
+		return metaData.getObjectValue(this, columnIndex, Byte.class, null);
 	}
 
 	@Override
 	public Short getShort(String headerName) {
-		return metaData.getObjectValue(data, headerName, Short.class, null);
+		return metaData.getObjectValue(this, headerName, Short.class, null);
 	}
 
 	@Override
 	public Short getShort(Enum<?> column) {
-		return metaData.getObjectValue(data, column, Short.class, null);
+		return metaData.getObjectValue(this, column, Short.class, null);
 	}
 
 	@Override
 	public Short getShort(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, Short.class, null);
+		return metaData.getObjectValue(this, columnIndex, Short.class, null);
 	}
 
 	@Override
 	public Integer getInt(String headerName) {
-		return metaData.getObjectValue(data, headerName, Integer.class, null);
+		return metaData.getObjectValue(this, headerName, Integer.class, null);
 	}
 
 	@Override
 	public Integer getInt(Enum<?> column) {
-		return metaData.getObjectValue(data, column, Integer.class, null);
+		return metaData.getObjectValue(this, column, Integer.class, null);
 	}
 
 	@Override
 	public Integer getInt(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, Integer.class, null);
+		return metaData.getObjectValue(this, columnIndex, Integer.class, null);
 	}
 
 	@Override
 	public Long getLong(String headerName) {
-		return metaData.getObjectValue(data, headerName, Long.class, null);
+		return metaData.getObjectValue(this, headerName, Long.class, null);
 	}
 
 	@Override
 	public Long getLong(Enum<?> column) {
-		return metaData.getObjectValue(data, column, Long.class, null);
+		return metaData.getObjectValue(this, column, Long.class, null);
 	}
 
 	@Override
 	public Long getLong(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, Long.class, null);
+		return metaData.getObjectValue(this, columnIndex, Long.class, null);
 	}
 
 	@Override
 	public Float getFloat(String headerName) {
-		return metaData.getObjectValue(data, headerName, Float.class, null);
+		return metaData.getObjectValue(this, headerName, Float.class, null);
 	}
 
 	@Override
 	public Float getFloat(Enum<?> column) {
-		return metaData.getObjectValue(data, column, Float.class, null);
+		return metaData.getObjectValue(this, column, Float.class, null);
 	}
 
 	@Override
 	public Float getFloat(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, Float.class, null);
+		return metaData.getObjectValue(this, columnIndex, Float.class, null);
 	}
 
 	@Override
 	public Double getDouble(String headerName) {
-		return metaData.getObjectValue(data, headerName, Double.class, null);
+		return metaData.getObjectValue(this, headerName, Double.class, null);
 	}
 
 	@Override
 	public Double getDouble(Enum<?> column) {
-		return metaData.getObjectValue(data, column, Double.class, null);
+		return metaData.getObjectValue(this, column, Double.class, null);
 	}
 
 	@Override
 	public Double getDouble(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, Double.class, null);
+		return metaData.getObjectValue(this, columnIndex, Double.class, null);
 	}
 
 	@Override
 	public Date getDate(String headerName) {
-		return metaData.getObjectValue(data, headerName, Date.class, null);
+		return metaData.getObjectValue(this, headerName, Date.class, null);
 	}
 
 	@Override
 	public Date getDate(Enum<?> column) {
-		return metaData.getObjectValue(data, column, Date.class, null);
+		return metaData.getObjectValue(this, column, Date.class, null);
 	}
 
 	@Override
 	public Date getDate(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, Date.class, null);
+		return metaData.getObjectValue(this, columnIndex, Date.class, null);
 	}
 
 	@Override
 	public Calendar getCalendar(String headerName) {
-		return metaData.getObjectValue(data, headerName, Calendar.class, null);
+		return metaData.getObjectValue(this, headerName, Calendar.class, null);
 	}
 
 	@Override
 	public Calendar getCalendar(Enum<?> column) {
-		return metaData.getObjectValue(data, column, Calendar.class, null);
+		return metaData.getObjectValue(this, column, Calendar.class, null);
 	}
 
 	@Override
 	public Calendar getCalendar(int columnIndex) {
-		return metaData.getObjectValue(data, columnIndex, Calendar.class, null);
+		return metaData.getObjectValue(this, columnIndex, Calendar.class, null);
 	}
 
 	public String toString() {
+		String[] data = getValues();
 		if (data == null) {
 			return "null";
 		}
@@ -630,7 +651,7 @@ class RecordImpl<C extends Context> implements Record {
 
 	@Override
 	public int hashCode() {
-		return Arrays.hashCode(data);
+		return Arrays.hashCode(getValues());
 	}
 
 	@Override
@@ -213,38 +213,38 @@ class RecordMetaDataImpl<C extends Context> implements RecordMetaData {
 		return context.selectedHeaders();
 	}
 
-	String getValue(String[] data, String headerName) {
+	String getValue(RecordImpl<?> record, String headerName) {
 		MetaData md = metadataOf(headerName);
-		if (md.index >= data.length) {
+		if (md.index >= record.length()) {
 			return null;
 		}
-		return data[md.index];
+		return record.value(md.index);
 	}
 
-	String getValue(String[] data, int columnIndex) {
+	String getValue(RecordImpl<?> record, int columnIndex) {
 		MetaData md = metadataOf(columnIndex);
-		return data[md.index];
+		return record.value(md.index);
 	}
 
-	String getValue(String[] data, Enum<?> column) {
+	String getValue(RecordImpl<?> record, Enum<?> column) {
 		MetaData md = metadataOf(column);
-		return data[md.index];
+		return record.value(md.index);
 	}
 
 	@SuppressWarnings("rawtypes")
-	private <T> T convert(MetaData md, String[] data, Class<T> expectedType, Conversion[] conversions) {
-		return expectedType.cast(convert(md, data, conversions));
+	private <T> T convert(MetaData md, RecordImpl<?> record, Class<T> expectedType, Conversion[] conversions) {
+		return expectedType.cast(convert(md, record, conversions));
 	}
 
 	@SuppressWarnings("rawtypes")
-	private Object convert(MetaData md, String[] data, Object defaultValue, Conversion[] conversions) {
-		Object out = convert(md, data, conversions);
+	private Object convert(MetaData md, RecordImpl<?> record, Object defaultValue, Conversion[] conversions) {
+		Object out = convert(md, record, conversions);
 		return out == null ? defaultValue : out;
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	private static Object convert(MetaData md, String[] data, Conversion[] conversions) {
-		Object out = data[md.index];
+	private static Object convert(MetaData md, RecordImpl<?> record, Conversion[] conversions) {
+		Object out = record.value(md.index);
 		for (int i = 0; i < conversions.length; i++) {
 			out = conversions[i].execute(out);
 		}
@@ -252,45 +252,45 @@ class RecordMetaDataImpl<C extends Context> implements RecordMetaData {
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	<T> T getValue(String[] data, String headerName, T defaultValue, Conversion[] conversions) {
-		return (T) convert(metadataOf(headerName), data, defaultValue, conversions);
+	<T> T getValue(RecordImpl<?> record, String headerName, T defaultValue, Conversion[] conversions) {
+		return (T) convert(metadataOf(headerName), record, defaultValue, conversions);
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	<T> T getValue(String[] data, int columnIndex, T defaultValue, Conversion[] conversions) {
-		return (T) convert(metadataOf(columnIndex), data, defaultValue, conversions);
+	<T> T getValue(RecordImpl<?> record, int columnIndex, T defaultValue, Conversion[] conversions) {
+		return (T) convert(metadataOf(columnIndex), record, defaultValue, conversions);
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	<T> T getValue(String[] data, Enum<?> column, T defaultValue, Conversion[] conversions) {
-		return (T) convert(metadataOf(column), data, defaultValue, conversions);
+	<T> T getValue(RecordImpl<?> record, Enum<?> column, T defaultValue, Conversion[] conversions) {
+		return (T) convert(metadataOf(column), record, defaultValue, conversions);
 	}
 
 	@SuppressWarnings("rawtypes")
-	<T> T getValue(String[] data, String headerName, Class<T> expectedType, Conversion[] conversions) {
-		return convert(metadataOf(headerName), data, expectedType, conversions);
+	<T> T getValue(RecordImpl<?> record, String headerName, Class<T> expectedType, Conversion[] conversions) {
+		return convert(metadataOf(headerName), record, expectedType, conversions);
 	}
 
 	@SuppressWarnings("rawtypes")
-	<T> T getValue(String[] data, int columnIndex, Class<T> expectedType, Conversion[] conversions) {
-		return convert(metadataOf(columnIndex), data, expectedType, conversions);
+	<T> T getValue(RecordImpl<?> record, int columnIndex, Class<T> expectedType, Conversion[] conversions) {
+		return convert(metadataOf(columnIndex), record, expectedType, conversions);
 	}
 
 	@SuppressWarnings("rawtypes")
-	<T> T getValue(String[] data, Enum<?> column, Class<T> expectedType, Conversion[] conversions) {
-		return convert(metadataOf(column), data, expectedType, conversions);
+	<T> T getValue(RecordImpl<?> record, Enum<?> column, Class<T> expectedType, Conversion[] conversions) {
+		return convert(metadataOf(column), record, expectedType, conversions);
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	private <T> T convert(MetaData md, String[] data, Class<T> type, T defaultValue, Annotation annotation) {
-		Object out = md.index < data.length ? data[md.index] : null;
+	private <T> T convert(MetaData md, RecordImpl<?> record, Class<T> type, T defaultValue, Annotation annotation) {
+		Object out = md.index < record.length() ? record.value(md.index) : null;
 
 		if (out == null) {
 			out = defaultValue == null ? md.defaultValue : defaultValue;
 		}
 
 		if (annotation == null) {
-			initializeMetadataConversions(data, md);
+			initializeMetadataConversions(record, md);
 			out = md.convert(out);
 
 			if (out == null) {
@@ -327,7 +327,7 @@ class RecordMetaDataImpl<C extends Context> implements RecordMetaData {
 					if(out == null){
 						return null;
 					}
-					return (T) (md.index < data.length ? data[md.index] : null);
+					return (T) (md.index < record.length() ? record.value(md.index) : null);
 				}
 				String message = "";
 				if (type == Date.class || type == Calendar.class) {
@@ -356,13 +356,13 @@ class RecordMetaDataImpl<C extends Context> implements RecordMetaData {
 		}
 	}
 
-	private void initializeMetadataConversions(String[] data, MetaData md) {
+	private void initializeMetadataConversions(RecordImpl<?> record, MetaData md) {
 		if (conversions != null) {
 			synchronized (this) {
 
 				String[] headers = headers();
 				if (headers == null) {
-					headers = data;
+					headers = record.getValues();
 				}
 				conversions.prepareExecution(false, headers);
 				md.setDefaultConversions(conversions.getConversions(md.index, md.type));
@@ -370,37 +370,37 @@ class RecordMetaDataImpl<C extends Context> implements RecordMetaData {
 		}
 	}
 
-	<T> T getObjectValue(String[] data, String headerName, Class<T> type, T defaultValue) {
-		return convert(metadataOf(headerName), data, type, defaultValue, null);
+	<T> T getObjectValue(RecordImpl<?> record, String headerName, Class<T> type, T defaultValue) {
+		return convert(metadataOf(headerName), record, type, defaultValue, null);
 	}
 
-	<T> T getObjectValue(String[] data, int columnIndex, Class<T> type, T defaultValue) {
-		return convert(metadataOf(columnIndex), data, type, defaultValue, null);
+	<T> T getObjectValue(RecordImpl<?> record, int columnIndex, Class<T> type, T defaultValue) {
+		return convert(metadataOf(columnIndex), record, type, defaultValue, null);
 	}
 
-	<T> T getObjectValue(String[] data, Enum<?> column, Class<T> type, T defaultValue) {
-		return convert(metadataOf(column), data, type, defaultValue, null);
+	<T> T getObjectValue(RecordImpl<?> record, Enum<?> column, Class<T> type, T defaultValue) {
+		return convert(metadataOf(column), record, type, defaultValue, null);
 	}
 
-	<T> T getObjectValue(String[] data, String headerName, Class<T> type, T defaultValue, String format, String... formatOptions) {
+	<T> T getObjectValue(RecordImpl<?> record, String headerName, Class<T> type, T defaultValue, String format, String... formatOptions) {
 		if (format == null) {
-			return getObjectValue(data, headerName, type, defaultValue);
+			return getObjectValue(record, headerName, type, defaultValue);
 		}
-		return convert(metadataOf(headerName), data, type, defaultValue, buildAnnotation(type, format, formatOptions));
+		return convert(metadataOf(headerName), record, type, defaultValue, buildAnnotation(type, format, formatOptions));
 	}
 
-	<T> T getObjectValue(String[] data, int columnIndex, Class<T> type, T defaultValue, String format, String... formatOptions) {
+	<T> T getObjectValue(RecordImpl<?> record, int columnIndex, Class<T> type, T defaultValue, String format, String... formatOptions) {
 		if (format == null) {
-			return getObjectValue(data, columnIndex, type, defaultValue);
+			return getObjectValue(record, columnIndex, type, defaultValue);
 		}
-		return convert(metadataOf(columnIndex), data, type, defaultValue, buildAnnotation(type, format, formatOptions));
+		return convert(metadataOf(columnIndex), record, type, defaultValue, buildAnnotation(type, format, formatOptions));
 	}
 
-	<T> T getObjectValue(String[] data, Enum<?> column, Class<T> type, T defaultValue, String format, String... formatOptions) {
+	<T> T getObjectValue(RecordImpl<?> record, Enum<?> column, Class<T> type, T defaultValue, String format, String... formatOptions) {
 		if (format == null) {
-			return getObjectValue(data, column, type, defaultValue);
+			return getObjectValue(record, column, type, defaultValue);
 		}
-		return convert(metadataOf(column), data, type, defaultValue, buildAnnotation(type, format, formatOptions));
+		return convert(metadataOf(column), record, type, defaultValue, buildAnnotation(type, format, formatOptions));
 	}
 
 	static Annotation buildBooleanStringAnnotation(final String[] trueStrings, final String[] falseStrings) {
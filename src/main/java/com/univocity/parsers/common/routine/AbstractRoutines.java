@@ -21,6 +21,7 @@ import com.univocity.parsers.common.fields.*;
 import com.univocity.parsers.common.processor.*;
 
 import java.io.*;
+import java.nio.channels.*;
 import java.nio.charset.*;
 import java.sql.*;
 import java.util.*;
@@ -982,6 +983,75 @@ public abstract class AbstractRoutines<P extends CommonParserSettings<?>, W exte
 		return out;
 	}
 
+	/**
+	 * Parses a file to build a sparse index with the position of one record out of every {@code interval} records, which allows seeking directly to any record
+	 * of the file with {@link AbstractParser#beginParsing(File, Charset, RecordOffsetIndex, long)}, or parsing a page of records with
+	 * {@link AbstractParser#parseAll(File, Charset, RecordOffsetIndex, long, int)}. The index must be used with parsers configured with the same settings
+	 * provided in {@link #getParserSettings()}.
+	 *
+	 * <p> Smaller intervals produce larger indexes, and make seeking faster, as at most {@code interval} records are parsed and discarded to reach any record.
+	 * Each indexed record takes 24 bytes.
+	 *
+	 * @param input    the file to be indexed
+	 * @param encoding encoding of the given file
+	 * @param interval the number of records between two consecutive indexed records.
+	 *
+	 * @return the index of the records of the given file.
+	 */
+	public RecordOffsetIndex indexRecords(File input, Charset encoding, int interval) {
+		if (interval <= 0) {
+			throw new IllegalArgumentException("Interval between indexed records must be positive");
+		}
+		FileChannel channel;
+		try {
+			channel = new RandomAccessFile(input, "r").getChannel();
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException("Unable to read file '" + input.getAbsolutePath() + "'", e);
+		}
+
+		setRowProcessor(null);
+		try {
+			long inputLength = channel.size();
+			AbstractParser<P> parser = createParser(parserSettings);
+			parser.beginParsing(channel, encoding);
+
+			List<ParsingCheckpoint> checkpoints = new ArrayList<ParsingCheckpoint>();
+			checkpoints.add(parser.checkpoint());
+			while (parser.parseNext() != null) {
+				if (parser.getContext().currentRecord() % interval == 0) {
+					checkpoints.add(parser.checkpoint());
+				}
+			}
+			return new RecordOffsetIndex(inputLength, interval, parser.getContext().currentRecord(), checkpoints);
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading file '" + input.getAbsolutePath() + "'", e);
+		} finally {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				//ignore
+			}
+		}
+	}
+
+	/**
+	 * Parses a file to build a sparse index with the position of one record out of every {@code interval} records, and writes it into a sidecar file.
+	 *
+	 * @param input    the file to be indexed
+	 * @param encoding encoding of the given file
+	 * @param interval the number of records between two consecutive indexed records.
+	 * @param index    the file to write the index into. Can be loaded again with {@link RecordOffsetIndex#read(File)}.
+	 *
+	 * @return the index of the records of the given file.
+	 *
+	 * @see #indexRecords(File, Charset, int)
+	 */
+	public RecordOffsetIndex indexRecords(File input, Charset encoding, int interval, File index) {
+		RecordOffsetIndex out = indexRecords(input, encoding, interval);
+		out.write(index);
+		return out;
+	}
+
 	/**
 	 * Returns a flag indicating whether resources used for writing should be kept open after being
 	 * used by the routines available from this object, when applicable.
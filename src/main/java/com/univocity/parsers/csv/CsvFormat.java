@@ -37,6 +37,9 @@ import java.util.*;
  * @see com.univocity.parsers.common.Format
  */
 public class CsvFormat extends Format {
+
+	private static final long serialVersionUID = -8776680861133338191L;
+
 	private char quote = '"';
 	private char quoteEscape = '"';
 	private String delimiter = ",";
@@ -18,8 +18,10 @@ package com.univocity.parsers.csv;
 import com.univocity.parsers.common.*;
 import com.univocity.parsers.common.input.EOFException;
 import com.univocity.parsers.common.input.*;
+import com.univocity.parsers.common.processor.*;
 
 import java.io.*;
+import java.nio.charset.*;
 
 import static com.univocity.parsers.csv.UnescapedQuoteHandling.*;
 
@@ -40,11 +42,15 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 	private final boolean doNotEscapeUnquotedValues;
 	private final boolean keepEscape;
 	private final boolean keepQuotes;
+	private final boolean skipTrailingColumns;
+	private boolean quoteFree;
+	private boolean quoteScanPending;
 
 	private boolean unescaped;
 	private char prev;
 	private char delimiter;
 	private char[] multiDelimiter;
+	private int[] delimiterFallback; // for each partial match of the multi-character delimiter, how many characters may still start a match.
 	private char quote;
 	private char quoteEscape;
 	private char escapeEscape;
@@ -60,6 +66,7 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 	private char[] delimiters;
 	private int match = 0;
 	private int formatDetectorRowSampleCount;
+	private boolean formatApplied;
 
 	/**
 	 * The CsvParser supports all settings provided by {@link CsvParserSettings}, and requires this configuration to be properly initialized.
@@ -73,6 +80,7 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 		doNotEscapeUnquotedValues = !settings.isEscapeUnquotedValues();
 		keepEscape = settings.isKeepEscapeSequences();
 		keepQuotes = settings.getKeepQuotes();
+		skipTrailingColumns = settings.isTrailingColumnSkippingEnabled();
 		normalizeLineEndingsInQuotes = settings.isNormalizeLineEndingsWithinQuotes();
 		nullValue = settings.getNullValue();
 		emptyValue = settings.getEmptyValue();
@@ -106,18 +114,90 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 	@Override
 	protected final void parseRecord() {
 		if (multiDelimiter == null) {
-			parseSingleDelimiterRecord();
+			if (quoteScanPending) {
+				quoteScanPending = false;
+				quoteFree = isQuoteFree();
+			}
+			if (quoteFree) {
+				parseQuoteFreeRecord();
+			} else {
+				parseSingleDelimiterRecord();
+			}
 		} else {
 			parseMultiDelimiterRecord();
 		}
 	}
 
+	/**
+	 * Parses a record of an input that had no quote characters in the buffer loaded when parsing started. Only delimiters and line separators are
+	 * searched for. Once a quote or anything else that requires further processing is found at the start of a value,
+	 * the rest of the record is handed over to {@link #parseSingleDelimiterRecord()}. If a quote was found, subsequent
+	 * records are parsed by {@link #parseSingleDelimiterRecord()} as well.
+	 */
+	private void parseQuoteFreeRecord() {
+		int columnsToParse = skipTrailingColumns ? output.getColumnsToParse() : -1;
+		boolean recordStart = true;
+
+		while (ch != newLine) {
+			if (ch == delimiter) {
+				output.emptyParsed();
+			} else if (ch == quote || ch <= ' ' && ignoreLeadingWhitespace && whitespaceRangeStart < ch
+					|| columnsToParse != -1 && output.getCurrentColumn() >= columnsToParse) {
+				if (ch == quote) {
+					quoteFree = false;
+				}
+				if (recordStart) {
+					parseSingleDelimiterRecord();
+				} else {
+					parseSingleDelimiterValues();
+				}
+				return;
+			} else {
+				unescaped = false;
+				prev = '\0';
+				int len = output.appender.length();
+				if (len == 0 && unquotedValueParsed()) {
+					ch = input.getChar();
+				} else {
+					if (len == -1 && input.skipString(ch, delimiter)) {
+						ch = input.getChar();
+					} else {
+						output.trim = ignoreTrailingWhitespace;
+						ch = output.appender.appendUntil(ch, input, delimiter, newLine);
+					}
+					output.valueParsed();
+				}
+			}
+			if (ch != newLine) {
+				ch = input.nextChar();
+				if (ch == newLine) {
+					output.emptyParsed();
+				}
+			}
+			recordStart = false;
+		}
+	}
+
 	private final void parseSingleDelimiterRecord() {
 		if (ch <= ' ' && ignoreLeadingWhitespace && whitespaceRangeStart < ch) {
 			ch = input.skipWhitespace(ch, delimiter, quote);
 		}
+		parseSingleDelimiterValues();
+	}
+
+	/**
+	 * Parses the values of a record from the current character, which may be the first character of any value of the record. Unlike the
+	 * whitespace skipped at the start of a record, whitespace skipped up to a delimiter or line separator produces an empty value.
+	 */
+	private void parseSingleDelimiterValues() {
+		int columnsToParse = skipTrailingColumns ? output.getColumnsToParse() : -1;
 
 		while (ch != newLine) {
+			if (columnsToParse != -1 && output.getCurrentColumn() >= columnsToParse) {
+				skipRemainingValues();
+				return;
+			}
+
 			if (ch <= ' ' && ignoreLeadingWhitespace && whitespaceRangeStart < ch) {
 				ch = input.skipWhitespace(ch, delimiter, quote);
 			}
@@ -131,9 +211,7 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 					input.enableNormalizeLineEndings(normalizeLineEndingsInQuotes);
 					int len = output.appender.length();
 					if (len == 0) {
-						String value = input.getQuotedString(quote, quoteEscape, escapeEscape, maxColumnLength, delimiter, newLine, keepQuotes, keepEscape, trimQuotedLeading, trimQuotedTrailing);
-						if (value != null) {
-							output.valueParsed(value == "" ? emptyValue : value);
+						if (quotedValueParsed()) {
 							input.enableNormalizeLineEndings(true);
 							try {
 								ch = input.nextChar();
@@ -180,13 +258,8 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 						output.valueParsed();
 					}
 				} else if (doNotEscapeUnquotedValues) {
-					String value = null;
 					int len = output.appender.length();
-					if (len == 0) {
-						value = input.getString(ch, delimiter, ignoreTrailingWhitespace, nullValue, maxColumnLength);
-					}
-					if (value != null) {
-						output.valueParsed(value);
+					if (len == 0 && unquotedValueParsed()) {
 						ch = input.getChar();
 					} else {
 						if (len != -1) {
@@ -216,19 +289,51 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 		}
 	}
 
+	/**
+	 * Skips all characters until the end of the current record, without processing the values found. Values that start with a quote
+	 * are skipped until their closing quote, so delimiters and line separators inside them are not mistaken for the end of the record.
+	 */
+	private void skipRemainingValues() {
+		boolean valueStart = true;
+		while (ch != newLine) {
+			if (ch == quote && valueStart) {
+				input.enableNormalizeLineEndings(normalizeLineEndingsInQuotes);
+				ch = input.nextChar();
+				while (true) {
+					if (ch == quote) {
+						ch = input.nextChar();
+						if (ch != quote) {
+							break;
+						}
+					} else if (ch == quoteEscape) {
+						ch = input.nextChar();
+					}
+					ch = input.nextChar();
+				}
+				input.enableNormalizeLineEndings(true);
+				valueStart = false;
+				continue;
+			}
+			valueStart = ch == delimiter || valueStart && ignoreLeadingWhitespace && whitespaceRangeStart < ch && ch <= ' ';
+			ch = input.nextChar();
+		}
+	}
+
 	private void skipValue() {
 		output.appender.reset();
 		output.appender = NoopCharAppender.getInstance();
 		if (multiDelimiter == null) {
 			ch = NoopCharAppender.getInstance().appendUntil(ch, input, delimiter, newLine);
 		} else {
-			for (; match < multiDelimiter.length && ch != newLine; ch = input.nextChar()) {
-				if (multiDelimiter[match] == ch) {
-					match++;
-				} else {
-					match = 0;
+			for (; ch != newLine; ch = input.nextChar()) {
+				while (match > 0 && multiDelimiter[match] != ch) {
+					match = delimiterFallback[match - 1];
+				}
+				if (multiDelimiter[match] == ch && ++match == multiDelimiter.length) {
+					break; //stops at the last character of the delimiter, as when the value is parsed.
 				}
 			}
+			match = 0;
 		}
 	}
 
@@ -269,6 +374,48 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 		}
 	}
 
+	private boolean quotedValueParsed() {
+		if (output.isCollectingCharacters()) {
+			if (input.appendQuotedString(quote, quoteEscape, escapeEscape, maxColumnLength, delimiter, newLine, keepQuotes, keepEscape, trimQuotedLeading, trimQuotedTrailing, output.appender)) {
+				if (output.appender.length() == 0) {
+					output.valueParsed(emptyValue);
+				} else {
+					output.trim = false;
+					output.valueParsed();
+				}
+				return true;
+			}
+			return false;
+		}
+		String value = input.getQuotedString(quote, quoteEscape, escapeEscape, maxColumnLength, delimiter, newLine, keepQuotes, keepEscape, trimQuotedLeading, trimQuotedTrailing);
+		if (value != null) {
+			output.valueParsed(value == "" ? emptyValue : value);
+			return true;
+		}
+		return false;
+	}
+
+	private boolean unquotedValueParsed() {
+		if (output.isCollectingCharacters()) {
+			if (input.appendString(ch, delimiter, ignoreTrailingWhitespace, maxColumnLength, output.appender)) {
+				if (output.appender.length() == 0) {
+					output.valueParsed(nullValue);
+				} else {
+					output.trim = false;
+					output.valueParsed();
+				}
+				return true;
+			}
+			return false;
+		}
+		String value = input.getString(ch, delimiter, ignoreTrailingWhitespace, nullValue, maxColumnLength);
+		if (value != null) {
+			output.valueParsed(value);
+			return true;
+		}
+		return false;
+	}
+
 	private boolean handleUnescapedQuote() {
 		unescaped = true;
 		switch (quoteHandling) {
@@ -283,7 +430,10 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 					}
 					output.valueParsed(value);
 					if (output.appender.charAt(pos) == newLine) {
-						output.pendingRecords.add(output.rowParsed());
+						String[] row = output.rowParsed();
+						if (row != null) { //null if the values were the headers
+							output.pendingRecords.add(output.retain(row));
+						}
 						output.appender.remove(0, pos + 1);
 						continue;
 					}
@@ -403,7 +553,7 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 					if (prev == quoteEscape && quoteEscape != '\0') {
 						output.appender.append(quoteEscape);
 					}
-					ch = output.appender.appendUntil(ch, input, quote, quoteEscape, escapeEscape);
+					ch = appendUntil(quote, quoteEscape, escapeEscape);
 					prev = ch;
 					ch = input.nextChar();
 				} else {
@@ -463,6 +613,39 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 
 	@Override
 	protected final InputAnalysisProcess getInputAnalysisProcess() {
+		// a new input begins: a parser stopped in the middle of a record must not carry its state over.
+		prev = '\0';
+		quoteFree = false;
+		quoteScanPending = multiDelimiter == null && doNotEscapeUnquotedValues;
+		return getFormatDetector();
+	}
+
+	/**
+	 * Scans the characters loaded in the input buffer when parsing starts for the quote character. Done from the first record parsed, instead
+	 * of through an {@link InputAnalysisProcess}, as input analysis reads ahead of the first buffer when it has less than 5 characters,
+	 * which changes how values are collected from the buffer.
+	 *
+	 * @return {@code true} if no quote character was found in the buffer.
+	 */
+	private boolean isQuoteFree() {
+		if (ch == quote || !(input instanceof AbstractCharInputReader)) {
+			return false;
+		}
+		AbstractCharInputReader reader = (AbstractCharInputReader) input;
+		char[] buffer = reader.buffer;
+		int length = reader.length;
+		int i = reader.i;
+		while (i < length && buffer[i] != quote) {
+			i++;
+		}
+		return length > 0 && i == length;
+	}
+
+	private InputAnalysisProcess getFormatDetector() {
+		if (formatApplied) {
+			formatApplied = false;
+			return null;
+		}
 		if (settings.isDelimiterDetectionEnabled() || settings.isQuoteDetectionEnabled()) {
 			return new CsvFormatDetector(formatDetectorRowSampleCount, settings, whitespaceRangeStart) {
 				@Override
@@ -494,6 +677,7 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 	 *
 	 * @return the detected CSV format, or {@code null} if no detection has been enabled or if the parsing process has not been started yet.
 	 */
+	@Override
 	public final CsvFormat getDetectedFormat() {
 		CsvFormat out = null;
 		if (settings.isDelimiterDetectionEnabled()) {
@@ -512,6 +696,33 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 		return out;
 	}
 
+	@Override
+	protected final void applyDetectedFormat(Format format) {
+		CsvFormat detected = (CsvFormat) format;
+		if (settings.isDelimiterDetectionEnabled()) {
+			this.delimiter = detected.getDelimiter();
+			this.delimiters[0] = delimiter;
+		}
+		if (settings.isQuoteDetectionEnabled()) {
+			this.quote = detected.getQuote();
+			this.quoteEscape = detected.getQuoteEscape();
+		}
+		formatApplied = true;
+	}
+
+	@Override
+	protected final RecordBoundaryScanner newRecordBoundaryScanner(Charset encoding) {
+		return new CsvRecordBoundaryScanner(encoding, settings.getFormat(), settings.getIgnoreLeadingWhitespaces());
+	}
+
+	@Override
+	protected final void recordDiscarded() {
+		input.enableNormalizeLineEndings(true);
+		unescaped = false;
+		prev = '\0';
+		match = 0;
+	}
+
 	@Override
 	protected final boolean consumeValueOnEOF() {
 		if (ch == quote) {
@@ -535,6 +746,29 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 		return out;
 	}
 
+	/**
+	 * Builds the table used to resume matching a multi-character delimiter after a mismatch without going back
+	 * in the input. Position {@code i} holds the length of the longest proper prefix of the delimiter that
+	 * is also a suffix of its first {@code i + 1} characters.
+	 *
+	 * @param delimiter the sequence of characters that separate values.
+	 *
+	 * @return the length of the partial match to resume from after {@code i + 1} characters were matched.
+	 */
+	private static int[] fallbackTable(char[] delimiter) {
+		int[] out = new int[delimiter.length];
+		for (int i = 1, len = 0; i < delimiter.length; ) {
+			if (delimiter[i] == delimiter[len]) {
+				out[i++] = ++len;
+			} else if (len > 0) {
+				len = out[len - 1];
+			} else {
+				out[i++] = 0;
+			}
+		}
+		return out;
+	}
+
 	/**
 	 * Allows changing the format of the input on the fly.
 	 *
@@ -549,19 +783,101 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 			delimiters = new char[]{delimiter, newLine};
 		} else {
 			delimiters = new char[]{multiDelimiter[0], newLine};
+			delimiterFallback = fallbackTable(multiDelimiter);
 		}
 		quote = format.getQuote();
 		quoteEscape = format.getQuoteEscape();
 		escapeEscape = format.getCharToEscapeQuoteEscaping();
 	}
 
+	/**
+	 * Parses the entirety of a given file using multiple threads, and delegates each parsed row to the {@link RowProcessor} defined by
+	 * {@link CommonParserSettings#getRowProcessor()}. The file encoding will be UTF-8 if the file starts with a UTF-8 Byte Order Mark (BOM),
+	 * otherwise the default charset will be used.
+	 *
+	 * @param file          the file to be parsed.
+	 * @param threads       the number of threads used to parse the file.
+	 * @param preserveOrder flag indicating whether rows must be delivered to the {@link RowProcessor} in the same order they appear in the file.
+	 *
+	 * @see #parseParallel(File, Charset, int, boolean)
+	 */
+	public final void parseParallel(File file, int threads, boolean preserveOrder) {
+		parseParallel(file, (Charset) null, threads, preserveOrder);
+	}
+
+	/**
+	 * Parses the entirety of a given file using multiple threads, and delegates each parsed row to the {@link RowProcessor} defined by
+	 * {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @param file          the file to be parsed.
+	 * @param encoding      the encoding of the file.
+	 * @param threads       the number of threads used to parse the file.
+	 * @param preserveOrder flag indicating whether rows must be delivered to the {@link RowProcessor} in the same order they appear in the file.
+	 *
+	 * @see #parseParallel(File, Charset, int, boolean)
+	 */
+	public final void parseParallel(File file, String encoding, int threads, boolean preserveOrder) {
+		parseParallel(file, Charset.forName(encoding), threads, preserveOrder);
+	}
+
+	/**
+	 * Parses the entirety of a given file using multiple threads, and delegates each parsed row to the {@link RowProcessor} defined by
+	 * {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * <p> The file is split into byte ranges that start at record boundaries, taking into account that quoted values may contain line separators.
+	 * Each range is parsed by a separate {@link CsvParser} configured with a copy of the settings of this parser, and the rows produced are handed
+	 * over to the {@link RowProcessor} by the thread that invoked this method, so the processor itself does not need to be thread-safe.
+	 * Ranges are parsed by tasks submitted to the executor returned by {@link CommonParserSettings#getExecutorService()}, with no more than
+	 * the given number of threads working at the same time.
+	 * Rows are delivered either in the same order they appear in the file, or in the order the ranges finish parsing, which avoids having fast
+	 * ranges wait for slower ones that come before them.
+	 *
+	 * <p> The first records of the file are read by this parser to perform any format detection and header extraction. The remaining
+	 * ranges are parsed with the detected format and headers. The {@link ParsingContext} given to the {@link RowProcessor} is the context of this
+	 * parser, and it only reflects the number of records processed so far: information such as the current line or character refer to the initial
+	 * section of the file read by this parser.
+	 *
+	 * <p> The file must be encoded with a charset in which line separators, delimiters and quotes are represented by a single byte,
+	 * such as UTF-8, US-ASCII or ISO-8859-1.
+	 *
+	 * @param file          the file to be parsed.
+	 * @param encoding      the encoding of the file. If {@code null}, UTF-8 will be used if the file starts with a UTF-8 Byte Order Mark (BOM),
+	 *                      otherwise the default charset will be used.
+	 * @param threads       the number of threads used to parse the file.
+	 * @param preserveOrder flag indicating whether rows must be delivered to the {@link RowProcessor} in the same order they appear in the file.
+	 */
+	public final void parseParallel(File file, Charset encoding, int threads, boolean preserveOrder) {
+		ParallelCsvParser parallelParser = new ParallelCsvParser(file, encoding, threads, preserveOrder);
+		try {
+			beginParsing(parallelParser.newInputStream(), parallelParser.getEncoding());
+
+			CsvParserSettings rangeSettings = settings.clone();
+			CsvFormat detectedFormat = getDetectedFormat();
+			if (detectedFormat != null) {
+				rangeSettings.setFormat(detectedFormat);
+				rangeSettings.setDelimiterDetectionEnabled(false);
+				rangeSettings.setQuoteDetectionEnabled(false);
+				rangeSettings.setLineSeparatorDetectionEnabled(false);
+			}
+			String[] headers = settings.isHeaderExtractionEnabled() ? getContext().parsedHeaders() : null;
+			parallelParser.initialize(rangeSettings, headers);
+
+			processParsedRows(parallelParser);
+		} finally {
+			parallelParser.close();
+		}
+	}
+
 	private void skipWhitespace() {
 		while (ch <= ' ' && match < multiDelimiter.length && ch != newLine && ch != quote && whitespaceRangeStart < ch) {
 			ch = input.nextChar();
 			if (multiDelimiter[match] == ch) {
 				if (matchDelimiter()) {
-					output.emptyParsed();
+					delimiterParsed();
 					ch = input.nextChar();
+				} else {
+					//the characters of the partial match were appended and start the value.
+					return;
 				}
 			}
 		}
@@ -579,24 +895,45 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 	}
 
 	private boolean matchDelimiter() {
-		while (ch == multiDelimiter[match]) {
-			match++;
-			if (match == multiDelimiter.length) {
-				break;
+		while (true) {
+			if (ch == multiDelimiter[match]) {
+				match++;
+				if (match == multiDelimiter.length) {
+					match = 0;
+					return true;
+				}
+				ch = input.nextChar();
+			} else if (match > 0) {
+				discardPartialMatch();
+			} else {
+				return false;
 			}
-			ch = input.nextChar();
-		}
-
-		if (multiDelimiter.length == match) {
-			match = 0;
-			return true;
 		}
+	}
 
-		if (match > 0) {
-			saveMatchingCharacters();
+	/**
+	 * Completes the current value when a delimiter is matched at its start. The value is empty unless it consists of
+	 * the characters of partial delimiter matches found before the delimiter.
+	 */
+	private void delimiterParsed() {
+		if (output.appender.length() == 0) {
+			output.emptyParsed();
+		} else {
+			if (ignoreTrailingWhitespace) {
+				output.appender.updateWhitespace();
+			}
+			output.valueParsed();
 		}
+	}
 
-		return false;
+	/**
+	 * Appends the characters of a partial delimiter match that can no longer be part of a delimiter, keeping the
+	 * longest suffix of the match that may still start one.
+	 */
+	private void discardPartialMatch() {
+		int remaining = delimiterFallback[match - 1];
+		output.appender.append(multiDelimiter, 0, match - remaining);
+		match = remaining;
 	}
 
 	private boolean matchDelimiterAfterQuote() {
@@ -619,15 +956,20 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 	private void parseMultiDelimiterRecord() {
 		if (ch <= ' ' && ignoreLeadingWhitespace && whitespaceRangeStart < ch) {
 			skipWhitespace();
+			if (ch == newLine && output.appender.length() > 0) {
+				delimiterParsed();
+			}
 		}
 
 		while (ch != newLine) {
-			if (ch <= ' ' && ignoreLeadingWhitespace && whitespaceRangeStart < ch) {
+			if (ch <= ' ' && ignoreLeadingWhitespace && whitespaceRangeStart < ch && output.appender.length() <= 0) {
 				skipWhitespace();
 			}
 
-			if (ch == newLine || matchDelimiter()) {
-				output.emptyParsed();
+			if (ch == newLine) {
+				delimiterParsed();
+			} else if (matchDelimiter()) {
+				delimiterParsed();
 			} else {
 				unescaped = false;
 				prev = '\0';
@@ -660,21 +1002,44 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 		}
 	}
 
+	/**
+	 * Appends the current character and the ones that follow it to the value being parsed, until one of the stop characters
+	 * is found. If the end of the input is reached, the current character is read back from the input before the {@link EOFException}
+	 * propagates, as the one given to the input may no longer be the last character appended.
+	 *
+	 * @param stop1 the first stop character
+	 * @param stop2 the second stop character
+	 * @param stop3 the third stop character
+	 *
+	 * @return the stop character found on the input.
+	 */
+	private char appendUntil(char stop1, char stop2, char stop3) {
+		try {
+			return input.appendUntil(ch, output.appender, stop1, stop2, stop3);
+		} catch (EOFException e) {
+			ch = input.getChar();
+			throw e;
+		}
+	}
+
 	private void appendUntilMultiDelimiter() {
-		while (match < multiDelimiter.length && ch != newLine) {
+		final char first = multiDelimiter[0];
+		while (ch != newLine) {
+			if (match == 0) {
+				//copies everything up to the next character that may start a delimiter.
+				ch = appendUntil(first, newLine, newLine);
+				if (ch == newLine) {
+					break;
+				}
+			}
 			if (multiDelimiter[match] == ch) {
-				match++;
-				if (match == multiDelimiter.length) {
+				if (++match == multiDelimiter.length) {
 					break;
 				}
+				ch = input.nextChar();
 			} else {
-				if (match > 0) {
-					saveMatchingCharacters();
-					continue;
-				}
-				output.appender.append(ch);
+				discardPartialMatch();
 			}
-			ch = input.nextChar();
 		}
 		saveMatchingCharacters();
 	}
@@ -727,7 +1092,7 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 					if (prev == quoteEscape && quoteEscape != '\0') {
 						output.appender.append(quoteEscape);
 					}
-					ch = output.appender.appendUntil(ch, input, quote, quoteEscape, escapeEscape);
+					ch = appendUntil(quote, quoteEscape, escapeEscape);
 					prev = ch;
 					ch = input.nextChar();
 				} else {
@@ -758,7 +1123,7 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 				if (matchDelimiterAfterQuote()) {
 					return;
 				}
-			} while (ch <= ' ' && whitespaceRangeStart < ch);
+			} while (match == 0 && ch <= ' ' && whitespaceRangeStart < ch);
 
 			//there's more stuff after the quoted value, not only empty spaces.
 			if (parseUnescapedQuotes && !matchDelimiterAfterQuote()) {
@@ -767,6 +1132,14 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 					output.appender.append(quote);
 					((DefaultCharAppender) output.appender).append(whitespaceAppender);
 				}
+				//the characters of a partial delimiter match are content of the value
+				saveMatchingCharacters();
+				if (ch == newLine) {
+					if (parseUnescapedQuotesUntilDelimiter && !keepQuotes) {
+						output.appender.prepend(quote);
+					}
+					return;
+				}
 				//the next character is not the escape character, put it there
 				if (parseUnescapedQuotesUntilDelimiter || ch != quote && ch != quoteEscape) {
 					output.appender.append(ch);
@@ -776,8 +1149,11 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 				//calls recursively to keep parsing potentially quoted content
 				prev = ch;
 				parseQuotedValue();
-			} else if (keepQuotes) {
-				output.appender.append(quote);
+			} else {
+				match = 0;
+				if (keepQuotes) {
+					output.appender.append(quote);
+				}
 			}
 		} else if (keepQuotes && (!unescaped || quoteHandling == STOP_AT_CLOSING_QUOTE)) {
 			output.appender.append(quote);
@@ -787,6 +1163,9 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 
 	private void parseValueProcessingEscapeMultiDelimiter() {
 		while (ch != newLine && !matchDelimiter()) {
+			if (ch == newLine) { //ends a partial match of the delimiter
+				break;
+			}
 			if (ch != quote && ch != quoteEscape) {
 				if (prev == quote) { //unescaped quote detected
 					handleUnescapedQuoteInValue();
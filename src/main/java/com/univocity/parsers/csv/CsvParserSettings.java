@@ -53,6 +53,7 @@ public class CsvParserSettings extends CommonParserSettings<CsvFormat> {
 	private UnescapedQuoteHandling unescapedQuoteHandling = null;
 	private char[] delimitersForDetection = null;
 	private int formatDetectorRowSampleCount = 20;
+	private boolean trailingColumnSkippingEnabled = false;
 
 	/**
 	 * Returns the String representation of an empty value (defaults to null)
@@ -96,6 +97,17 @@ public class CsvParserSettings extends CommonParserSettings<CsvFormat> {
 		}
 	}
 
+	/**
+	 * Indicates whether parts of the configuration are discovered by analyzing the first characters of the input, which is also the
+	 * case when the delimiter or quote must be detected.
+	 *
+	 * @return {@code true} if a full buffer of characters must be available before parsing starts.
+	 */
+	@Override
+	protected boolean isInputSampleRequired() {
+		return super.isInputSampleRequired() || delimiterDetectionEnabled || quoteDetectionEnabled;
+	}
+
 	/**
 	 * Returns the default CsvFormat configured to handle CSV inputs compliant to the <a href="http://tools.ietf.org/html/rfc4180">RFC4180</a> standard.
 	 *
@@ -396,6 +408,43 @@ public class CsvParserSettings extends CommonParserSettings<CsvFormat> {
 		this.keepQuotes = keepQuotes;
 	}
 
+	/**
+	 * Indicates whether the parser should stop processing the values of a record once the last field selected using
+	 * {@link #selectFields(String...)}, {@link #selectIndexes(Integer...)} or similar methods has been parsed.
+	 * The remaining characters of the record are then skipped without being processed as individual values, only respecting quoted
+	 * values that may contain delimiters or line separators.
+	 *
+	 * <p>This only takes effect when {@link #isColumnReorderingEnabled()} evaluates to {@code true}, as the values of the columns
+	 * after the last selected field are not part of the records produced by the parser. Errors that could be raised when
+	 * processing these values, such as having more columns than what is defined in {@link #getMaxColumns()}, will not occur.</p>
+	 *
+	 * <p>Defaults to {@code false}</p>
+	 *
+	 * @return a flag indicating whether the values of unselected columns after the last selected field should be skipped.
+	 */
+	public boolean isTrailingColumnSkippingEnabled() {
+		return trailingColumnSkippingEnabled;
+	}
+
+	/**
+	 * Configures the parser to stop processing the values of a record once the last field selected using
+	 * {@link #selectFields(String...)}, {@link #selectIndexes(Integer...)} or similar methods has been parsed.
+	 * The remaining characters of the record are then skipped without being processed as individual values, only respecting quoted
+	 * values that may contain delimiters or line separators.
+	 *
+	 * <p>This only takes effect when {@link #isColumnReorderingEnabled()} evaluates to {@code true}, as the values of the columns
+	 * after the last selected field are not part of the records produced by the parser. Errors that could be raised when
+	 * processing these values, such as having more columns than what is defined in {@link #getMaxColumns()}, will not occur.</p>
+	 *
+	 * <p>Defaults to {@code false}</p>
+	 *
+	 * @param trailingColumnSkippingEnabled flag indicating whether the values of unselected columns after the last selected field
+	 *                                      should be skipped.
+	 */
+	public void setTrailingColumnSkippingEnabled(boolean trailingColumnSkippingEnabled) {
+		this.trailingColumnSkippingEnabled = trailingColumnSkippingEnabled;
+	}
+
 	@Override
 	protected void addConfiguration(Map<String, Object> out) {
 		super.addConfiguration(out);
@@ -404,6 +453,7 @@ public class CsvParserSettings extends CommonParserSettings<CsvFormat> {
 		out.put("Escape unquoted values", escapeUnquotedValues);
 		out.put("Keep escape sequences", keepEscapeSequences);
 		out.put("Keep quotes", keepQuotes);
+		out.put("Skip columns after last selected field", trailingColumnSkippingEnabled);
 		out.put("Normalize escaped line separators", normalizeLineEndingsWithinQuotes);
 		out.put("Autodetect column delimiter", delimiterDetectionEnabled);
 		out.put("Autodetect quotes", quoteDetectionEnabled);
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.csv;
+
+import com.univocity.parsers.common.*;
+
+import java.nio.charset.*;
+
+/**
+ * Identifies where CSV records start in the bytes of an input, tracking whether each byte is inside a quoted value or not, so that line
+ * separators within quoted values are not mistaken for the end of a record.
+ *
+ * <p> The delimiter, quote and quote escape characters must be represented by a single byte in the encoding of the input. Multi-character
+ * delimiters are identified by their last character, which is all that is needed to detect where values start.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see ParallelCsvParser
+ * @see CsvParser#beginParsing(java.nio.channels.SeekableByteChannel, Charset, long, long)
+ */
+final class CsvRecordBoundaryScanner extends RecordBoundaryScanner {
+
+	static final int VALUE_START = 0;
+	static final int UNQUOTED = 1;
+	static final int QUOTED = 2;
+	static final int ESCAPED = 3;
+	static final int QUOTE_FOUND = 4;
+	static final int STATES = 5;
+
+	private final byte quote;
+	private final byte quoteEscape;
+	private final byte delimiter;
+	private final boolean ignoreLeadingWhitespaces;
+
+	/**
+	 * Creates a scanner of CSV records in an input with the given encoding.
+	 *
+	 * @param encoding                 the encoding of the input.
+	 * @param format                   the CSV format of the input.
+	 * @param ignoreLeadingWhitespaces flag indicating whether whitespaces before a quote are ignored, as defined by
+	 *                                 {@link CsvParserSettings#getIgnoreLeadingWhitespaces()}.
+	 */
+	CsvRecordBoundaryScanner(Charset encoding, CsvFormat format, boolean ignoreLeadingWhitespaces) {
+		super(encoding, format.getLineSeparator());
+		this.quote = toByte(format.getQuote(), "quote");
+		this.quoteEscape = toByte(format.getQuoteEscape(), "quote escape");
+		String delimiterString = format.getDelimiterString();
+		this.delimiter = toByte(delimiterString.charAt(delimiterString.length() - 1), "delimiter");
+		this.ignoreLeadingWhitespaces = ignoreLeadingWhitespaces;
+	}
+
+	@Override
+	protected int getStateCount() {
+		return STATES;
+	}
+
+	@Override
+	protected boolean isRecordEnd(int state, byte ch) {
+		return ch == newLine && state != QUOTED && state != ESCAPED;
+	}
+
+	@Override
+	protected boolean isInsideValue(int state) {
+		return state == QUOTED || state == ESCAPED || state == QUOTE_FOUND;
+	}
+
+	@Override
+	protected int nextState(int state, byte ch) {
+		switch (state) {
+			case VALUE_START:
+				if (ch == quote) {
+					return QUOTED;
+				}
+				if (ch == delimiter || ch == newLine || (ignoreLeadingWhitespaces && ch >= 0 && ch <= ' ')) {
+					return VALUE_START;
+				}
+				return UNQUOTED;
+			case UNQUOTED:
+				return ch == delimiter || ch == newLine ? VALUE_START : UNQUOTED;
+			case QUOTED:
+				if (ch == quoteEscape) {
+					return quoteEscape == quote ? QUOTE_FOUND : ESCAPED;
+				}
+				return ch == quote ? UNQUOTED : QUOTED;
+			case ESCAPED:
+				return QUOTED;
+			default: //QUOTE_FOUND: either an escaped quote or the end of a quoted value
+				if (ch == quote) {
+					return QUOTED;
+				}
+				return ch == delimiter || ch == newLine ? VALUE_START : UNQUOTED;
+		}
+	}
+}
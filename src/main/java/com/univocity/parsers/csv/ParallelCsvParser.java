@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.csv;
+
+import com.univocity.parsers.common.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Splits a CSV file into byte ranges that start at record boundaries and parses these ranges concurrently, each one with its own
+ * {@link CsvParser}. The rows parsed from each range are made available through the {@link Iterator} interface, either in the order
+ * they appear in the file, or in the order the ranges finish parsing.
+ *
+ * <p> Record boundaries are identified in a first pass over the file: it is divided in splits of a fixed size, and each split is scanned
+ * concurrently by the state machine of {@link CsvRecordBoundaryScanner}, which tracks whether each byte is inside a quoted value or not.
+ * As the state at the beginning of a split is only known once the previous split has been scanned, every possible starting state is
+ * evaluated, and the results of each split are chained together afterwards to find the first byte after the first line separator that is
+ * not inside quotes.
+ *
+ * <p> The file must be encoded with a charset in which the line separator, delimiter, quote and quote escape characters are represented by a
+ * single byte that never appears as part of other characters, such as UTF-8, US-ASCII or ISO-8859-1.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see CsvParser#parseParallel(File, Charset, int, boolean)
+ */
+final class ParallelCsvParser extends ParallelFileParser<CsvParserSettings> {
+
+	private static final int MIN_SPLIT_SIZE = 64 * 1024;
+	private static final int MAX_SPLIT_SIZE = 4 * 1024 * 1024;
+
+	private static final int STATES = CsvRecordBoundaryScanner.STATES;
+
+	/**
+	 * Opens a file for parallel parsing.
+	 *
+	 * @param file          the file to be parsed
+	 * @param encoding      the encoding of the file. If {@code null}, UTF-8 will be used if the file starts with a UTF-8 Byte Order Mark (BOM),
+	 *                      otherwise the default charset will be used.
+	 * @param threads       the number of threads used to parse the file
+	 * @param preserveOrder flag indicating whether rows must be returned in the same order they appear in the file.
+	 */
+	ParallelCsvParser(File file, Charset encoding, int threads, boolean preserveOrder) {
+		super(file, encoding, threads, preserveOrder);
+	}
+
+	@Override
+	protected AbstractParser<CsvParserSettings> newParser(CsvParserSettings settings) {
+		return new CsvParser(settings);
+	}
+
+	@Override
+	protected long[] findRecordBoundaries(CsvParserSettings settings) {
+		final long size = size();
+		final int threads = threads();
+		final CsvRecordBoundaryScanner boundaryScanner = new CsvRecordBoundaryScanner(getEncoding(), settings.getFormat(), settings.getIgnoreLeadingWhitespaces());
+
+		long splitSize = Math.max(MIN_SPLIT_SIZE, Math.min(MAX_SPLIT_SIZE, size / threads + 1));
+		int splitCount = (int) ((size + splitSize - 1) / splitSize);
+
+		// no more than the given number of threads scan splits at the same time, each one picking the next split not yet scanned.
+		final SplitScan[] scans = new SplitScan[splitCount];
+		final AtomicInteger nextSplit = new AtomicInteger();
+		final long finalSplitSize = splitSize;
+		List<Future<?>> scanners = new ArrayList<Future<?>>(threads);
+		for (int i = 0; i < threads && i < splitCount; i++) {
+			scanners.add(executor().submit(new Callable<Void>() {
+				@Override
+				public Void call() {
+					int split;
+					while (!isStopped() && (split = nextSplit.getAndIncrement()) < scans.length) {
+						long start = split * finalSplitSize;
+						scans[split] = new SplitScan(start, Math.min(size, start + finalSplitSize), boundaryScanner);
+					}
+					return null;
+				}
+			}));
+		}
+		for (Future<?> scanner : scanners) {
+			get(scanner);
+		}
+
+		long[] out = new long[splitCount + 1];
+		int count = 0;
+		out[count++] = 0L;
+		int state = CsvRecordBoundaryScanner.VALUE_START;
+		for (int i = 0; i < splitCount; i++) {
+			SplitScan scan = scans[i];
+			if (i > 0 && scan.recordStart[state] != -1L) {
+				out[count++] = scan.recordStart[state];
+			}
+			state = scan.endState[state];
+		}
+		if (out[count - 1] < size || count == 1) {
+			out[count++] = size;
+		}
+		return Arrays.copyOf(out, count);
+	}
+
+	/**
+	 * Result of scanning a split of the file for record boundaries, for every state the scan could have been in at the start of the split.
+	 */
+	private final class SplitScan {
+		final int[] endState = new int[STATES];
+		final long[] recordStart = new long[STATES];
+
+		SplitScan(long start, long end, CsvRecordBoundaryScanner scanner) {
+			// starting states that lead to the same state at the same position follow the same path from there on.
+			// Each simulation is shared by all starting states that converged into it.
+			int[] simulation = new int[STATES];
+			int[] owner = new int[STATES];
+			int simulations = STATES;
+			for (int s = 0; s < STATES; s++) {
+				simulation[s] = s;
+				owner[s] = s;
+				recordStart[s] = -1L;
+			}
+
+			byte[] bytes = new byte[(int) Math.min(64 * 1024, end - start)];
+			long position = start;
+			while (position < end && !isStopped()) {
+				int length = read(bytes, 0, (int) Math.min(bytes.length, end - position), position);
+				if (length <= 0) {
+					break;
+				}
+				for (int i = 0; i < length; i++) {
+					byte ch = bytes[i];
+					for (int k = 0; k < simulations; k++) {
+						int state = simulation[k];
+						if (scanner.isRecordEnd(state, ch)) {
+							for (int s = 0; s < STATES; s++) {
+								if (owner[s] == k && recordStart[s] == -1L) {
+									recordStart[s] = position + i + 1;
+								}
+							}
+						}
+						simulation[k] = scanner.nextState(state, ch);
+					}
+					if (simulations > 1 && scanner.isRecordEnd(CsvRecordBoundaryScanner.VALUE_START, ch)) {
+						simulations = merge(simulation, owner, simulations);
+					}
+				}
+				position += length;
+			}
+
+			for (int s = 0; s < STATES; s++) {
+				endState[s] = simulation[owner[s]];
+			}
+		}
+
+		private int merge(int[] simulation, int[] owner, int simulations) {
+			for (int k = simulations - 1; k > 0; k--) {
+				for (int j = 0; j < k; j++) {
+					if (simulation[j] == simulation[k]) {
+						int last = simulations - 1;
+						for (int s = 0; s < STATES; s++) {
+							if (owner[s] == k) {
+								owner[s] = j;
+							} else if (owner[s] == last) {
+								owner[s] = k;
+							}
+						}
+						simulation[k] = simulation[last];
+						simulations--;
+						break;
+					}
+				}
+			}
+			return simulations;
+		}
+	}
+}
@@ -33,6 +33,8 @@ import java.util.*;
  */
 public class FixedWidthFormat extends Format {
 
+	private static final long serialVersionUID = -468649675848279471L;
+
 	private char padding = ' ';
 	private char lookupWildcard = '?';
 
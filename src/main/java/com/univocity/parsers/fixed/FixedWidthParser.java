@@ -16,9 +16,14 @@
 package com.univocity.parsers.fixed;
 
 import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.input.EOFException;
 import com.univocity.parsers.common.input.*;
+import com.univocity.parsers.common.processor.*;
 import com.univocity.parsers.common.record.*;
 
+import java.io.*;
+import java.nio.charset.*;
+
 /**
  * A fast and flexible fixed-with parser implementation.
  *
@@ -48,6 +53,8 @@ public class FixedWidthParser extends AbstractParser<FixedWidthParserSettings> {
 
 	private final Lookup[] lookaheadFormats;
 	private final Lookup[] lookbehindFormats;
+	private final LookupTrie lookaheadTrie;
+	private final LookupTrie lookbehindTrie;
 	private Lookup lookupFormat;
 	private Lookup lookbehindFormat;
 	private int maxLookupLength;
@@ -56,6 +63,8 @@ public class FixedWidthParser extends AbstractParser<FixedWidthParserSettings> {
 	private final boolean recordEndsOnNewLine;
 	private final boolean skipEmptyLines;
 	private final boolean keepPadding;
+	private final boolean fixedLengthRecords;
+	private int recordLength;
 
 	private boolean useDefaultPadding;
 	private final char defaultPadding;
@@ -66,7 +75,6 @@ public class FixedWidthParser extends AbstractParser<FixedWidthParserSettings> {
 	private int length;
 	private boolean initializeLookaheadInput = false;
 	private LookaheadCharInputReader lookaheadInput;
-	private final char wildcard;
 
 	/**
 	 * The FixedWidthParser supports all settings provided by {@link FixedWidthParserSettings}, and requires this configuration to be properly initialized.
@@ -87,7 +95,9 @@ public class FixedWidthParser extends AbstractParser<FixedWidthParserSettings> {
 
 		lookaheadFormats = settings.getLookaheadFormats();
 		lookbehindFormats = settings.getLookbehindFormats();
-		wildcard = settings.getFormat().getLookupWildcard();
+		char wildcard = settings.getFormat().getLookupWildcard();
+		lookaheadTrie = lookaheadFormats == null ? null : new LookupTrie(lookaheadFormats, wildcard);
+		lookbehindTrie = lookbehindFormats == null ? null : new LookupTrie(lookbehindFormats, wildcard);
 
 		if (lookaheadFormats != null || lookbehindFormats != null) {
 			initializeLookaheadInput = true;
@@ -99,6 +109,13 @@ public class FixedWidthParser extends AbstractParser<FixedWidthParserSettings> {
 			maxLookupLength = Lookup.calculateMaxLookupLength(lookaheadFormats, lookbehindFormats);
 		}
 
+		if (!initializeLookaheadInput && lengths != null) {
+			for (int length : lengths) {
+				recordLength += length;
+			}
+		}
+		fixedLengthRecords = settings.getFixedLengthRecords() && recordLength > 0;
+
 		FixedWidthFormat format = settings.getFormat();
 		padding = format.getPadding();
 		defaultPadding = padding;
@@ -106,6 +123,93 @@ public class FixedWidthParser extends AbstractParser<FixedWidthParserSettings> {
 		useDefaultPadding = settings.getUseDefaultPaddingForHeaders() && settings.isHeaderExtractionEnabled();
 	}
 
+	/**
+	 * Starts an iterator-style parsing cycle from the record at the given index of a file where all records have the same length, as
+	 * described in {@link FixedWidthParserSettings#getFixedLengthRecords()}. The position of the record in the file is calculated from
+	 * its index, so the records before it are never read.
+	 *
+	 * <p> The number of bytes taken by each record is the sum of all field lengths, plus the length of the line separator that follows the first
+	 * record, if any. If header extraction is enabled, the headers are extracted from the first record of the file and the index of the first
+	 * data record is {@code 0}. The line and character counts of the {@link ParsingContext} do not include the records that were not read.
+	 *
+	 * @param file        the file to be parsed.
+	 * @param encoding    the encoding of the file. Must represent every character with a single byte, such as US-ASCII or ISO-8859-1.
+	 * @param recordIndex the index of the first record to parse.
+	 */
+	public final void beginParsing(File file, Charset encoding, long recordIndex) {
+		ParallelFixedWidthParser records = openFixedLengthRecords(file, encoding, 1, true);
+		boolean header = settings.isHeaderExtractionEnabled();
+		beginParsing(records.newInputStream(header ? recordIndex + 1 : recordIndex, header), records.getEncoding());
+	}
+
+	/**
+	 * Parses the entirety of a given file of fixed-length records using multiple threads, and delegates each parsed row to the
+	 * {@link RowProcessor} defined by {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @param file          the file to be parsed.
+	 * @param encoding      the encoding of the file.
+	 * @param threads       the number of threads used to parse the file.
+	 * @param preserveOrder flag indicating whether rows must be delivered to the {@link RowProcessor} in the same order they appear in the file.
+	 *
+	 * @see #parseParallel(File, Charset, int, boolean)
+	 */
+	public final void parseParallel(File file, String encoding, int threads, boolean preserveOrder) {
+		parseParallel(file, Charset.forName(encoding), threads, preserveOrder);
+	}
+
+	/**
+	 * Parses the entirety of a given file of fixed-length records using multiple threads, and delegates each parsed row to the
+	 * {@link RowProcessor} defined by {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * <p> All records must have the same length, as described in {@link FixedWidthParserSettings#getFixedLengthRecords()}, so the file can be
+	 * split into byte ranges that start at record boundaries without reading it. Each range is parsed by a separate {@link FixedWidthParser}
+	 * configured with a copy of the settings of this parser, and the rows produced are handed over to the {@link RowProcessor} by the thread
+	 * that invoked this method, so the processor itself does not need to be thread-safe. Ranges are parsed by tasks submitted to the executor
+	 * returned by {@link CommonParserSettings#getExecutorService()}, with no more than the given number of threads working at the same time.
+	 * Rows are delivered either in the same order they appear in the file, or in the order the ranges finish parsing.
+	 *
+	 * <p> The headers are extracted by this parser, if header extraction is enabled. The {@link ParsingContext} given to the {@link RowProcessor}
+	 * is the context of this parser, and it only reflects the number of records processed so far.
+	 *
+	 * @param file          the file to be parsed.
+	 * @param encoding      the encoding of the file. Must represent every character with a single byte, such as US-ASCII or ISO-8859-1.
+	 * @param threads       the number of threads used to parse the file.
+	 * @param preserveOrder flag indicating whether rows must be delivered to the {@link RowProcessor} in the same order they appear in the file.
+	 */
+	public final void parseParallel(File file, Charset encoding, int threads, boolean preserveOrder) {
+		ParallelFixedWidthParser parallelParser = openFixedLengthRecords(file, encoding, threads, preserveOrder);
+		try {
+			beginParsing(parallelParser.newInputStream(), parallelParser.getEncoding());
+
+			FixedWidthParserSettings rangeSettings = settings.clone();
+			rangeSettings.setFixedLengthRecords(true);
+			String[] headers = settings.isHeaderExtractionEnabled() ? getContext().parsedHeaders() : null;
+			parallelParser.initialize(rangeSettings, headers);
+
+			processParsedRows(parallelParser);
+		} finally {
+			parallelParser.close();
+		}
+	}
+
+	private ParallelFixedWidthParser openFixedLengthRecords(File file, Charset encoding, int threads, boolean preserveOrder) {
+		if (recordLength == 0) {
+			throw new IllegalStateException("Cannot compute the position of records in the input: records must have the same length and can't be parsed with lookahead or lookbehind formats");
+		}
+		return new ParallelFixedWidthParser(file, encoding, threads, preserveOrder, recordLength);
+	}
+
+	/**
+	 * Lookahead and lookbehind formats are matched against characters read ahead of the current record, or against the previous record,
+	 * which aren't available when parsing starts from the start of a record.
+	 *
+	 * @return {@code true} if no lookahead or lookbehind formats are defined.
+	 */
+	@Override
+	protected boolean isResumableAtRecordStart() {
+		return lookaheadFormats == null && lookbehindFormats == null;
+	}
+
 	@Override
 	protected ParsingContext createParsingContext() {
 		final ParsingContext context = super.createParsingContext();
@@ -149,37 +253,27 @@ public class FixedWidthParser extends AbstractParser<FixedWidthParserSettings> {
 			lookaheadInput.lookahead(maxLookupLength);
 
 			if (lookaheadFormats != null) {
-				for (int i = 0; i < lookaheadFormats.length; i++) {
-					if (lookaheadInput.matches(ch, lookaheadFormats[i].value, wildcard)) {
-						lengths = lookaheadFormats[i].lengths;
-						alignments = lookaheadFormats[i].alignments;
-						paddings = lookaheadFormats[i].paddings;
-						ignore = lookaheadFormats[i].ignore;
-						keepPaddingFlags = lookaheadFormats[i].keepPaddingFlags;
-						lookupFormat = lookaheadFormats[i];
-						matched = true;
-						break;
-					}
+				Lookup format = lookaheadTrie.find(ch, lookaheadInput);
+				if (format != null) {
+					lengths = format.lengths;
+					alignments = format.alignments;
+					paddings = format.paddings;
+					ignore = format.ignore;
+					keepPaddingFlags = format.keepPaddingFlags;
+					lookupFormat = format;
+					matched = true;
 				}
 				if (lookbehindFormats != null && matched) {
-					lookbehindFormat = null;
-					for (int i = 0; i < lookbehindFormats.length; i++) {
-						if (lookaheadInput.matches(ch, lookbehindFormats[i].value, wildcard)) {
-							lookbehindFormat = lookbehindFormats[i];
-							break;
-						}
-					}
+					lookbehindFormat = lookbehindTrie.find(ch, lookaheadInput);
 				}
 			} else {
-				for (int i = 0; i < lookbehindFormats.length; i++) {
-					if (lookaheadInput.matches(ch, lookbehindFormats[i].value, wildcard)) {
-						lookbehindFormat = lookbehindFormats[i];
-						matched = true;
-						lengths = rootLengths;
-						ignore = rootIgnore;
-						keepPaddingFlags = rootKeepPaddingFlags;
-						break;
-					}
+				Lookup format = lookbehindTrie.find(ch, lookaheadInput);
+				if (format != null) {
+					lookbehindFormat = format;
+					matched = true;
+					lengths = rootLengths;
+					ignore = rootIgnore;
+					keepPaddingFlags = rootKeepPaddingFlags;
 				}
 			}
 
@@ -205,37 +299,149 @@ public class FixedWidthParser extends AbstractParser<FixedWidthParserSettings> {
 			}
 		}
 
-		int i;
-		for (i = 0; i < lengths.length; i++) {
+		// values that are not selected or after the last selected field are skipped without reading their characters, unless the
+		// record ends on a newline found after its last value: the newline is consumed only if the last value is not blank.
+		// Ignored gaps are read when records end on a newline, as their content becomes the value of the next field if a newline follows them.
+		final boolean skipValues = input instanceof AbstractCharInputReader;
+		int columnsToParse = skipValues && !recordEndsOnNewLine ? output.getColumnsToParse() : -1;
+
+		int recordStart = fixedLengthRecords && skipValues ? ((AbstractCharInputReader) input).consumeSequence(recordLength) : -1;
+		if (recordStart != -1) {
+			if (!sliceRecord(((AbstractCharInputReader) input).buffer, recordStart, columnsToParse)) {
+				useDefaultPadding = false;
+				return;
+			}
+		} else {
+			int i;
+			for (i = 0; i < lengths.length; i++) {
+				if (columnsToParse != -1 && output.getCurrentColumn() >= columnsToParse) {
+					if (skipRemainingValues(i)) {
+						break;
+					}
+					columnsToParse = -1;
+				}
+
+				final boolean ignorePadding = keepPaddingFlags[i] == null ? !keepPadding : !keepPaddingFlags[i];
+				length = lengths[i];
+				if (paddings != null) {
+					padding = useDefaultPadding ? defaultPadding : paddings[i];
+				}
+				if (alignments != null) {
+					alignment = alignments[i];
+				}
+				final boolean lastFieldOfRecord = (i + 1 >= lengths.length);
+
+				if (skipValues && (ignore[i] ? !recordEndsOnNewLine : output.appender.length() == -1) && !(recordEndsOnNewLine && lastFieldOfRecord) && skipValue(lastFieldOfRecord)) {
+					if (recordEndsOnNewLine && ch == newLine) {
+						output.valueParsed();
+						useDefaultPadding = false;
+						return;
+					}
+					if (!ignore[i]) {
+						output.valueParsed();
+					}
+					continue;
+				}
+
+				if (ignorePadding) {
+					skipPadding(lastFieldOfRecord);
+				}
+
+				if (ignoreLeadingWhitespace) {
+					skipWhitespace(lastFieldOfRecord, ignorePadding);
+				}
+
+				if (recordEndsOnNewLine) {
+					readValueUntilNewLine(ignorePadding);
+					if (ch == newLine) {
+						output.valueParsed();
+						useDefaultPadding = false;
+						return;
+					}
+				} else if (length > 0) {
+					readValue(ignorePadding);
+					if (!lastFieldOfRecord) {
+						ch = input.nextChar();
+					}
+				}
+				if (ignore[i]) {
+					output.appender.reset();
+				} else {
+					output.valueParsed();
+				}
+			}
+		}
+
+		if (skipToNewLine) {
+			skipToNewLine();
+		}
+		useDefaultPadding = false;
+
+	}
+
+	/**
+	 * Parses the values of a record that has been consumed from the input at once, computing the boundaries of each value in the input buffer
+	 * with the same rules applied when reading one character at a time.
+	 *
+	 * @param buffer         the input buffer
+	 * @param recordStart    the position of the first character of the record in the buffer
+	 * @param columnsToParse the number of leading columns of the record that are required, or {@code -1} if all columns are required.
+	 *
+	 * @return {@code false} if the record ended on a newline found after the last value, {@code true} otherwise.
+	 */
+	private boolean sliceRecord(char[] buffer, int recordStart, int columnsToParse) {
+		ch = input.getChar();
+		int end = recordStart;
+		for (int i = 0; i < lengths.length; i++) {
+			if (columnsToParse != -1 && output.getCurrentColumn() >= columnsToParse) {
+				break;
+			}
 			final boolean ignorePadding = keepPaddingFlags[i] == null ? !keepPadding : !keepPaddingFlags[i];
-			length = lengths[i];
 			if (paddings != null) {
 				padding = useDefaultPadding ? defaultPadding : paddings[i];
 			}
 			if (alignments != null) {
 				alignment = alignments[i];
 			}
-			final boolean lastFieldOfRecord = (i + 1 >= lengths.length);
 
-			if (ignorePadding) {
-				skipPadding(lastFieldOfRecord);
+			int start = end;
+			end += lengths[i];
+			if ((ignore[i] || output.appender.length() == -1) && !(recordEndsOnNewLine && i + 1 == lengths.length)) {
+				if (!ignore[i]) {
+					output.valueParsed();
+				}
+				continue;
+			}
+			while (start < end && (buffer[start] == padding ? ignorePadding : ignoreLeadingWhitespace && isWhitespace(buffer[start]))) {
+				start++;
 			}
 
-			if (ignoreLeadingWhitespace) {
-				skipWhitespace(lastFieldOfRecord, ignorePadding);
+			int valueEnd = end;
+			if (ignoreTrailingWhitespace) {
+				if (alignment == FieldAlignment.RIGHT) {
+					while (valueEnd > start && isWhitespace(buffer[valueEnd - 1])) {
+						valueEnd--;
+					}
+				} else if (ignorePadding) {
+					while (valueEnd > start && (buffer[valueEnd - 1] == padding || isWhitespace(buffer[valueEnd - 1]))) {
+						valueEnd--;
+					}
+				}
+			} else if (alignment != FieldAlignment.RIGHT && ignorePadding) {
+				while (valueEnd > start && buffer[valueEnd - 1] == padding) {
+					valueEnd--;
+				}
+			}
+			if (valueEnd > start) {
+				output.appender.append(buffer, start, valueEnd - start);
 			}
 
-			if (recordEndsOnNewLine) {
-				readValueUntilNewLine(ignorePadding);
+			// when reading one character at a time, the character after the last value is consumed if the value is not just padding or whitespace
+			if (recordEndsOnNewLine && start < end && i + 1 == lengths.length) {
+				ch = input.nextChar();
 				if (ch == newLine) {
 					output.valueParsed();
-					useDefaultPadding = false;
-					return;
-				}
-			} else if (length > 0) {
-				readValue(ignorePadding);
-				if (!lastFieldOfRecord) {
-					ch = input.nextChar();
+					return false;
 				}
 			}
 			if (ignore[i]) {
@@ -244,12 +450,48 @@ public class FixedWidthParser extends AbstractParser<FixedWidthParserSettings> {
 				output.valueParsed();
 			}
 		}
+		return true;
+	}
 
-		if (skipToNewLine) {
-			skipToNewLine();
+	/**
+	 * Skips the value of the current field at once, if all of its characters are available in the input buffer and there are no line separators
+	 * among them.
+	 *
+	 * @param lastFieldOfRecord flag indicating whether the current field is the last of the record, in which case the character after the
+	 *                          value is not consumed.
+	 *
+	 * @return {@code true} if the value was skipped, {@code false} if it must be read one character at a time.
+	 */
+	private boolean skipValue(boolean lastFieldOfRecord) {
+		if (((AbstractCharInputReader) input).consumeSequence(length) == -1) {
+			return false;
 		}
-		useDefaultPadding = false;
+		ch = lastFieldOfRecord ? input.getChar() : input.nextChar();
+		return true;
+	}
+
+	/**
+	 * Skips the values of all fields of the record from the given field onwards at once, if all of their characters are available in the
+	 * input buffer and there are no line separators among them.
+	 *
+	 * @param field the index of the first field to skip.
+	 *
+	 * @return {@code true} if the values were skipped, {@code false} if they must be read one character at a time.
+	 */
+	private boolean skipRemainingValues(int field) {
+		int remaining = 0;
+		for (int i = field; i < lengths.length; i++) {
+			remaining += lengths[i];
+		}
+		if (((AbstractCharInputReader) input).consumeSequence(remaining) == -1) {
+			return false;
+		}
+		ch = input.getChar();
+		return true;
+	}
 
+	private boolean isWhitespace(char ch) {
+		return ch <= ' ' && whitespaceRangeStart < ch;
 	}
 
 	private void skipToNewLine() {
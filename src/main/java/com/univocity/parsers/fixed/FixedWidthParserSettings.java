@@ -33,6 +33,9 @@ import java.util.*;
  * <li><b>recordEndsOnNewline <i>(defaults to {@code false})</i>:</b> Indicates whether or not a record is considered parsed when a newline is reached.
  * <p>For example, if recordEndsOnNewline is set to true, then given a record of length 4, and the input "12\n3456", the parser will identify [12] and [3456]
  * <p>If recordEndsOnNewline is set to false, then given a record of length 4, and the input "12\n3456", the parser will identify a multi-line record [12\n3] and [456 ]</li>
+ * <li><b>fixedLengthRecords <i>(defaults to {@code false})</i>:</b> Indicates whether all records of the input have exactly the length of the sum of all field lengths,
+ * which allows the parser to compute the boundaries of each field instead of reading the input character by character.
+ * <p>This also enables reading records from any position of a file with {@link FixedWidthParser#beginParsing(java.io.File, java.nio.charset.Charset, long)}</li>
  * </ul>
  *
  * <p> The FixedWidthParserSettings need a definition of the field lengths of each record in the input. This must provided using an instance of {@link FixedWidthFields}.
@@ -49,6 +52,7 @@ public class FixedWidthParserSettings extends CommonParserSettings<FixedWidthFor
 	protected boolean recordEndsOnNewline = false;
 	private boolean useDefaultPaddingForHeaders = true;
 	private boolean keepPadding = false;
+	private boolean fixedLengthRecords = false;
 
 	private FixedWidthFields fieldLengths;
 	private Map<String, FixedWidthFields> lookaheadFormats = new HashMap<String, FixedWidthFields>();
@@ -187,6 +191,40 @@ public class FixedWidthParserSettings extends CommonParserSettings<FixedWidthFor
 		this.recordEndsOnNewline = recordEndsOnNewline;
 	}
 
+	/**
+	 * Indicates whether all records of the input have the same length, which is the sum of all field lengths, optionally followed by a line separator
+	 * (defaults to {@code false}).
+	 *
+	 * <p>When enabled, the parser computes the boundaries of each field of a record from the field lengths, and takes the values directly from
+	 * its input buffer instead of reading and evaluating one character at a time. Records that are not entirely available in the buffer, or
+	 * that contain a line separator, are still parsed one character at a time, so the values produced are the same with or without this setting.
+	 * This has no effect when formats for lookahead or lookbehind values are defined, as the record length changes with the format of each record.
+	 *
+	 * <p>Inputs with records of fixed length can also be read from any given record without going through the records before it,
+	 * using {@link FixedWidthParser#beginParsing(java.io.File, java.nio.charset.Charset, long)}, and split into ranges parsed in parallel,
+	 * using {@link FixedWidthParser#parseParallel(java.io.File, java.nio.charset.Charset, int, boolean)}.
+	 *
+	 * @return {@code true} if all records of the input have the same length, otherwise {@code false}
+	 */
+	public boolean getFixedLengthRecords() {
+		return fixedLengthRecords;
+	}
+
+	/**
+	 * Defines whether all records of the input have the same length, which is the sum of all field lengths, optionally followed by a line separator
+	 * (defaults to {@code false}).
+	 *
+	 * <p>When enabled, the parser computes the boundaries of each field of a record from the field lengths, and takes the values directly from
+	 * its input buffer instead of reading and evaluating one character at a time. Records that are not entirely available in the buffer, or
+	 * that contain a line separator, are still parsed one character at a time, so the values produced are the same with or without this setting.
+	 * This has no effect when formats for lookahead or lookbehind values are defined, as the record length changes with the format of each record.
+	 *
+	 * @param fixedLengthRecords flag indicating whether all records of the input have the same length
+	 */
+	public void setFixedLengthRecords(boolean fixedLengthRecords) {
+		this.fixedLengthRecords = fixedLengthRecords;
+	}
+
 	/**
 	 * Returns the default FixedWidthFormat configured to handle Fixed-Width inputs
 	 *
@@ -334,6 +372,7 @@ public class FixedWidthParserSettings extends CommonParserSettings<FixedWidthFor
 		super.addConfiguration(out);
 		out.put("Skip trailing characters until new line", skipTrailingCharsUntilNewline);
 		out.put("Record ends on new line", recordEndsOnNewline);
+		out.put("Fixed length records", fixedLengthRecords);
 		out.put("Field lengths", fieldLengths == null ? "<null>" : fieldLengths.toString());
 		out.put("Lookahead formats", lookaheadFormats);
 		out.put("Lookbehind formats", lookbehindFormats);
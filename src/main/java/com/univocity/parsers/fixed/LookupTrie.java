@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.fixed;
+
+import com.univocity.parsers.common.input.*;
+
+import java.util.*;
+
+/**
+ * A prefix tree built from the lookahead or lookbehind values of a {@link FixedWidthParser}, used to find the record format
+ * matching the input by reading each character of the lookahead buffer once, instead of comparing the input against
+ * every {@link Lookup} value.
+ *
+ * <p>Wildcard characters in the lookup values become a separate branch of each node. When more than one lookup value
+ * matches the input, the format returned is the first one in the array given in the constructor, just like a sequential
+ * scan over the array would produce.</p>
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+final class LookupTrie {
+
+	private static final class Node {
+		char[] keys = new char[0];
+		Node[] children = new Node[0];
+		Node wildcard;
+		int lookup = Integer.MAX_VALUE; // index of the first lookup value that ends in this node.
+		int first = Integer.MAX_VALUE; // index of the first lookup value that ends in this node or in any node below it.
+
+		Node child(char ch) {
+			int i = Arrays.binarySearch(keys, ch);
+			return i < 0 ? null : children[i];
+		}
+
+		Node addChild(char ch) {
+			int i = Arrays.binarySearch(keys, ch);
+			if (i >= 0) {
+				return children[i];
+			}
+			i = -(i + 1);
+			Node child = new Node();
+
+			char[] newKeys = new char[keys.length + 1];
+			System.arraycopy(keys, 0, newKeys, 0, i);
+			System.arraycopy(keys, i, newKeys, i + 1, keys.length - i);
+			newKeys[i] = ch;
+
+			Node[] newChildren = new Node[children.length + 1];
+			System.arraycopy(children, 0, newChildren, 0, i);
+			System.arraycopy(children, i, newChildren, i + 1, children.length - i);
+			newChildren[i] = child;
+
+			keys = newKeys;
+			children = newChildren;
+			return child;
+		}
+	}
+
+	private final Lookup[] lookups;
+	private final Node root = new Node();
+
+	/**
+	 * Builds a prefix tree with the values of the given lookups
+	 *
+	 * @param lookups  the lookups to match against the input, in order of precedence.
+	 * @param wildcard the character that matches any character of the input.
+	 */
+	LookupTrie(Lookup[] lookups, char wildcard) {
+		this.lookups = lookups;
+		for (int i = 0; i < lookups.length; i++) {
+			Node node = root;
+			node.first = Math.min(node.first, i);
+			for (char ch : lookups[i].value) {
+				if (ch == wildcard) {
+					if (node.wildcard == null) {
+						node.wildcard = new Node();
+					}
+					node = node.wildcard;
+				} else {
+					node = node.addChild(ch);
+				}
+				node.first = Math.min(node.first, i);
+			}
+			node.lookup = Math.min(node.lookup, i);
+		}
+	}
+
+	/**
+	 * Finds the first lookup whose value matches the current character and the characters that follow it in the lookahead buffer.
+	 *
+	 * @param current the last character used by the parser, which is matched against the first character of each lookup value.
+	 * @param input   the lookahead input with the characters that follow the current character
+	 *
+	 * @return the matching lookup, or {@code null} if no lookup value matches the input.
+	 */
+	Lookup find(char current, LookaheadCharInputReader input) {
+		int match = find(root, 0, current, input, input.getLookaheadLength(), Integer.MAX_VALUE);
+		return match == Integer.MAX_VALUE ? null : lookups[match];
+	}
+
+	private int find(Node node, int depth, char current, LookaheadCharInputReader input, int available, int best) {
+		if (node.lookup < best) {
+			best = node.lookup;
+		}
+		// lookup values can't be longer than the number of characters available in the lookahead buffer.
+		if (depth >= available) {
+			return best;
+		}
+		Node child = node.child(depth == 0 ? current : input.getLookaheadChar(depth - 1));
+		if (child != null && child.first < best) {
+			best = find(child, depth + 1, current, input, available, best);
+		}
+		if (node.wildcard != null && node.wildcard.first < best) {
+			best = find(node.wildcard, depth + 1, current, input, available, best);
+		}
+		return best;
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.fixed;
+
+import com.univocity.parsers.common.*;
+
+import java.io.*;
+import java.nio.charset.*;
+
+/**
+ * Splits a file of fixed-width records that have the same length into byte ranges, and parses these ranges concurrently, each one with its own
+ * {@link FixedWidthParser}. As every record takes the same number of bytes, the position of any record in the file is calculated from its index,
+ * without reading the records before it.
+ *
+ * <p> The number of bytes taken by each record is the sum of all field lengths, plus the length of the line separator that follows the first
+ * record, if any. The file must be encoded with a charset that represents every character with a single byte, such as US-ASCII or ISO-8859-1.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see FixedWidthParser#parseParallel(File, Charset, int, boolean)
+ * @see FixedWidthParser#beginParsing(File, Charset, long)
+ */
+final class ParallelFixedWidthParser extends ParallelFileParser<FixedWidthParserSettings> {
+
+	private static final int MIN_SPLIT_SIZE = 64 * 1024;
+	private static final int MAX_SPLIT_SIZE = 4 * 1024 * 1024;
+
+	private final long recordSize;
+
+	/**
+	 * Opens a file of fixed-length records for parallel parsing or random access.
+	 *
+	 * @param file          the file to be parsed
+	 * @param encoding      the encoding of the file. Must represent every character with a single byte.
+	 * @param threads       the number of threads used to parse the file
+	 * @param preserveOrder flag indicating whether rows must be returned in the same order they appear in the file.
+	 * @param recordLength  the number of characters of each record, not including line separators.
+	 */
+	ParallelFixedWidthParser(File file, Charset encoding, int threads, boolean preserveOrder, int recordLength) {
+		super(file, validateEncoding(encoding), threads, preserveOrder);
+		recordSize = recordLength + lineSeparatorLength(recordLength);
+	}
+
+	private static Charset validateEncoding(Charset encoding) {
+		if (encoding == null) {
+			throw new IllegalArgumentException("Encoding of file with fixed-length records must not be null");
+		}
+		if (!encoding.canEncode() || encoding.newEncoder().maxBytesPerChar() > 1.0f) {
+			throw new IllegalArgumentException("Cannot compute the position of records of a file encoded in " + encoding + ": characters may be represented by more than one byte");
+		}
+		return encoding;
+	}
+
+	private int lineSeparatorLength(int recordLength) {
+		byte cr = "\r".getBytes(getEncoding())[0];
+		byte lf = "\n".getBytes(getEncoding())[0];
+
+		byte[] separator = new byte[2];
+		int read = read(separator, 0, 2, recordLength);
+		if (read <= 0 || separator[0] != cr && separator[0] != lf) {
+			return 0;
+		}
+		return read == 2 && separator[0] == cr && separator[1] == lf ? 2 : 1;
+	}
+
+	/**
+	 * Creates an input stream that reads the file from the given record onwards. The file is closed when the input stream is closed.
+	 *
+	 * @param recordIndex   the index of the first record to read, where {@code 0} is the first record of the file.
+	 * @param includeHeader flag indicating whether the first record of the file should be read before the given record, so it can be used as
+	 *                      the header row.
+	 *
+	 * @return a new input stream over the records of the file from the given index.
+	 */
+	InputStream newInputStream(long recordIndex, boolean includeHeader) {
+		if (recordIndex < 0) {
+			throw new IllegalArgumentException("Record index must not be negative. Got " + recordIndex);
+		}
+		long start = Math.min(size(), recordIndex * recordSize);
+		InputStream records = newInputStream(start, size());
+		if (includeHeader && start > 0) {
+			records = new SequenceInputStream(newInputStream(0L, Math.min(start, recordSize)), records);
+		}
+		return new FilterInputStream(records) {
+			@Override
+			public void close() throws IOException {
+				try {
+					super.close();
+				} finally {
+					ParallelFixedWidthParser.this.close();
+				}
+			}
+		};
+	}
+
+	@Override
+	protected long[] findRecordBoundaries(FixedWidthParserSettings settings) {
+		long size = size();
+		long splitSize = Math.max(MIN_SPLIT_SIZE, Math.min(MAX_SPLIT_SIZE, size / threads() + 1));
+		long recordsPerSplit = Math.max(1L, splitSize / recordSize);
+		splitSize = recordsPerSplit * recordSize;
+
+		int splitCount = (int) Math.max(1L, (size + splitSize - 1) / splitSize);
+		long[] out = new long[splitCount + 1];
+		for (int i = 0; i < splitCount; i++) {
+			out[i] = i * splitSize;
+		}
+		out[splitCount] = size;
+		return out;
+	}
+
+	@Override
+	protected AbstractParser<FixedWidthParserSettings> newParser(FixedWidthParserSettings settings) {
+		return new FixedWidthParser(settings);
+	}
+}
@@ -32,6 +32,8 @@ import java.util.*;
  */
 public class TsvFormat extends Format {
 
+	private static final long serialVersionUID = 5037907013547369126L;
+
 	private char escapeChar = '\\';
 	private char escapedTabChar = 't';
 
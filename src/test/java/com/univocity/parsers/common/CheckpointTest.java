@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class CheckpointTest {
+
+	private static File file;
+
+	@BeforeClass
+	public static void createInput() throws IOException {
+		StringBuilder out = new StringBuilder("# comment\r\nid,name,notes\r\n");
+		for (int i = 0; i < 500; i++) {
+			out.append(i).append(',');
+			switch (i % 4) {
+				case 0:
+					out.append("\"Smith, ").append(i).append("\",\"multi\r\nline\"");
+					break;
+				case 1:
+					out.append("Ñandú,\"quoted \"\"quote\"\"\"");
+					break;
+				case 2:
+					out.append("€uro ").append(i).append(",𝄞 clef");
+					break;
+				default:
+					out.append(',');
+			}
+			out.append("\r\n");
+		}
+		file = File.createTempFile("checkpoint", ".csv");
+		file.deleteOnExit();
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
+		try {
+			writer.write(out.toString());
+		} finally {
+			writer.close();
+		}
+	}
+
+	private static CsvParserSettings settings() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\r\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setInputBufferSize(64);
+		settings.setReadInputOnSeparateThread(false);
+		return settings;
+	}
+
+	private static List<String> collect(CsvParser parser) {
+		List<String> out = new ArrayList<String>();
+		String[] row;
+		while ((row = parser.parseNext()) != null) {
+			ParsingContext context = parser.getContext();
+			out.add(context.currentRecord() + "@" + context.currentLine() + ":" + Arrays.toString(row));
+		}
+		return out;
+	}
+
+	private static List<String> expected(CsvParserSettings settings) {
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(file, StandardCharsets.UTF_8);
+		return collect(parser);
+	}
+
+	private static ParsingCheckpoint checkpointAfter(CsvParser parser, int records) {
+		for (int i = 0; i < records; i++) {
+			assertNotNull(parser.parseNext());
+		}
+		ParsingCheckpoint checkpoint = parser.checkpoint();
+		parser.stopParsing();
+		return checkpoint;
+	}
+
+	@DataProvider
+	public Object[][] inputs() {
+		return new Object[][]{{"channel"}, {"memoryMapped"}, {"directDecoding"}};
+	}
+
+	@Test(dataProvider = "inputs")
+	public void testResumeFromByteOffset(String input) throws IOException {
+		CsvParserSettings settings = settings();
+		List<String> expected = expected(settings);
+
+		for (int records : new int[]{0, 1, 2, 37, 250, 499, 500}) {
+			CsvParserSettings s = settings();
+			s.setMemoryMappedInputEnabled(input.equals("memoryMapped"));
+			s.setDirectDecodingEnabled(input.equals("directDecoding"));
+			CsvParser parser = new CsvParser(s);
+			if (input.equals("channel")) {
+				parser.beginParsing(new FileInputStream(file).getChannel(), StandardCharsets.UTF_8);
+			} else if (input.equals("directDecoding")) {
+				parser.beginParsing(new FileInputStream(file), StandardCharsets.UTF_8);
+			} else {
+				parser.beginParsing(file, StandardCharsets.UTF_8);
+			}
+			ParsingCheckpoint checkpoint = checkpointAfter(parser, records);
+			assertTrue(checkpoint.getByteOffset() >= 0, input);
+			assertEquals(checkpoint.getRecordCount(), records);
+			assertEquals(checkpoint.getHeaders(), new String[]{"id", "name", "notes"});
+
+			parser = new CsvParser(settings());
+			parser.beginParsing(file, StandardCharsets.UTF_8, checkpoint);
+			assertEquals(collect(parser), expected.subList(records, expected.size()), input + " after " + records + " records");
+			assertEquals(parser.getContext().headers(), new String[]{"id", "name", "notes"});
+		}
+	}
+
+	@Test
+	public void testResumeFromCheckpointOfResumedInput() {
+		CsvParserSettings settings = settings();
+		settings.setDirectDecodingEnabled(true);
+		List<String> expected = expected(settings);
+
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(file, StandardCharsets.UTF_8);
+		ParsingCheckpoint first = checkpointAfter(parser, 100);
+
+		parser.beginParsing(file, StandardCharsets.UTF_8, first);
+		ParsingCheckpoint second = checkpointAfter(parser, 150);
+		assertEquals(second.getRecordCount(), 250);
+		assertTrue(second.getByteOffset() > first.getByteOffset());
+
+		parser.beginParsing(file, StandardCharsets.UTF_8, second);
+		assertEquals(collect(parser), expected.subList(250, expected.size()));
+	}
+
+	@Test
+	public void testResumeFromCharOffset() throws IOException {
+		CsvParserSettings settings = settings();
+		List<String> expected = expected(settings);
+
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+		ParsingCheckpoint checkpoint = checkpointAfter(parser, 123);
+		assertEquals(checkpoint.getByteOffset(), -1L);
+
+		parser.beginParsing(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), checkpoint);
+		assertEquals(collect(parser), expected.subList(123, expected.size()));
+
+		parser.beginParsing(file, StandardCharsets.UTF_8, checkpoint);
+		assertEquals(collect(parser), expected.subList(123, expected.size()));
+	}
+
+	@Test
+	public void testDetectedFormatIsCarriedOver() {
+		String input = "a;b;c\n1;\"x;y\";2\n3;'q';4\n5;6;7\n8;9;10\n";
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.detectFormatAutomatically();
+		settings.setReadInputOnSeparateThread(false);
+
+		CsvParser parser = new CsvParser(settings);
+		List<String[]> expected = parser.parseAll(new StringReader(input));
+
+		parser.beginParsing(new StringReader(input));
+		ParsingCheckpoint checkpoint = checkpointAfter(parser, 2);
+		CsvFormat format = (CsvFormat) checkpoint.getFormat();
+		assertEquals(format.getDelimiter(), ';');
+		assertEquals(format.getLineSeparatorString(), "\n");
+
+		parser = new CsvParser(settings);
+		List<String[]> rows = new ArrayList<String[]>();
+		parser.beginParsing(new StringReader(input), checkpoint);
+		String[] row;
+		while ((row = parser.parseNext()) != null) {
+			rows.add(row);
+		}
+		assertEquals(rows.size(), 3);
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i + 2));
+		}
+		assertEquals(parser.getDetectedFormat().getDelimiter(), ';');
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		CsvParserSettings settings = settings();
+		List<String> expected = expected(settings);
+
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(file, StandardCharsets.UTF_8);
+		ParsingCheckpoint checkpoint = checkpointAfter(parser, 321);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(checkpoint);
+		out.close();
+		ParsingCheckpoint restored = (ParsingCheckpoint) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+		assertEquals(restored.getByteOffset(), checkpoint.getByteOffset());
+		assertEquals(restored.getCharOffset(), checkpoint.getCharOffset());
+		assertEquals(restored.getLine(), checkpoint.getLine());
+		assertEquals(restored.getRecordCount(), 321);
+
+		FileChannel channel = new RandomAccessFile(file, "r").getChannel();
+		parser.beginParsing(channel, StandardCharsets.UTF_8, restored);
+		assertEquals(collect(parser), expected.subList(321, expected.size()));
+		assertFalse(channel.isOpen());
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void testCheckpointRequiresParsingToStart() {
+		new CsvParser(settings()).checkpoint();
+	}
+}
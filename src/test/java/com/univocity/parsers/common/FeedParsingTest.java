@@ -0,0 +1,317 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.csv.*;
+import com.univocity.parsers.fixed.*;
+import com.univocity.parsers.tsv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class FeedParsingTest {
+
+	private static final String CSV = "# comment\r\nid,name,notes\r\n1,\"Smith, John\",\"multi\r\nline\"\r\n2,Ñandú,\"quoted \"\"quote\"\"\"\r\n\r\n3,€uro, trailing \r\n4,,\"\"\r\n5,last,no newline";
+
+	private static List<String[]> feed(AbstractParser<?> parser, RowListProcessor processor, String input, int chunkSize) {
+		parser.beginFeeding();
+		char[] chars = input.toCharArray();
+		for (int i = 0; i < chars.length; i += chunkSize) {
+			parser.feed(chars, i, Math.min(chunkSize, chars.length - i));
+		}
+		parser.endOfInput();
+		return processor.getRows();
+	}
+
+	private static List<String[]> feedBytes(AbstractParser<?> parser, RowListProcessor processor, String input, int chunkSize) {
+		parser.beginFeeding(StandardCharsets.UTF_8);
+		byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+		byte[] chunk = new byte[chunkSize];
+		for (int i = 0; i < bytes.length; i += chunkSize) {
+			int length = Math.min(chunkSize, bytes.length - i);
+			System.arraycopy(bytes, i, chunk, 0, length);
+			parser.feed(chunk, 0, length);
+			Arrays.fill(chunk, (byte) 0);
+		}
+		parser.endOfInput();
+		return processor.getRows();
+	}
+
+	private static void assertRows(List<String[]> actual, List<String[]> expected) {
+		assertEquals(actual.size(), expected.size());
+		for (int i = 0; i < actual.size(); i++) {
+			assertEquals(actual.get(i), expected.get(i), "Row " + i);
+		}
+	}
+
+	private static CsvParserSettings csvSettings(RowListProcessor processor) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\r\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setProcessor(processor);
+		return settings;
+	}
+
+	@DataProvider
+	public Object[][] chunkSizes() {
+		return new Object[][]{{1}, {2}, {3}, {7}, {64}, {100000}};
+	}
+
+	@Test(dataProvider = "chunkSizes")
+	public void testFeedCharacters(int chunkSize) {
+		RowListProcessor expected = new RowListProcessor();
+		CsvParser reference = new CsvParser(csvSettings(expected));
+		reference.parse(new StringReader(CSV));
+
+		RowListProcessor processor = new RowListProcessor();
+		CsvParser parser = new CsvParser(csvSettings(processor));
+		assertRows(feed(parser, processor, CSV, chunkSize), expected.getRows());
+		assertEquals(processor.getHeaders(), new String[]{"id", "name", "notes"});
+		assertEquals(parser.getContext().currentLine(), reference.getContext().currentLine());
+		assertEquals(parser.getContext().currentChar(), reference.getContext().currentChar());
+		assertTrue(parser.getContext().isStopped());
+	}
+
+	@Test(dataProvider = "chunkSizes")
+	public void testFeedBytes(int chunkSize) {
+		List<String[]> expected = new CsvParser(csvSettings(new RowListProcessor())).parseAll(new StringReader(CSV));
+
+		RowListProcessor processor = new RowListProcessor();
+		CsvParser parser = new CsvParser(csvSettings(processor));
+		assertRows(feedBytes(parser, processor, CSV, chunkSize), expected);
+	}
+
+	@Test
+	public void testRowsEmittedAsSoonAsComplete() {
+		RowListProcessor processor = new RowListProcessor();
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setProcessor(processor);
+		CsvParser parser = new CsvParser(settings);
+		parser.beginFeeding();
+
+		char[] chunk = "a,b\nc,\"d\n".toCharArray();
+		parser.feed(chunk, 0, chunk.length);
+		assertEquals(processor.getRows().size(), 1);
+		assertEquals(processor.getRows().get(0), new String[]{"a", "b"});
+
+		chunk = "e\"\nf,g\n".toCharArray();
+		parser.feed(chunk, 0, chunk.length);
+		assertEquals(processor.getRows().size(), 2);
+		assertEquals(processor.getRows().get(1), new String[]{"c", "d\ne"});
+
+		parser.endOfInput();
+		assertEquals(processor.getRows().size(), 3);
+		assertEquals(processor.getRows().get(2), new String[]{"f", "g"});
+
+		parser.feed(chunk, 0, chunk.length);
+		assertEquals(processor.getRows().size(), 3);
+	}
+
+	@Test
+	public void testPartialDelimiterMatchDiscardedWithRecord() {
+		RowListProcessor processor = new RowListProcessor();
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.getFormat().setDelimiter("~|~");
+		settings.setProcessor(processor);
+		CsvParser parser = new CsvParser(settings);
+		parser.beginFeeding();
+
+		char[] chunk = "x~|".toCharArray();
+		parser.feed(chunk, 0, chunk.length);
+		chunk = "a\n".toCharArray();
+		parser.feed(chunk, 0, chunk.length);
+		parser.endOfInput();
+
+		assertEquals(processor.getRows().size(), 1);
+		assertEquals(processor.getRows().get(0), new String[]{"x~|a"});
+	}
+
+	@Test
+	public void testPendingRecordsDiscardedWithRecord() {
+		String input = "\"a,b\nc\"d,e\nf,g\nh\n";
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setUnescapedQuoteHandling(UnescapedQuoteHandling.BACK_TO_DELIMITER);
+		List<String[]> expected = new CsvParser(settings).parseAll(new StringReader(input));
+
+		for (int chunkSize = 1; chunkSize <= input.length(); chunkSize++) {
+			RowListProcessor processor = new RowListProcessor();
+			settings.setProcessor(processor);
+			assertRows(feed(new CsvParser(settings), processor, input, chunkSize), expected);
+		}
+	}
+
+	private static String randomInput(Random random, String delimiter) {
+		String[] pieces = {"a", "b", "c", " ", "\"", "\n", ",", delimiter, delimiter.substring(0, delimiter.length() - 1)};
+		StringBuilder out = new StringBuilder();
+		for (int i = random.nextInt(40); i > 0; i--) {
+			out.append(pieces[random.nextInt(pieces.length)]);
+		}
+		return out.toString();
+	}
+
+	private static List<String[]> feedRandomChunks(CsvParser parser, RowListProcessor processor, String input, Random random) {
+		parser.beginFeeding();
+		char[] chars = input.toCharArray();
+		for (int i = 0; i < chars.length; ) {
+			int length = Math.min(1 + random.nextInt(6), chars.length - i);
+			parser.feed(chars, i, length);
+			i += length;
+		}
+		parser.endOfInput();
+		return processor.getRows();
+	}
+
+	@Test
+	public void testFeedRandomChunksMatchesParse() {
+		Random random = new Random(22);
+		for (int test = 0; test < 3000; test++) {
+			String delimiter = random.nextBoolean() ? "," : "~|~";
+			String input = randomInput(random, delimiter);
+			UnescapedQuoteHandling quoteHandling = UnescapedQuoteHandling.values()[random.nextInt(UnescapedQuoteHandling.values().length)];
+			boolean headerExtraction = random.nextBoolean();
+			boolean escapeUnquotedValues = random.nextBoolean();
+
+			RowListProcessor[] processors = {new RowListProcessor(), new RowListProcessor()};
+			CsvParser[] parsers = new CsvParser[2];
+			for (int i = 0; i < 2; i++) {
+				CsvParserSettings settings = new CsvParserSettings();
+				settings.getFormat().setLineSeparator("\n");
+				settings.getFormat().setDelimiter(delimiter);
+				settings.setUnescapedQuoteHandling(quoteHandling);
+				settings.setHeaderExtractionEnabled(headerExtraction);
+				settings.setEscapeUnquotedValues(escapeUnquotedValues);
+				settings.setProcessor(processors[i]);
+				parsers[i] = new CsvParser(settings);
+			}
+
+			String message = "Test " + test + ", input: " + input + ", quote handling: " + quoteHandling + ", header extraction: " + headerExtraction + ", escape unquoted values: " + escapeUnquotedValues;
+			List<String[]> expected;
+			try {
+				parsers[0].parse(new StringReader(input));
+				expected = processors[0].getRows();
+			} catch (TextParsingException e) {
+				// only the records of inputs that can be parsed are compared
+				continue;
+			}
+			List<String[]> rows = feedRandomChunks(parsers[1], processors[1], input, random);
+			assertEquals(rows.size(), expected.size(), message);
+			for (int i = 0; i < rows.size(); i++) {
+				assertEquals(rows.get(i), expected.get(i), "Row " + i + ". " + message);
+			}
+		}
+	}
+
+	@Test
+	public void testLongRecordAcrossManyChunks() {
+		StringBuilder value = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			value.append((char) ('a' + i % 26));
+		}
+		String input = "1," + value + "\n2,x\n";
+
+		RowListProcessor processor = new RowListProcessor();
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setMaxCharsPerColumn(-1);
+		settings.setProcessor(processor);
+		List<String[]> rows = feed(new CsvParser(settings), processor, input, 5);
+		assertEquals(rows.size(), 2);
+		assertEquals(rows.get(0)[1], value.toString());
+		assertEquals(rows.get(1), new String[]{"2", "x"});
+	}
+
+	@Test
+	public void testSkipRowsAndLimitRecords() {
+		String input = "skip me\nskip me too\n1\n2\n3\n4\n";
+		RowListProcessor processor = new RowListProcessor();
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setNumberOfRowsToSkip(2);
+		settings.setNumberOfRecordsToRead(3);
+		settings.setProcessor(processor);
+		List<String[]> rows = feed(new CsvParser(settings), processor, input, 3);
+		assertEquals(rows.size(), 3);
+		assertEquals(rows.get(0), new String[]{"1"});
+		assertEquals(rows.get(2), new String[]{"3"});
+	}
+
+	@Test
+	public void testLineSeparatorDetection() {
+		String input = "a,b\r\nc,d\r\ne,f";
+		RowListProcessor processor = new RowListProcessor();
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setLineSeparatorDetectionEnabled(true);
+		settings.setProcessor(processor);
+		List<String[]> rows = feed(new CsvParser(settings), processor, input, 2);
+		assertEquals(rows.size(), 3);
+		assertEquals(rows.get(1), new String[]{"c", "d"});
+	}
+
+	@Test
+	public void testFeedTsvAndFixedWidth() {
+		RowListProcessor processor = new RowListProcessor();
+		TsvParserSettings tsvSettings = new TsvParserSettings();
+		tsvSettings.getFormat().setLineSeparator("\n");
+		tsvSettings.setProcessor(processor);
+		List<String[]> rows = feed(new TsvParser(tsvSettings), processor, "a\tb\\tc\n\td\n", 1);
+		assertEquals(rows.size(), 2);
+		assertEquals(rows.get(0), new String[]{"a", "b\tc"});
+		assertEquals(rows.get(1), new String[]{null, "d"});
+
+		String input = "12abc \n34de  \n56fghi\n";
+		FixedWidthParserSettings fixedSettings = new FixedWidthParserSettings(new FixedWidthFields(2, 4));
+		fixedSettings.getFormat().setLineSeparator("\n");
+		List<String[]> expected = new FixedWidthParser(fixedSettings).parseAll(new StringReader(input));
+
+		processor = new RowListProcessor();
+		fixedSettings.setProcessor(processor);
+		assertRows(feed(new FixedWidthParser(fixedSettings), processor, input, 4), expected);
+	}
+
+	@Test
+	public void testFeedRequiresBeginFeeding() {
+		CsvParser parser = new CsvParser(new CsvParserSettings());
+		try {
+			parser.feed(new char[1], 0, 1);
+			fail("Expected IllegalStateException");
+		} catch (IllegalStateException e) {
+			//expected
+		}
+
+		parser.beginFeeding();
+		try {
+			parser.feed(new byte[1], 0, 1);
+			fail("Expected IllegalStateException");
+		} catch (IllegalStateException e) {
+			//expected
+		}
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void testFeedingRejectedWithLookaheadFormats() {
+		FixedWidthParserSettings settings = new FixedWidthParserSettings(new FixedWidthFields(2, 4));
+		settings.addFormatForLookahead("#", new FixedWidthFields(1, 3));
+		new FixedWidthParser(settings).beginFeeding();
+	}
+}
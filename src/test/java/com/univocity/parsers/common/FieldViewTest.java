@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.csv.*;
+import com.univocity.parsers.fixed.*;
+import com.univocity.parsers.tsv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.math.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class FieldViewTest {
+
+	private static final String INPUT = "a,b,c,d\n" +
+			"1,\"x,y\",,z\n" +
+			"  2 , \"\" ,\" q \"\"q\"\" \"\n" +
+			"\n" +
+			"3,4,5,6,7\n" +
+			"4\n";
+
+	private static class Collector extends AbstractFieldViewProcessor {
+		final List<String[]> rows = new ArrayList<String[]>();
+		final List<Integer> hashes = new ArrayList<Integer>();
+		int bufferBacked;
+
+		@Override
+		public void rowProcessed(FieldView fields, ParsingContext context) {
+			rows.add(fields.toArray());
+			for (int i = 0; i < fields.getFieldCount(); i++) {
+				String value = fields.toString(i);
+				hashes.add(fields.hashCode(i));
+				assertTrue(fields.contentEquals(i, value));
+				assertEquals(fields.isNull(i), value == null);
+				CharSequence sequence = fields.get(i);
+				if (value == null) {
+					assertNull(sequence);
+					assertEquals(fields.getLength(i), -1);
+				} else {
+					assertEquals(sequence.toString(), value);
+					if (!(sequence instanceof String)) {
+						bufferBacked++;
+					}
+					assertEquals(fields.getLength(i), value.length());
+					if (fields.getOffset(i) != -1) {
+						assertEquals(new String(fields.getBuffer(), fields.getOffset(i), fields.getLength(i)), value);
+					}
+				}
+			}
+		}
+	}
+
+	private void assertSameRows(CommonParserSettings<?> settings, AbstractParser<?> expectedParser, AbstractParser<?> parser, String input) {
+		List<String[]> expected = expectedParser.parseAll(new StringReader(input));
+
+		Collector collector = (Collector) (Object) settings.getProcessor();
+		parser.parse(new StringReader(input));
+
+		assertEquals(collector.rows.size(), expected.size());
+		int h = 0;
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(collector.rows.get(i), expected.get(i), "Row " + i);
+			for (String value : expected.get(i)) {
+				assertEquals(collector.hashes.get(h++).intValue(), value == null ? 0 : value.hashCode());
+			}
+		}
+		assertTrue(collector.bufferBacked > 0);
+	}
+
+	@DataProvider
+	public Object[][] csvSettingsProvider() {
+		return new Object[][]{
+				{false, false, null},
+				{true, false, null},
+				{true, true, null},
+				{true, true, new String[]{"d", "b", "x"}},
+				{true, false, new String[]{"d", "b"}},
+				{false, true, new String[]{"c"}},
+		};
+	}
+
+	@Test(dataProvider = "csvSettingsProvider")
+	public void testCsvFieldView(boolean extractHeaders, boolean skipEmptyLines, String[] selection) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(extractHeaders);
+		settings.setSkipEmptyLines(skipEmptyLines);
+		settings.setNullValue("<null>");
+		settings.setEmptyValue("<empty>");
+		if (selection != null) {
+			if (!extractHeaders) {
+				settings.setHeaders("a", "b", "c", "d");
+			}
+			settings.selectFields(selection);
+			settings.setColumnReorderingEnabled(skipEmptyLines);
+		}
+		CsvParser expectedParser = new CsvParser(settings.clone());
+
+		settings.setProcessor(new Collector());
+		assertSameRows(settings, expectedParser, new CsvParser(settings), INPUT);
+	}
+
+	@Test
+	public void testTsvAndFixedWidthFieldView() {
+		TsvParserSettings tsvSettings = new TsvParserSettings();
+		tsvSettings.getFormat().setLineSeparator("\n");
+		TsvParser expectedTsv = new TsvParser(tsvSettings.clone());
+		tsvSettings.setProcessor(new Collector());
+		assertSameRows(tsvSettings, expectedTsv, new TsvParser(tsvSettings), "a\tb\\tc\n\t x \n1\t2\t3\n");
+
+		FixedWidthParserSettings fixedSettings = new FixedWidthParserSettings(new FixedWidthFields(3, 2, 4));
+		fixedSettings.getFormat().setLineSeparator("\n");
+		fixedSettings.getFormat().setPadding('_');
+		FixedWidthParser expectedFixed = new FixedWidthParser(fixedSettings.clone());
+		fixedSettings.setProcessor(new Collector());
+		assertSameRows(fixedSettings, expectedFixed, new FixedWidthParser(fixedSettings), "abc12wxyz\n__1__1234\nx\n");
+	}
+
+	@Test
+	public void testRecordLimitAndStop() {
+		final List<String> firstValues = new ArrayList<String>();
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setNumberOfRecordsToRead(3);
+		settings.setProcessor(new AbstractFieldViewProcessor() {
+			@Override
+			public void rowProcessed(FieldView fields, ParsingContext context) {
+				firstValues.add(fields.toString(0));
+			}
+		});
+
+		new CsvParser(settings).parse(new StringReader("1,a\n2,b\n3,c\n4,d\n"));
+		assertEquals(firstValues, Arrays.asList("1", "2", "3"));
+	}
+
+	@Test
+	public void testViewOverArray() {
+		FieldView view = FieldView.of("abc", null, "");
+		assertEquals(view.getFieldCount(), 3);
+		assertEquals(view.get(0).toString(), "abc");
+		assertTrue(view.isNull(1));
+		assertEquals(view.getLength(2), 0);
+		assertEquals(view.hashCode(0), "abc".hashCode());
+
+		view.update(new String[]{"x"});
+		assertEquals(view.toArray(), new String[]{"x"});
+		try {
+			view.get(1);
+			fail("Expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void testNumericValues() {
+		final List<Object[]> values = new ArrayList<Object[]>();
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setProcessor(new AbstractFieldViewProcessor() {
+			@Override
+			public void rowProcessed(FieldView fields, ParsingContext context) {
+				values.add(new Object[]{fields.getInt(0), fields.getLong(1), fields.getDouble(2), fields.getBigDecimal(3)});
+			}
+		});
+		new CsvParser(settings).parse(new StringReader("" +
+				"0,0,0,0\n" +
+				"-2147483648,9223372036854775807,\"-12.5\",123.4500\n" +
+				"+17, -9223372036854775808 ,1e-3,-1E+2\n"));
+
+		assertEquals(values.size(), 3);
+		assertEquals(values.get(0), new Object[]{0, 0L, 0.0, new BigDecimal("0")});
+		assertEquals(values.get(1), new Object[]{Integer.MIN_VALUE, Long.MAX_VALUE, -12.5, new BigDecimal("123.4500")});
+		assertEquals(values.get(2), new Object[]{17, Long.MIN_VALUE, 0.001, new BigDecimal("-1E+2")});
+
+		FieldView fields = FieldView.of("2147483648", "1a", "", null, "abc", "-", "NaN", "1e");
+		for (int i = 0; i < 6; i++) {
+			try {
+				fields.getInt(i);
+				fail("Expected conversion error on field " + i);
+			} catch (DataProcessingException e) {
+				assertEquals(e.getColumnIndex(), i);
+			}
+		}
+		assertEquals(fields.getLong(0), 2147483648L);
+		assertNull(fields.getBigDecimal(3));
+		assertTrue(Double.isNaN(fields.getDouble(6)));
+		try {
+			fields.getDouble(7);
+			fail("Expected conversion error");
+		} catch (DataProcessingException e) {
+			assertEquals(e.getValue(), "1e");
+		}
+	}
+
+	@Test
+	public void testDoubleMatchesJdkParsing() {
+		Random random = new Random(7);
+		String[] values = new String[5000];
+		for (int i = 0; i < values.length; i++) {
+			switch (i % 5) {
+				case 0:
+					values[i] = String.valueOf(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+					break;
+				case 1:
+					values[i] = String.valueOf(random.nextInt(100000000) / 100.0);
+					break;
+				case 2:
+					values[i] = (random.nextBoolean() ? "-" : "") + random.nextInt(1000) + "." + random.nextInt(1000000) + "e" + (random.nextInt(60) - 30);
+					break;
+				case 3:
+					values[i] = String.valueOf(random.nextLong());
+					break;
+				default:
+					values[i] = "0." + random.nextInt(100) + "0000";
+			}
+		}
+		FieldView fields = FieldView.of(values);
+		for (int i = 0; i < values.length; i++) {
+			assertEquals(Double.doubleToLongBits(fields.getDouble(i)), Double.doubleToLongBits(Double.parseDouble(values[i])), values[i]);
+		}
+	}
+}
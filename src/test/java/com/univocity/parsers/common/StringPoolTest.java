@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.csv.*;
+import com.univocity.parsers.fixed.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class StringPoolTest {
+
+	@Test
+	public void testValuesReused() {
+		StringPool pool = new StringPool(4);
+		char[] chars = "xBRLx".toCharArray();
+		String first = pool.get(chars, 1, 3);
+		assertEquals(first, "BRL");
+		assertSame(pool.get(chars, 1, 3), first);
+		assertSame(pool.get("BRL"), first);
+
+		String longValue = new String(new char[StringPool.MAX_VALUE_LENGTH + 1]);
+		assertSame(pool.get(longValue), longValue);
+		assertNull(pool.get(null));
+
+		// bounded: many distinct values never grow the table, and still produce correct results.
+		for (int i = 0; i < 1000; i++) {
+			String value = String.valueOf(i);
+			assertEquals(pool.get(value.toCharArray(), 0, value.length()), value);
+		}
+	}
+
+	private String input() {
+		StringBuilder out = new StringBuilder("id,country,status,description\n");
+		String[] countries = {"AU", "BR", "\"NZ\"", " US "};
+		for (int i = 0; i < 1000; i++) {
+			out.append(i).append(',').append(countries[i % 4]).append(',').append(i % 3 == 0 ? "" : "active").append(",text ").append(i).append('\n');
+		}
+		return out.toString();
+	}
+
+	private void assertDeduplicated(List<String[]> rows, List<String[]> expected, int column) {
+		assertEquals(rows.size(), expected.size());
+		Map<String, String> instances = new HashMap<String, String>();
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i));
+			String value = rows.get(i)[column];
+			if (value != null) {
+				if (instances.containsKey(value)) {
+					assertSame(value, instances.get(value));
+				} else {
+					instances.put(value, value);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCsvDeduplicationByName() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		List<String[]> expected = new CsvParser(settings).parseAll(new StringReader(input()));
+
+		settings.deduplicateFields("country", "status");
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input()));
+		assertDeduplicated(rows, expected, 1);
+		assertDeduplicated(rows, expected, 2);
+		assertNotSame(rows.get(0)[3], rows.get(4)[3]);
+	}
+
+	@Test
+	public void testDeduplicationByIndexWithSmallBuffer() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setInputBufferSize(10);
+		settings.setReadInputOnSeparateThread(false);
+		List<String[]> expected = new CsvParser(settings).parseAll(new StringReader(input()));
+
+		settings.deduplicateIndexes(1);
+		settings.setDeduplicationCacheSize(1);
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input()));
+		assertEquals(rows.size(), expected.size());
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i));
+		}
+	}
+
+	@Test
+	public void testFixedWidthDeduplication() {
+		FixedWidthParserSettings settings = new FixedWidthParserSettings(new FixedWidthFields(3, 4));
+		settings.getFormat().setLineSeparator("\n");
+		settings.deduplicateIndexes(1);
+
+		List<String[]> rows = new FixedWidthParser(settings).parseAll(new StringReader("1  abc \n2  abc \n3  xy  \n4  abc \n"));
+		assertEquals(rows.get(0)[1], "abc");
+		assertSame(rows.get(1)[1], rows.get(0)[1]);
+		assertSame(rows.get(3)[1], rows.get(0)[1]);
+		assertEquals(rows.get(2)[1], "xy");
+	}
+}
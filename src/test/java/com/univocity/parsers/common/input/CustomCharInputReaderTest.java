@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class CustomCharInputReaderTest {
+
+	/**
+	 * A reader implemented outside of the library, which only provides the methods that have no default implementation.
+	 */
+	static class CustomCharInputReader implements CharInputReader {
+		private final CharInputReader reader;
+
+		CustomCharInputReader(CharInputReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		public void start(Reader reader) {
+			this.reader.start(reader);
+		}
+
+		@Override
+		public void stop() {
+			reader.stop();
+		}
+
+		@Override
+		public char nextChar() {
+			return reader.nextChar();
+		}
+
+		@Override
+		public char getChar() {
+			return reader.getChar();
+		}
+
+		@Override
+		public long charCount() {
+			return reader.charCount();
+		}
+
+		@Override
+		public long lineCount() {
+			return reader.lineCount();
+		}
+
+		@Override
+		public void skipLines(long lineCount) {
+			reader.skipLines(lineCount);
+		}
+
+		@Override
+		public String readComment() {
+			return reader.readComment();
+		}
+
+		@Override
+		public void enableNormalizeLineEndings(boolean escaping) {
+			reader.enableNormalizeLineEndings(escaping);
+		}
+
+		@Override
+		public char[] getLineSeparator() {
+			return reader.getLineSeparator();
+		}
+
+		@Override
+		public char skipWhitespace(char current, char stopChar1, char stopChar2) {
+			return reader.skipWhitespace(current, stopChar1, stopChar2);
+		}
+
+		@Override
+		public int currentParsedContentLength() {
+			return reader.currentParsedContentLength();
+		}
+
+		@Override
+		public String currentParsedContent() {
+			return reader.currentParsedContent();
+		}
+
+		@Override
+		public int lastIndexOf(char ch) {
+			return reader.lastIndexOf(ch);
+		}
+
+		@Override
+		public void markRecordStart() {
+			reader.markRecordStart();
+		}
+
+		@Override
+		public String getString(char ch, char stop, boolean trim, String nullValue, int maxLength) {
+			return reader.getString(ch, stop, trim, nullValue, maxLength);
+		}
+
+		@Override
+		public boolean skipString(char ch, char stop) {
+			return reader.skipString(ch, stop);
+		}
+
+		@Override
+		public String getQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing) {
+			return reader.getQuotedString(quote, escape, escapeEscape, maxLength, stop1, stop2, keepQuotes, keepEscape, trimLeading, trimTrailing);
+		}
+
+		@Override
+		public boolean skipQuotedString(char quote, char escape, char stop1, char stop2) {
+			return reader.skipQuotedString(quote, escape, stop1, stop2);
+		}
+	}
+
+	private static CsvParserSettings settings(final boolean custom) {
+		CsvParserSettings settings = new CsvParserSettings() {
+			@Override
+			protected CharInputReader newCharInputReader(int whitespaceRangeStart) {
+				CharInputReader reader = super.newCharInputReader(whitespaceRangeStart);
+				return custom ? new CustomCharInputReader(reader) : reader;
+			}
+		};
+		settings.getFormat().setLineSeparator("\n");
+		settings.setReadInputOnSeparateThread(false);
+		settings.deduplicateIndexes(0, 1);
+		return settings;
+	}
+
+	@Test
+	public void testCollectValuesWithDefaultMethods() {
+		String input = "a,\"b, c\",d\n\"x\"\"y\", z ,\n a ,\"b, c\",\"\"\n";
+
+		List<String[]> expected = new CsvParser(settings(false)).parseAll(new StringReader(input));
+		List<String[]> rows = new CsvParser(settings(true)).parseAll(new StringReader(input));
+
+		assertEquals(rows.size(), 3);
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i));
+		}
+		assertEquals(rows.get(1), new String[]{"x\"y", "z", null});
+		assertSame(rows.get(2)[1], rows.get(0)[1]);
+	}
+
+	@Test
+	public void testQuotedValueAtEndOfInputWithDefaultMethods() {
+		for (String input : new String[]{"a,\"b, c", "a,\"b\"\"", "a,\",\"\"#"}) {
+			String[] expected = new CsvParser(settings(false)).parseAll(new StringReader(input)).get(0);
+			String[] row = new CsvParser(settings(true)).parseAll(new StringReader(input)).get(0);
+			assertEquals(row, expected, input);
+		}
+	}
+}
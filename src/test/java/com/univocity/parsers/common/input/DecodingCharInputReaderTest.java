@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.csv.*;
+import com.univocity.parsers.tsv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class DecodingCharInputReaderTest {
+
+	/**
+	 * Returns at most a few bytes on each read to exercise sequences split across reads.
+	 */
+	private static class ChunkedInputStream extends ByteArrayInputStream {
+		private final int chunk;
+
+		ChunkedInputStream(byte[] bytes, int chunk) {
+			super(bytes);
+			this.chunk = chunk;
+		}
+
+		@Override
+		public synchronized int read(byte[] b, int off, int len) {
+			return super.read(b, off, Math.min(len, chunk));
+		}
+	}
+
+	private String readAll(byte[] bytes, Charset encoding, int chunk, int bufferSize) {
+		return readAll(new DecodingCharInputReader(new ChunkedInputStream(bytes, chunk), encoding, new char[]{'\n'}, '\n', bufferSize, -1, true));
+	}
+
+	private String readAll(DecodingCharInputReader reader) {
+		StringBuilder out = new StringBuilder();
+		reader.start(null);
+		try {
+			while (true) {
+				out.append(reader.nextChar());
+			}
+		} catch (EOFException e) {
+			//end of input
+		}
+		return out.toString();
+	}
+
+	@DataProvider
+	public Object[][] charsetProvider() {
+		return new Object[][]{
+				{"UTF-8"},
+				{"ISO-8859-1"},
+				{"US-ASCII"},
+				{"UTF-16LE"},
+				{"windows-1252"},
+		};
+	}
+
+	@Test(dataProvider = "charsetProvider")
+	public void testDecoding(String charsetName) {
+		Charset charset = Charset.forName(charsetName);
+		String content = "plain ascii,12345\nçãé,ß€\n😀,end";
+		byte[] bytes = content.getBytes(charset);
+		String expected = new String(bytes, charset);
+
+		for (int chunk : new int[]{1, 3, 7, 1000}) {
+			for (int bufferSize : new int[]{2, 5, 1000}) {
+				assertEquals(readAll(bytes, charset, chunk, bufferSize), expected, "chunk: " + chunk + ", buffer: " + bufferSize);
+			}
+		}
+	}
+
+	@Test(dataProvider = "charsetProvider")
+	public void testDecodingFromChannelsAndBuffers(String charsetName) {
+		Charset charset = Charset.forName(charsetName);
+		String content = "plain ascii,12345\nçãé,ß€\n😀,end";
+		byte[] bytes = content.getBytes(charset);
+		String expected = new String(bytes, charset);
+
+		// bytes in the middle of a larger array, of a buffer that is a slice of another.
+		byte[] padded = new byte[bytes.length + 10];
+		System.arraycopy(bytes, 0, padded, 7, bytes.length);
+		ByteBuffer wrapped = ByteBuffer.wrap(padded, 3, bytes.length + 4);
+		wrapped.position(5);
+		ByteBuffer heap = wrapped.slice();
+		heap.position(2);
+		heap.limit(2 + bytes.length);
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+
+		for (int bufferSize : new int[]{2, 5, 1000}) {
+			String message = "buffer: " + bufferSize;
+			for (int chunk : new int[]{1, 3, 1000}) {
+				ReadableByteChannel channel = Channels.newChannel(new ChunkedInputStream(bytes, chunk));
+				assertEquals(readAll(new DecodingCharInputReader(channel, charset, new char[]{'\n'}, '\n', bufferSize, -1, true)), expected, message + ", chunk: " + chunk);
+			}
+			assertEquals(readAll(new DecodingCharInputReader(heap, charset, new char[]{'\n'}, '\n', bufferSize, -1)), expected, message);
+			assertEquals(readAll(new DecodingCharInputReader(direct, charset, new char[]{'\n'}, '\n', bufferSize, -1)), expected, message);
+			assertEquals(readAll(new DecodingCharInputReader(heap.asReadOnlyBuffer(), charset, new char[]{'\n'}, '\n', bufferSize, -1)), expected, message);
+		}
+		assertEquals(heap.position(), 2);
+		assertEquals(direct.position(), 0);
+	}
+
+	@Test
+	public void testMalformedUtf8() {
+		Charset utf8 = Charset.forName("UTF-8");
+		byte[] bytes = new byte[]{'a', (byte) 0xC3, 'b', (byte) 0xE2, (byte) 0x82, ',', (byte) 0xFF, (byte) 0xC3, (byte) 0xA7, (byte) 0xE2};
+		String expected = new String(bytes, utf8);
+		for (int chunk : new int[]{1, 2, 100}) {
+			assertEquals(readAll(bytes, utf8, chunk, 4), expected);
+		}
+	}
+
+	@Test
+	public void testEncodingDetectedFromBom() {
+		byte[] content = "a,b\n1,2".getBytes(Charset.forName("UTF-16BE"));
+		byte[] bytes = new byte[content.length + 2];
+		System.arraycopy(BomInput.UTF_16BE_BOM, 0, bytes, 0, 2);
+		System.arraycopy(content, 0, bytes, 2, content.length);
+		assertEquals(readAll(bytes, null, 1, 16), "a,b\n1,2");
+	}
+
+	@Test
+	public void testParseWithDirectDecoding() throws Exception {
+		String input = "a,b,c\n\"x\"\"y\",ç,\"multi\nline\"\n1,2,3";
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setDirectDecodingEnabled(true);
+		settings.setInputBufferSize(4);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new ByteArrayInputStream(input.getBytes("UTF-8")), "UTF-8");
+		assertEquals(rows.size(), 3);
+		assertEquals(rows.get(1), new String[]{"x\"y", "ç", "multi\nline"});
+
+		TsvParserSettings tsvSettings = new TsvParserSettings();
+		tsvSettings.getFormat().setLineSeparator("\n");
+		tsvSettings.setDirectDecodingEnabled(true);
+		rows = new TsvParser(tsvSettings).parseAll(new ByteArrayInputStream("a\tb\\tc\nç\tü".getBytes("ISO-8859-1")), "ISO-8859-1");
+		assertEquals(rows.size(), 2);
+		assertEquals(rows.get(0), new String[]{"a", "b\tc"});
+		assertEquals(rows.get(1), new String[]{"ç", "ü"});
+	}
+
+	@Test
+	public void testParseChannelsAndBuffers() throws Exception {
+		byte[] input = "a,b,c\n\"x\"\"y\",ç,\"multi\nline\"\n1,2,3".getBytes("UTF-8");
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setInputBufferSize(4);
+		CsvParser parser = new CsvParser(settings);
+		Charset utf8 = Charset.forName("UTF-8");
+
+		List<List<String[]>> results = new ArrayList<List<String[]>>();
+		results.add(parser.parseAll(Channels.newChannel(new ByteArrayInputStream(input)), utf8));
+		results.add(parser.parseAll(ByteBuffer.wrap(input), utf8));
+		ByteBuffer direct = ByteBuffer.allocateDirect(input.length);
+		direct.put(input).flip();
+		results.add(parser.parseAll(direct, utf8));
+
+		for (List<String[]> rows : results) {
+			assertEquals(rows.size(), 3);
+			assertEquals(rows.get(0), new String[]{"a", "b", "c"});
+			assertEquals(rows.get(1), new String[]{"x\"y", "ç", "multi\nline"});
+			assertEquals(rows.get(2), new String[]{"1", "2", "3"});
+		}
+	}
+
+	@Test
+	public void testParseFileWithDirectDecoding() throws Exception {
+		File file = File.createTempFile("direct_decoding", ".csv");
+		file.deleteOnExit();
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writer.write("a,b\nç,\"x\ny\"\n1,2\n");
+		} finally {
+			writer.close();
+		}
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setDirectDecodingEnabled(true);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(file, "UTF-8");
+		assertEquals(rows.size(), 3);
+		assertEquals(rows.get(1), new String[]{"ç", "x\ny"});
+
+		rows = new CsvParser(settings).parseAll(new FileInputStream(file), "UTF-8");
+		assertEquals(rows.size(), 3);
+		assertEquals(rows.get(2), new String[]{"1", "2"});
+	}
+}
@@ -17,6 +17,8 @@ package com.univocity.parsers.common.input;
 
 import org.testng.annotations.*;
 
+import java.io.*;
+
 import static org.testng.Assert.*;
 
 public class ExpandingCharAppenderTest {
@@ -226,4 +228,30 @@ public class ExpandingCharAppenderTest {
 		assertEquals(a.toString(), null);
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testDeferredCopy() throws Exception {
+		DefaultCharInputReader reader = new DefaultCharInputReader("\n".toCharArray(), '\n', 8, -1, false);
+		ExpandingCharAppender a = new ExpandingCharAppender(2, null, -1);
+		a.enableDeferredCopy(reader);
+		reader.start(new StringReader("abc,de\\f,ghijklmnop\n"));
+
+		char ch = a.appendUntil(reader.nextChar(), reader, ',');
+		assertEquals(ch, ',');
+		assertEquals(a.length(), 3);
+		assertEquals(a.chars[0], '\0'); // nothing copied: value is read from the input buffer.
+		assertEquals(a.getAndReset(), "abc");
+
+		// escape sequences are rewritten in the appender
+		for (ch = reader.nextChar(); ch != ','; ch = reader.nextChar()) {
+			if (ch != '\\') {
+				a.append(ch);
+			}
+		}
+		assertEquals(a.getAndReset(), "def");
+
+		// value crosses buffer reloads
+		ch = a.appendUntil(reader.nextChar(), reader, '\n');
+		assertEquals(ch, '\n');
+		assertEquals(a.getAndReset(), "ghijklmnop");
+	}
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class MappedFileCharInputReaderTest {
+
+	private File createFile(String content, Charset encoding, byte[] bom) throws IOException {
+		File file = File.createTempFile("mapped", ".csv");
+		file.deleteOnExit();
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			if (bom != null) {
+				out.write(bom);
+			}
+			out.write(content.getBytes(encoding));
+		} finally {
+			out.close();
+		}
+		return file;
+	}
+
+	private String readAll(MappedFileCharInputReader reader) {
+		StringBuilder out = new StringBuilder();
+		reader.start(null);
+		try {
+			while (true) {
+				out.append(reader.nextChar());
+			}
+		} catch (EOFException e) {
+			//end of input
+		}
+		return out.toString();
+	}
+
+	@Test
+	public void testWindowSlidesOverMultiByteCharacters() throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 500; i++) {
+			content.append("açaí,ünïcödé,€").append(i).append('\n');
+		}
+		Charset utf8 = Charset.forName("UTF-8");
+		File file = createFile(content.toString(), utf8, null);
+
+		for (int windowSize : new int[]{4, 7, 13, 1024, MappedFileCharInputReader.DEFAULT_WINDOW_SIZE}) {
+			for (int bufferSize : new int[]{2, 5, 64, 4096}) {
+				MappedFileCharInputReader reader = new MappedFileCharInputReader(file, utf8, new char[]{'\n'}, '\n', bufferSize, windowSize, -1, true);
+				assertEquals(readAll(reader), content.toString(), "window: " + windowSize + ", buffer: " + bufferSize);
+			}
+		}
+	}
+
+	@Test
+	public void testEncodingDetectedFromBom() throws IOException {
+		File file = createFile("a,b\n1,2", Charset.forName("UTF-16LE"), BomInput.UTF_16LE_BOM);
+		MappedFileCharInputReader reader = new MappedFileCharInputReader(file, null, new char[]{'\n'}, '\n', 16, 8, -1, true);
+		assertEquals(readAll(reader), "a,b\n1,2");
+
+		file = createFile("a,b\n1,2", Charset.forName("UTF-8"), BomInput.UTF_8_BOM);
+		reader = new MappedFileCharInputReader(file, null, new char[]{'\n'}, '\n', 16, 8, -1, true);
+		assertEquals(readAll(reader), "a,b\n1,2");
+	}
+
+	@Test
+	public void testEmptyFile() throws IOException {
+		File file = createFile("", Charset.forName("UTF-8"), null);
+		MappedFileCharInputReader reader = new MappedFileCharInputReader(file, null, '\n', 16, 8, -1, true);
+		assertEquals(readAll(reader), "");
+	}
+
+	@Test
+	public void testParseMappedFile() throws IOException {
+		String content = "name,description\r\nJoe,\"multi\r\nline\"\r\nAna,\"\"\"quoted\"\"\"\r\n";
+		File file = createFile(content, Charset.forName("UTF-8"), BomInput.UTF_8_BOM);
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setLineSeparatorDetectionEnabled(true);
+		settings.setHeaderExtractionEnabled(true);
+		settings.setInputBufferSize(3);
+		settings.setMemoryMappedInputEnabled(true);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(file, "UTF-8");
+		assertEquals(rows.size(), 2);
+		assertEquals(rows.get(0), new String[]{"Joe", "multi\r\nline"});
+		assertEquals(rows.get(1), new String[]{"Ana", "\"quoted\""});
+
+		settings.setMemoryMappedInputEnabled(false);
+		CsvParser parser = new CsvParser(settings);
+		List<String[]> expected = parser.parseAll(file);
+		assertEquals(rows.size(), expected.size());
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i));
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import com.univocity.parsers.common.input.EOFException;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class ConcurrentCharInputReaderTest {
+
+	private String content(int rows) {
+		StringBuilder out = new StringBuilder();
+		for (int i = 0; i < rows; i++) {
+			out.append(i).append(",value ").append(i).append('\n');
+		}
+		return out.toString();
+	}
+
+	@Test
+	public void testReadWithRingOfBuckets() {
+		String content = content(2000);
+		for (int bucketCount : new int[]{1, 2, 3, 10}) {
+			for (int bucketSize : new int[]{1, 7, 4096}) {
+				ConcurrentCharInputReader reader = new ConcurrentCharInputReader(new char[]{'\n'}, '\n', bucketSize, bucketCount, -1, true);
+				reader.start(new StringReader(content));
+				StringBuilder out = new StringBuilder(content.length());
+				try {
+					while (true) {
+						out.append(reader.nextChar());
+					}
+				} catch (EOFException e) {
+					//end of input
+				}
+				assertEquals(out.toString(), content, "buckets: " + bucketCount + ", size: " + bucketSize);
+			}
+		}
+	}
+
+	@Test
+	public void testStopWhileReadingThreadWaits() {
+		String content = content(20000);
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setReadInputOnSeparateThread(true);
+		settings.setInputBucketCount(2);
+		settings.setInputBucketSize(64);
+
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader(content));
+		for (int i = 0; i < 100; i++) {
+			assertEquals(parser.parseNext(), new String[]{String.valueOf(i), "value " + i});
+		}
+		parser.stopParsing();
+		assertNull(parser.parseNext());
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(content));
+		assertEquals(rows.size(), 20000);
+		assertEquals(rows.get(19999), new String[]{"19999", "value 19999"});
+	}
+}
@@ -21,6 +21,8 @@ import org.testng.annotations.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import static org.testng.Assert.*;
 
@@ -119,4 +121,199 @@ public class ConcurrentRowProcessorTest {
 		CsvParser parser = new CsvParser(settings);
 		parser.parse(reader);
 	}
+
+	@Test(timeOut = 60000)
+	public void testThreadsReusedAcrossInputs() throws Exception {
+		final AtomicInteger threadsCreated = new AtomicInteger();
+		// a cached pool can create a new thread while the one that completed the previous task is not idle yet, so the pool is bounded.
+		// Parsing hangs if any thread is held after an input is parsed.
+		ExecutorService executor = Executors.newFixedThreadPool(2, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				threadsCreated.incrementAndGet();
+				Thread thread = new Thread(r);
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+
+		try {
+			CsvParserSettings settings = new CsvParserSettings();
+			settings.getFormat().setLineSeparator("\n");
+			settings.setHeaderExtractionEnabled(true);
+			settings.setReadInputOnSeparateThread(true);
+			settings.setExecutorService(executor);
+
+			ColumnProcessor processor = new ColumnProcessor();
+			ConcurrentRowProcessor concurrent = new ConcurrentRowProcessor(processor, 10, executor);
+			settings.setProcessor(concurrent);
+
+			CsvParser parser = new CsvParser(settings);
+			for (int i = 0; i < 50; i++) {
+				parser.parse(new StringReader(input));
+				assertEquals(processor.getColumnValuesAsList().get(6).size(), LINES);
+			}
+			// one thread to read the input and another to process rows
+			assertTrue(threadsCreated.get() <= 2, "Threads created: " + threadsCreated.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@DataProvider
+	private Object[][] getWorkerSettings() {
+		return new Object[][]{
+				{1, true},
+				{4, true},
+				{4, false},
+				{7, true},
+		};
+	}
+
+	@Test(dataProvider = "getWorkerSettings")
+	public void testMultipleWorkers(int workers, boolean ordered) throws Exception {
+		final Set<String> workerThreads = Collections.synchronizedSet(new HashSet<String>());
+		RowProcessor expensiveProcessor = new AbstractRowProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				workerThreads.add(Thread.currentThread().getName());
+				for (int i = 0; i < row.length; i++) {
+					row[i] = row[i].toLowerCase();
+				}
+			}
+		};
+
+		RowListProcessor downstream = new RowListProcessor();
+
+		ConcurrentRowProcessor concurrent = new ConcurrentRowProcessor(expensiveProcessor, 100);
+		concurrent.setWorkerCount(workers);
+		concurrent.setBatchSize(64);
+		concurrent.setOrderingEnabled(ordered);
+		concurrent.setDownstreamProcessor(downstream);
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setProcessor(concurrent);
+
+		CsvParser parser = new CsvParser(settings);
+		for (int run = 0; run < 3; run++) {
+			workerThreads.clear();
+			parser.parse(new StringReader(input));
+			assertTrue(workerThreads.size() <= workers);
+
+			List<String[]> rows = downstream.getRows();
+			assertEquals(rows.size(), LINES);
+			if (!ordered) {
+				Collections.sort(rows, new Comparator<String[]>() {
+					@Override
+					public int compare(String[] o1, String[] o2) {
+						return Integer.valueOf(o1[0].substring(1)).compareTo(Integer.valueOf(o2[0].substring(1)));
+					}
+				});
+			}
+			for (int i = 0; i < LINES; i++) {
+				assertEquals(rows.get(i)[0], "a" + i);
+				assertEquals(rows.get(i)[6], "g" + i);
+			}
+		}
+	}
+
+	@Test
+	public void testErrorOnWorker() throws Exception {
+		RowProcessor failingProcessor = new AbstractRowProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				if (row[0].equals("A3000")) {
+					throw new IllegalStateException("Failed on " + row[0]);
+				}
+			}
+		};
+
+		ConcurrentRowProcessor concurrent = new ConcurrentRowProcessor(failingProcessor);
+		concurrent.setWorkerCount(3);
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setProcessor(concurrent);
+
+		try {
+			new CsvParser(settings).parse(new StringReader(input));
+			fail("Expected error from worker thread");
+		} catch (Exception e) {
+			Throwable cause = e;
+			while (cause.getCause() != null && !(cause instanceof IllegalStateException)) {
+				cause = cause.getCause();
+			}
+			assertEquals(cause.getMessage(), "Failed on A3000");
+		}
+	}
+
+	@Test
+	public void testInterruptedWhileDispatching() throws Exception {
+		final AtomicInteger processed = new AtomicInteger();
+		ConcurrentRowProcessor concurrent = new ConcurrentRowProcessor(new AbstractRowProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				processed.incrementAndGet();
+			}
+		});
+		concurrent.setWorkerCount(3);
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setReadInputOnSeparateThread(false);
+		settings.setProcessor(concurrent);
+
+		Thread.currentThread().interrupt();
+		try {
+			new CsvParser(settings).parse(new StringReader(input));
+			fail("Expected error after interruption, " + processed.get() + " rows processed");
+		} catch (Exception e) {
+			Throwable cause = e;
+			while (cause.getCause() != null && !(cause instanceof InterruptedException)) {
+				cause = cause.getCause();
+			}
+			assertTrue(cause instanceof InterruptedException, "Unexpected error: " + e);
+		} finally {
+			assertTrue(Thread.interrupted());
+		}
+		assertTrue(processed.get() < LINES);
+	}
+
+	@Test
+	public void testBackpressureStatistics() throws Exception {
+		final AtomicLong maxDepth = new AtomicLong();
+		final ConcurrentRowProcessor[] concurrent = new ConcurrentRowProcessor[1];
+		RowProcessor slowProcessor = new AbstractRowProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				maxDepth.set(Math.max(maxDepth.get(), concurrent[0].getQueueDepth()));
+				if (context.currentRecord() % 500 == 0) {
+					try {
+						Thread.sleep(2);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+		};
+
+		concurrent[0] = new ConcurrentRowProcessor(slowProcessor, 100);
+		concurrent[0].setBatchSize(10);
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setProcessor(concurrent[0]);
+
+		new CsvParser(settings).parse(new StringReader(input));
+
+		assertEquals(concurrent[0].getQueueDepth(), 0L);
+		assertTrue(concurrent[0].getProducerStallCount() > 0);
+		// 100 rows in the queue, plus one batch being filled and another being processed.
+		assertTrue(maxDepth.get() <= 120, "Queue depth: " + maxDepth.get());
+	}
 }
@@ -15,6 +15,7 @@
  ******************************************************************************/
 package com.univocity.parsers.common.record;
 
+import com.univocity.parsers.common.*;
 import com.univocity.parsers.conversions.*;
 import com.univocity.parsers.csv.*;
 import com.univocity.parsers.tsv.*;
@@ -271,4 +272,77 @@ public class RecordImplTest {
 		return records.get(0);
 	}
 
+
+	@Test
+	public void testValuesCreatedOnDemand() {
+		String input = "a,b,c,d\n1,\"x,y\",,\"\"\n\n2, z \n3,w,9,10,11\n";
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setEmptyValue("<empty>");
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input));
+		List<Record> records = new CsvParser(settings).parseAllRecords(new StringReader(input));
+
+		assertEquals(records.size(), rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			Record record = records.get(i);
+			assertTrue(record instanceof LazyRecordImpl);
+			assertEquals(record.getString(1), rows.get(i)[1]);
+			assertSame(record.getString(1), record.getString(1));
+			assertEquals(record.getValues(), rows.get(i));
+		}
+		assertEquals(records.get(0).getInt("a"), Integer.valueOf(1));
+		assertEquals(records.get(0).getString("d"), "<empty>");
+		assertNull(records.get(0).getString("c"));
+		assertEquals(records.get(2).getLong(4), Long.valueOf(11L));
+
+		settings.selectFields("c", "a");
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader(input));
+		assertEquals(parser.parseNextRecord().getValues(), new String[]{null, "1"});
+		assertEquals(parser.parseNext(), new String[]{null, "2"});
+		Record record = parser.parseNextRecord();
+		assertEquals(record.getString("a"), "3");
+		assertEquals(record.getInt(0), Integer.valueOf(9));
+		assertNull(parser.parseNextRecord());
+	}
+
+	@DataProvider
+	public Object[][] unescapedQuoteHandlingProvider() {
+		UnescapedQuoteHandling[] values = UnescapedQuoteHandling.values();
+		Object[][] out = new Object[values.length][];
+		for (int i = 0; i < values.length; i++) {
+			out[i] = new Object[]{values[i]};
+		}
+		return out;
+	}
+
+	@Test(dataProvider = "unescapedQuoteHandlingProvider")
+	public void testValuesCreatedOnDemandWithUnescapedQuotes(UnescapedQuoteHandling quoteHandling) {
+		String[] inputs = {
+				"x,y\n\"a,b\nc\"d,e\nf,g\n",
+				"\"\n\nb,b,\na,,ba\"ab\"b,\n",
+				"\"a,b\nc,d\ne\"x,y\n1,2\n"
+		};
+
+		for (String input : inputs) {
+			CsvParserSettings settings = new CsvParserSettings();
+			settings.getFormat().setLineSeparator("\n");
+			settings.setUnescapedQuoteHandling(quoteHandling);
+
+			List<String[]> rows;
+			try {
+				rows = new CsvParser(settings).parseAll(new StringReader(input));
+			} catch (TextParsingException e) {
+				continue; // RAISE_ERROR
+			}
+			List<Record> records = new CsvParser(settings).parseAllRecords(new StringReader(input));
+
+			assertEquals(records.size(), rows.size(), input);
+			for (int i = 0; i < rows.size(); i++) {
+				assertEquals(records.get(i).getValues(), rows.get(i), input);
+			}
+		}
+	}
 }
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.routine;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class RecordOffsetIndexTest {
+
+	private static File createInput(int records, boolean trailingNewLine) throws IOException {
+		StringBuilder out = new StringBuilder("# comment\nid,name,notes\n");
+		for (int i = 0; i < records; i++) {
+			out.append(i).append(',');
+			if (i % 3 == 0) {
+				out.append("\"Ñandú, ").append(i).append("\",\"multi\nline\"");
+			} else {
+				out.append("€uro ").append(i).append(',');
+			}
+			if (trailingNewLine || i < records - 1) {
+				out.append('\n');
+			}
+		}
+		File file = File.createTempFile("index", ".csv");
+		file.deleteOnExit();
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
+		try {
+			writer.write(out.toString());
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+	private static CsvParserSettings settings() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		return settings;
+	}
+
+	@DataProvider
+	public Object[][] inputs() {
+		return new Object[][]{{1000, true}, {1000, false}, {1001, false}, {0, true}};
+	}
+
+	@Test(dataProvider = "inputs")
+	public void testSeekToRecord(int records, boolean trailingNewLine) throws IOException {
+		File file = createInput(records, trailingNewLine);
+		List<String[]> expected = new CsvParser(settings()).parseAll(file, StandardCharsets.UTF_8);
+		assertEquals(expected.size(), records);
+
+		RecordOffsetIndex index = new CsvRoutines(settings()).indexRecords(file, StandardCharsets.UTF_8, 100);
+		assertEquals(index.getRecordCount(), records);
+		assertEquals(index.getHeaders(), new String[]{"id", "name", "notes"});
+
+		CsvParser parser = new CsvParser(settings());
+		for (long record : new long[]{0, 1, 99, 100, 101, 555, 999, 1000, 1001}) {
+			parser.beginParsing(file, StandardCharsets.UTF_8, index, record);
+			String[] row = parser.parseNext();
+			if (record < records) {
+				assertEquals(row, expected.get((int) record), "Record " + record);
+				assertEquals(parser.getContext().currentRecord(), record + 1);
+				assertEquals(parser.getContext().headers(), new String[]{"id", "name", "notes"});
+				parser.stopParsing();
+			} else {
+				assertNull(row);
+			}
+		}
+	}
+
+	@Test
+	public void testPagesFromSidecarFile() throws IOException {
+		File file = createInput(2500, true);
+		File indexFile = File.createTempFile("index", ".idx");
+		indexFile.deleteOnExit();
+
+		List<String[]> expected = new CsvParser(settings()).parseAll(file, StandardCharsets.UTF_8);
+		new CsvRoutines(settings()).indexRecords(file, StandardCharsets.UTF_8, 64, indexFile);
+		RecordOffsetIndex index = RecordOffsetIndex.read(indexFile);
+		assertEquals(index.getInterval(), 64);
+		assertEquals(index.getRecordCount(), 2500);
+
+		RowListProcessor processor = new RowListProcessor();
+		CsvParserSettings settings = settings();
+		settings.setProcessor(processor);
+		CsvParser parser = new CsvParser(settings);
+
+		for (int page = 0; page * 50 < 2500; page += 7) {
+			List<String[]> rows = parser.parseAll(file, StandardCharsets.UTF_8, index, page * 50, 50);
+			assertEquals(rows.size(), Math.min(50, 2500 - page * 50));
+			for (int i = 0; i < rows.size(); i++) {
+				assertEquals(rows.get(i), expected.get(page * 50 + i));
+			}
+		}
+		assertEquals(parser.parseAll(file, StandardCharsets.UTF_8, index, 2480, 50).size(), 20);
+		// records skipped to reach the first record of a page are not sent to the processor.
+		assertEquals(processor.getRows().size(), 20);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testIndexRejectsModifiedInput() throws IOException {
+		File file = createInput(10, true);
+		RecordOffsetIndex index = new CsvRoutines(settings()).indexRecords(file, StandardCharsets.UTF_8, 5);
+
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8);
+		writer.write("10,extra,record\n");
+		writer.close();
+
+		new CsvParser(settings()).beginParsing(file, StandardCharsets.UTF_8, index, 7);
+	}
+}
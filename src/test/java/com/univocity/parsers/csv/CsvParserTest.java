@@ -908,4 +908,447 @@ public class CsvParserTest extends ParserTestCase {
 		assertEquals(parser.getContext().lastComment(), null);
 	}
 
+
+	@DataProvider
+	public Object[][] quoteEscapeProvider() {
+		return new Object[][]{{'"'}, {'\\'}};
+	}
+
+	@Test(dataProvider = "quoteEscapeProvider")
+	public void testSkipColumnsAfterLastSelected(char quoteEscape) {
+		String escapedQuote = quoteEscape + "\"";
+		String input = "a,b,c,d,e\n" +
+				"1,x,\"q,\nw\",\"" + escapedQuote + "\n,\",z\n" +
+				"2,y\n" +
+				"3,\"v\n\", \"a,\nb\",  4,5,6,7,8,9\n" +
+				"4,w,\"" + escapedQuote + "\",\"\"\n";
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.getFormat().setQuoteEscape(quoteEscape);
+		settings.setHeaderExtractionEnabled(true);
+		settings.setMaxColumns(6);
+		settings.selectFields("b", "a");
+		settings.setTrailingColumnSkippingEnabled(true);
+
+		CsvParser parser = new CsvParser(settings);
+		List<String[]> rows = parser.parseAll(new StringReader(input));
+
+		assertEquals(rows.size(), 4);
+		assertEquals(rows.get(0), new String[]{"x", "1"});
+		assertEquals(rows.get(1), new String[]{"y", "2"});
+		assertEquals(rows.get(2), new String[]{"v\n", "3"});
+		assertEquals(rows.get(3), new String[]{"w", "4"});
+
+		settings.setTrailingColumnSkippingEnabled(false);
+		settings.setMaxColumns(10);
+		List<String[]> expected = new CsvParser(settings).parseAll(new StringReader(input));
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i));
+		}
+
+		settings.setMaxColumns(6);
+		try {
+			new CsvParser(settings).parseAll(new StringReader(input));
+			fail("Expected error on record with more columns than the maximum");
+		} catch (TextParsingException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void testSkipColumnsWithQuoteAfterWhitespaceKept() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setIgnoreLeadingWhitespaces(false);
+		settings.selectIndexes(0);
+		settings.setTrailingColumnSkippingEnabled(true);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader("h,i\na, \"x\ny,z\nw,v\n"));
+		assertEquals(rows.size(), 4);
+		assertEquals(rows.get(0), new String[]{"h"});
+		assertEquals(rows.get(1), new String[]{"a"});
+		assertEquals(rows.get(2), new String[]{"y"});
+		assertEquals(rows.get(3), new String[]{"w"});
+	}
+
+	@Test
+	public void testRowReuse() {
+		String input = "a,b,c\n1,2,3\n4,5,6\n7,8\n9\n";
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setRowReuseEnabled(true);
+
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader(input));
+		String[] first = parser.parseNext();
+		assertEquals(first, new String[]{"a", "b", "c"});
+		String[] second = parser.parseNext();
+		assertSame(second, first);
+		assertEquals(second, new String[]{"1", "2", "3"});
+		parser.parseNext();
+		assertEquals(parser.parseNext(), new String[]{"7", "8"});
+		assertEquals(parser.parseNext(), new String[]{"9"});
+		assertNull(parser.parseNext());
+
+		settings.selectIndexes(2, 0);
+		final List<String> processed = new ArrayList<String>();
+		final Set<String[]> instances = Collections.newSetFromMap(new IdentityHashMap<String[], Boolean>());
+		settings.setProcessor(new AbstractRowProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				instances.add(row);
+				processed.add(Arrays.toString(row));
+			}
+		});
+		new CsvParser(settings).parse(new StringReader(input));
+		assertEquals(processed, Arrays.asList("[c, a]", "[3, 1]", "[6, 4]", "[null, 7]", "[null, 9]"));
+		assertEquals(instances.size(), 1);
+
+		settings.setProcessor(null);
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input));
+		assertEquals(rows.size(), 5);
+		assertEquals(rows.get(1), new String[]{"3", "1"});
+		assertEquals(rows.get(3), new String[]{null, "7"});
+	}
+
+	@Test
+	public void testRowReuseWithValuesSplitBackToDelimiter() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setUnescapedQuoteHandling(UnescapedQuoteHandling.BACK_TO_DELIMITER);
+		settings.setRowReuseEnabled(true);
+		String input = "\"name\",\"description\",\"digit\"\n" +
+				"\"test one\",\"test description with \"\",\"1\"\n" +
+				"\"test two\",\"test description without a quote\",\"2\"";
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input));
+		settings.setRowReuseEnabled(false);
+		List<String[]> expected = new CsvParser(settings).parseAll(new StringReader(input));
+
+		assertEquals(rows.size(), 3);
+		assertEquals(rows.size(), expected.size());
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i));
+		}
+	}
+
+	@Test
+	public void testRowReuseWithHeadersSplitBackToDelimiter() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setUnescapedQuoteHandling(UnescapedQuoteHandling.BACK_TO_DELIMITER);
+		settings.setHeaderExtractionEnabled(true);
+		settings.setRowReuseEnabled(true);
+		String input = "\"a,b\nc\"d,e\nf,g\nh\n";
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input));
+		settings.setRowReuseEnabled(false);
+		CsvParser parser = new CsvParser(settings);
+		List<String[]> expected = parser.parseAll(new StringReader(input));
+
+		assertEquals(parser.getContext().headers(), new String[]{"a", "b"});
+		assertEquals(rows.size(), 1);
+		assertEquals(rows.size(), expected.size());
+		assertEquals(rows.get(0), expected.get(0));
+	}
+
+	@DataProvider
+	public Object[][] quoteFreeProvider() {
+		return new Object[][]{
+				{false, 16},
+				{true, 16},
+				{false, 4096},
+				{true, 4096},
+		};
+	}
+
+	@Test(dataProvider = "quoteFreeProvider")
+	public void testInputWithoutQuotes(boolean selectFields, int bufferSize) {
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 300; i++) {
+			body.append(i).append(',').append(i % 3 == 0 ? "" : "  v" + i + "  ").append(",,x").append(i % 7).append('\n');
+			if (i == 200) {
+				body.append("1,\"quoted, value\",\" \", a \"b\" c\n");
+			}
+			if (i % 50 == 0) {
+				body.append('\n');
+			}
+		}
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setInputBufferSize(bufferSize);
+		if (selectFields) {
+			settings.selectIndexes(3, 1);
+		}
+
+		// the first buffer decides whether values can be parsed without looking for quotes.
+		List<String[]> quoteFree = new CsvParser(settings).parseAll(new StringReader("a,b,c,d\n" + body));
+		List<String[]> quoted = new CsvParser(settings).parseAll(new StringReader("\"a\",b,c,d\n" + body));
+
+		assertEquals(quoteFree.size(), 301);
+		assertEquals(quoteFree.size(), quoted.size());
+		for (int i = 0; i < quoted.size(); i++) {
+			assertEquals(quoteFree.get(i), quoted.get(i));
+		}
+		assertEquals(quoteFree.get(201), selectFields ? new String[]{"a \"b\" c", "quoted, value"} : new String[]{"1", "quoted, value", " ", "a \"b\" c"});
+	}
+
+	@Test
+	public void testInputWithoutQuotesEndingWithWhitespace() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader("a,\t\n"));
+		assertEquals(rows.size(), 1);
+		assertEquals(rows.get(0), new String[]{"a", null});
+
+		rows = new CsvParser(settings).parseAll(new StringReader("a, \nb,c"));
+		assertEquals(rows.size(), 2);
+		assertEquals(rows.get(0), new String[]{"a", null});
+		assertEquals(rows.get(1), new String[]{"b", "c"});
+	}
+
+	@Test
+	public void testInputWithoutQuotesEndingWithWhitespaceAfterQuotedValue() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setInputBufferSize(4);
+		settings.setReadInputOnSeparateThread(false);
+		settings.setIgnoreTrailingWhitespaces(false);
+		settings.setNullValue("N");
+		settings.setEmptyValue("E");
+
+		// no quotes in the first buffer. The quoted value is found after skipping whitespace, and must not affect the value at the end of the input.
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(" E,\r\n,\t\"\r,E\r\n\t\"\nb ,ab, "));
+		assertEquals(rows.size(), 3);
+		assertEquals(rows.get(1), new String[]{"N", "\r,E\r\n\t"});
+		assertEquals(rows.get(2), new String[]{"b ", "ab", "N"});
+	}
+
+	@Test
+	public void testInputWithoutQuotesAndSmallBuffer() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\r\n");
+		settings.setInputBufferSize(3);
+		settings.setReadInputOnSeparateThread(false);
+
+		// the buffer is not read ahead when parsing starts, so values are collected from the same buffer positions as with quoted input.
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader("E\n\n\n,ab\r\nb,c\nd,\r\n"));
+		assertEquals(rows.size(), 4);
+		assertEquals(rows.get(0), new String[]{"E"});
+		assertEquals(rows.get(1), new String[]{null, "ab"});
+		assertEquals(rows.get(2), new String[]{"b", "c"});
+		assertEquals(rows.get(3), new String[]{"d", null});
+	}
+
+	@DataProvider
+	public Object[][] longQuotedValueProvider() {
+		return new Object[][]{
+				{"\n", 16},
+				{"\r\n", 16},
+				{"\n", 4096},
+				{"\r\n", 4096},
+		};
+	}
+
+	@Test(dataProvider = "longQuotedValueProvider")
+	public void testLongQuotedValues(String lineSeparator, int bufferSize) {
+		StringBuilder input = new StringBuilder();
+		List<String[]> expected = new ArrayList<String[]>();
+		for (int i = 0; i < 100; i++) {
+			StringBuilder text = new StringBuilder();
+			StringBuilder quoted = new StringBuilder();
+			for (int j = 0; j < i; j++) {
+				String word = j % 10 == 0 ? "say \"hi\", then" + lineSeparator + "leave. " : "word" + j + ' ';
+				text.append(word.replace(lineSeparator, "\n"));
+				quoted.append(word.replace("\"", "\"\""));
+			}
+			input.append(i).append(",\"").append(quoted).append("\",\"end\"").append(lineSeparator);
+			expected.add(new String[]{String.valueOf(i), i == 0 ? null : text.toString(), "end"});
+		}
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator(lineSeparator);
+		settings.setInputBufferSize(bufferSize);
+		settings.setReadInputOnSeparateThread(false);
+		settings.setMaxCharsPerColumn(-1);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input.toString()));
+		assertEquals(rows.size(), expected.size());
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i));
+		}
+
+		settings.setMaxCharsPerColumn(100);
+		try {
+			new CsvParser(settings).parseAll(new StringReader(input.toString()));
+			fail("Expecting error when value is longer than the limit");
+		} catch (TextParsingException e) {
+			assertTrue(e.getMessage().contains("exceeded limit of 100 characters per column"));
+		}
+	}
+
+	@DataProvider
+	public Object[][] multiCharDelimiterProvider() {
+		return new Object[][]{
+				{"::-", 16},
+				{"::-", 4096},
+				{"~|~", 16},
+				{"||", 4096},
+		};
+	}
+
+	private void splitAtDelimiter(String line, String delimiter, List<String> out) {
+		int from = 0;
+		for (int pos; (pos = line.indexOf(delimiter, from)) != -1; from = pos + delimiter.length()) {
+			out.add(pos == from ? null : line.substring(from, pos));
+		}
+		out.add(from == line.length() ? null : line.substring(from));
+	}
+
+	@Test(dataProvider = "multiCharDelimiterProvider")
+	public void testMultiCharDelimiterWithPartialMatches(String d, int bufferSize) {
+		String p = d.substring(0, d.length() - 1);
+		StringBuilder input = new StringBuilder();
+		List<String[]> expected = new ArrayList<String[]>();
+		for (int i = 0; i < 200; i++) {
+			String unquoted = "a" + p + d + p + "b" + i + d + p;
+			input.append("\"q").append(d).append("\"").append(d).append(d).append(unquoted).append('\n');
+
+			List<String> values = new ArrayList<String>();
+			values.add("q" + d);
+			values.add(null);
+			splitAtDelimiter(unquoted, d, values);
+			expected.add(values.toArray(new String[0]));
+		}
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setDelimiter(d);
+		settings.getFormat().setLineSeparator("\n");
+		settings.setInputBufferSize(bufferSize);
+		settings.setReadInputOnSeparateThread(false);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input.toString()));
+		assertEquals(rows.size(), expected.size());
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i));
+		}
+
+		settings.selectIndexes(0, 2);
+		rows = new CsvParser(settings).parseAll(new StringReader(input.toString()));
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), new String[]{"q" + d, expected.get(i)[2]});
+		}
+	}
+
+	@Test
+	public void testReuseParserStoppedAfterQuotedValue() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setInputBufferSize(4);
+		settings.setReadInputOnSeparateThread(false);
+		CsvParser parser = new CsvParser(settings);
+
+		// the quoted value doesn't fit in the buffer and is parsed character by character.
+		parser.beginParsing(new StringReader("x,\"abcdefgh\"\ny,z\n"));
+		assertEquals(parser.parseNext(), new String[]{"x", "abcdefgh"});
+		parser.stopParsing();
+
+		parser.beginParsing(new StringReader(""));
+		assertNull(parser.parseNext());
+
+		parser.beginParsing(new StringReader("x,\"abcdefgh\"\ny,z\n"));
+		assertEquals(parser.parseNext(), new String[]{"x", "abcdefgh"});
+		parser.stopParsing();
+
+		assertEquals(parser.parseAll(new StringReader("a")), Collections.singletonList(new String[]{"a"}));
+	}
+
+	@Test
+	public void testMultiCharDelimiterWithQuoteInValueAtEndOfInput() {
+		for (int bufferSize : new int[]{4, 1024}) {
+			CsvParserSettings settings = new CsvParserSettings();
+			settings.getFormat().setDelimiter("::-");
+			settings.getFormat().setLineSeparator("\n");
+			settings.setInputBufferSize(bufferSize);
+			settings.setReadInputOnSeparateThread(false);
+			settings.setMaxCharsPerColumn(4);
+			CsvParser parser = new CsvParser(settings);
+
+			assertEquals(parser.parseAll(new StringReader(":\"x")).get(0), new String[]{":\"x"});
+			assertEquals(parser.parseAll(new StringReader("a:\"x")).get(0), new String[]{"a:\"x"});
+			assertEquals(parser.parseAll(new StringReader("b::-a:\"x")).get(0), new String[]{"b", "a:\"x"});
+
+			settings.selectIndexes(1);
+			parser = new CsvParser(settings);
+			List<String[]> rows = parser.parseAll(new StringReader("a:\"x::-b:\"y\nc:\"xxxxxxxx::-d:\"y"));
+			assertEquals(rows.get(0), new String[]{"b:\"y"});
+			assertEquals(rows.get(1), new String[]{"d:\"y"});
+		}
+	}
+
+	@Test
+	public void testMultiCharDelimiterPartialMatchAfterWhitespace() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setDelimiter("aba");
+		settings.getFormat().setLineSeparator("\n");
+		settings.setIgnoreLeadingWhitespaces(true);
+		settings.setReadInputOnSeparateThread(false);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader("  aaaaaa ,  ,"));
+		assertEquals(rows.size(), 1);
+		assertEquals(rows.get(0), new String[]{"aaaaaa ,  ,"});
+
+		settings.getFormat().setDelimiter("~|~");
+		rows = new CsvParser(settings).parseAll(new StringReader("  ~\nb"));
+		assertEquals(rows.size(), 2);
+		assertEquals(rows.get(0), new String[]{"~"});
+		assertEquals(rows.get(1), new String[]{"b"});
+	}
+
+	@Test
+	public void testMultiCharDelimiterPartialMatchBeforeNewLineWithEscapedUnquotedValues() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setDelimiter("~|~");
+		settings.getFormat().setLineSeparator("\n");
+		settings.setEscapeUnquotedValues(true);
+		settings.setReadInputOnSeparateThread(false);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader("a~~\nb\nc"));
+		assertEquals(rows.size(), 3);
+		assertEquals(rows.get(0), new String[]{"a~~"});
+		assertEquals(rows.get(1), new String[]{"b"});
+		assertEquals(rows.get(2), new String[]{"c"});
+	}
+
+	@Test
+	public void testMultiCharDelimiterAfterSkippedValue() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setDelimiter("~|~");
+		settings.getFormat().setLineSeparator("\n");
+		settings.setUnescapedQuoteHandling(UnescapedQuoteHandling.SKIP_VALUE);
+		settings.setReadInputOnSeparateThread(false);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader("a~|~\"b\"c~|~d\nx~|~y\n"));
+		assertEquals(rows.size(), 2);
+		assertEquals(rows.get(0), new String[]{"a", null, "d"});
+		assertEquals(rows.get(1), new String[]{"x", "y"});
+	}
+
+	@Test
+	public void testMultiCharDelimiterPartialMatchAfterQuotedValue() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setDelimiter("~|~");
+		settings.getFormat().setLineSeparator("\n");
+		settings.setUnescapedQuoteHandling(UnescapedQuoteHandling.STOP_AT_DELIMITER);
+		settings.setReadInputOnSeparateThread(false);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader("\"a\" ~|\nb~|~c\n"));
+		assertEquals(rows.size(), 2);
+		assertEquals(rows.get(0), new String[]{"\"a\" ~|"});
+		assertEquals(rows.get(1), new String[]{"b", "c"});
+	}
 }
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.csv;
+
+import com.univocity.parsers.common.processor.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class ParallelCsvParserTest {
+
+	private File createFile(char quoteEscape) throws IOException {
+		Random random = new Random(42);
+		StringBuilder out = new StringBuilder("id,name,description\n");
+		for (int i = 0; i < 20000; i++) {
+			out.append(i).append(',');
+			switch (random.nextInt(4)) {
+				case 0:
+					out.append("plain ").append(i);
+					break;
+				case 1:
+					out.append("\"quoted,\nwith ").append(quoteEscape).append("\"line breaks").append(quoteEscape).append("\"\n\"");
+					break;
+				case 2:
+					out.append("\"ação ").append(i).append('"');
+					break;
+				default:
+					out.append('"');
+					// long values span multiple splits of the file
+					int lines = random.nextInt(10) == 0 ? 5000 : 3;
+					for (int j = 0; j < lines; j++) {
+						out.append("line ").append(j).append(",\n");
+					}
+					out.append('"');
+			}
+			out.append(",x\n");
+		}
+
+		File file = File.createTempFile("parallel", ".csv");
+		file.deleteOnExit();
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writer.write(out.toString());
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+	private CsvParserSettings newSettings(char quoteEscape, RowListProcessor processor) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.getFormat().setQuoteEscape(quoteEscape);
+		settings.setHeaderExtractionEnabled(true);
+		settings.setMaxCharsPerColumn(-1);
+		settings.setProcessor(processor);
+		return settings;
+	}
+
+	@DataProvider
+	public Object[][] quoteEscapeProvider() {
+		return new Object[][]{{'"'}, {'\\'}};
+	}
+
+	@Test(dataProvider = "quoteEscapeProvider")
+	public void testParseInOrder(char quoteEscape) throws Exception {
+		File file = createFile(quoteEscape);
+
+		RowListProcessor expected = new RowListProcessor();
+		new CsvParser(newSettings(quoteEscape, expected)).parse(file, "UTF-8");
+
+		RowListProcessor processor = new RowListProcessor();
+		CsvParser parser = new CsvParser(newSettings(quoteEscape, processor));
+		parser.parseParallel(file, "UTF-8", 4, true);
+
+		assertEquals(processor.getHeaders(), new String[]{"id", "name", "description"});
+		assertEquals(processor.getRows().size(), 20000);
+		for (int i = 0; i < 20000; i++) {
+			assertEquals(processor.getRows().get(i), expected.getRows().get(i));
+		}
+		assertEquals(parser.getContext().currentRecord(), 20000);
+	}
+
+	@Test
+	public void testParseUnordered() throws Exception {
+		File file = createFile('"');
+
+		RowListProcessor expected = new RowListProcessor();
+		new CsvParser(newSettings('"', expected)).parse(file, "UTF-8");
+
+		RowListProcessor processor = new RowListProcessor();
+		new CsvParser(newSettings('"', processor)).parseParallel(file, "UTF-8", 3, false);
+
+		List<String[]> rows = processor.getRows();
+		assertEquals(rows.size(), 20000);
+		String[][] sorted = new String[rows.size()][];
+		for (String[] row : rows) {
+			sorted[Integer.parseInt(row[0])] = row;
+		}
+		for (int i = 0; i < 20000; i++) {
+			assertEquals(sorted[i], expected.getRows().get(i));
+		}
+	}
+
+	@Test
+	public void testParseWithFormatDetectionAndLimit() throws Exception {
+		File file = File.createTempFile("parallel", ".csv");
+		file.deleteOnExit();
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			for (int i = 0; i < 50000; i++) {
+				writer.write(i + ";'value\r\n" + i + "';end\r\n");
+			}
+		} finally {
+			writer.close();
+		}
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.detectFormatAutomatically();
+		settings.setNumberOfRecordsToRead(30000);
+		List<String[]> expected = new CsvParser(settings).parseAll(file, "UTF-8");
+
+		RowListProcessor processor = new RowListProcessor();
+		settings.setProcessor(processor);
+		new CsvParser(settings).parseParallel(file, 2, true);
+
+		assertEquals(processor.getRows().size(), 30000);
+		assertEquals(processor.getRows().get(29999), expected.get(29999));
+		assertEquals(processor.getRows().get(29999)[2], "end");
+	}
+}
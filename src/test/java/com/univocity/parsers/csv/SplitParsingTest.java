@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.csv;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.tsv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class SplitParsingTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private File createFile(String content) throws IOException {
+		File file = File.createTempFile("split", ".csv");
+		file.deleteOnExit();
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), UTF_8);
+		try {
+			writer.write(content);
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+	private File createCsvFile() throws IOException {
+		Random random = new Random(7);
+		StringBuilder out = new StringBuilder("skipped line\n#comment\n\nid,name,description\n");
+		for (int i = 0; i < 2000; i++) {
+			out.append(i).append(',');
+			switch (random.nextInt(4)) {
+				case 0:
+					out.append("plain ").append(i);
+					break;
+				case 1:
+					out.append("\"quoted,\n\"\"with\"\" line breaks\n\"");
+					break;
+				case 2:
+					out.append("\"ação ").append(i).append('"');
+					break;
+				default:
+					out.append('"');
+					int lines = random.nextInt(40);
+					for (int j = 0; j < lines; j++) {
+						out.append(j % 2 == 0 ? "line " : "\"\"").append(j).append(",\n");
+					}
+					out.append('"');
+			}
+			out.append(",x\n");
+		}
+		return createFile(out.toString());
+	}
+
+	private CsvParserSettings newSettings(SplitResynchronization strategy, RowListProcessor processor) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setNumberOfRowsToSkip(1);
+		settings.setHeaderExtractionEnabled(true);
+		settings.setMaxCharsPerColumn(1000);
+		settings.setSplitResynchronization(strategy);
+		settings.setProcessor(processor);
+		return settings;
+	}
+
+	@DataProvider
+	public Object[][] strategyProvider() {
+		return new Object[][]{{SplitResynchronization.SPECULATIVE}, {SplitResynchronization.FROM_START}};
+	}
+
+	@Test(dataProvider = "strategyProvider")
+	public void testSplitsProduceAllRecords(SplitResynchronization strategy) throws Exception {
+		File file = createCsvFile();
+
+		RowListProcessor expected = new RowListProcessor();
+		new CsvParser(newSettings(strategy, expected)).parse(file, UTF_8);
+		assertEquals(expected.getRows().size(), 2000);
+
+		for (long splitSize : new long[]{97, 1000, 4096, file.length()}) {
+			List<String[]> rows = new ArrayList<String[]>();
+			for (long start = 0; start < file.length(); start += splitSize) {
+				RowListProcessor processor = new RowListProcessor();
+				new CsvParser(newSettings(strategy, processor)).parse(file, UTF_8, start, start + splitSize);
+				assertEquals(processor.getHeaders(), new String[]{"id", "name", "description"});
+				rows.addAll(processor.getRows());
+			}
+
+			assertEquals(rows.size(), expected.getRows().size(), "Split size " + splitSize);
+			for (int i = 0; i < rows.size(); i++) {
+				assertEquals(rows.get(i), expected.getRows().get(i));
+			}
+		}
+	}
+
+	@Test
+	public void testLastRecordFinishedPastEndOfSplit() throws Exception {
+		File file = createFile("a,\"b\nc\",d\ne,f,g\n");
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new FileInputStream(file), UTF_8);
+		assertEquals(rows.size(), 2);
+
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new RandomAccessFile(file, "r").getChannel(), UTF_8, 0, 3);
+		assertEquals(parser.parseNext(), new String[]{"a", "b\nc", "d"});
+		assertNull(parser.parseNext());
+
+		// starts inside the quoted value of the first record.
+		parser.beginParsing(new RandomAccessFile(file, "r").getChannel(), UTF_8, 4, file.length());
+		assertEquals(parser.parseNext(), new String[]{"e", "f", "g"});
+		assertNull(parser.parseNext());
+	}
+
+	@Test
+	public void testLineSeparatorStrategy() throws Exception {
+		StringBuilder out = new StringBuilder();
+		for (int i = 0; i < 500; i++) {
+			out.append(i).append("\tvalue ").append(i).append('\n');
+		}
+		File file = createFile(out.toString());
+
+		TsvParserSettings settings = new TsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setSplitResynchronization(SplitResynchronization.LINE_SEPARATOR);
+
+		List<String[]> rows = new ArrayList<String[]>();
+		for (long start = 0; start < file.length(); start += 333) {
+			TsvParser parser = new TsvParser(settings);
+			parser.beginParsing(file, UTF_8, start, start + 333);
+			String[] row;
+			while ((row = parser.parseNext()) != null) {
+				rows.add(row);
+			}
+		}
+		assertEquals(rows.size(), 500);
+		for (int i = 0; i < 500; i++) {
+			assertEquals(rows.get(i), new String[]{String.valueOf(i), "value " + i});
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testEncodingRequired() throws Exception {
+		new CsvParser(new CsvParserSettings()).beginParsing(createFile("a,b\n"), null, 0, 1);
+	}
+}
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.fixed;
+
+import com.univocity.parsers.common.processor.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class FixedLengthRecordsTest {
+
+	private static final FieldAlignment[] ALIGNMENTS = FieldAlignment.values();
+	private static final Charset LATIN1 = Charset.forName("ISO-8859-1");
+	private static final char[] CONTENT = {' ', '_', '*', 'a', 'b', '\t'};
+
+	private FixedWidthParserSettings randomSettings(Random random) {
+		FixedWidthFields fields = new FixedWidthFields();
+		int position = 0;
+		int count = 1 + random.nextInt(6);
+		for (int i = 0; i < count; i++) {
+			// gaps between fields are ignored
+			position += random.nextInt(5) == 0 ? 1 + random.nextInt(2) : 0;
+			int length = 1 + random.nextInt(6);
+			fields.addField(position, position + length, ALIGNMENTS[random.nextInt(ALIGNMENTS.length)], random.nextBoolean() ? '_' : ' ');
+			position += length;
+		}
+		if (random.nextBoolean()) {
+			fields.keepPaddingOn(0);
+		}
+
+		FixedWidthParserSettings settings = new FixedWidthParserSettings(fields);
+		settings.getFormat().setLineSeparator(random.nextBoolean() ? "\n" : "\r\n");
+		settings.getFormat().setPadding(random.nextBoolean() ? '*' : ' ');
+		settings.setKeepPadding(random.nextBoolean());
+		settings.setIgnoreLeadingWhitespaces(random.nextBoolean());
+		settings.setIgnoreTrailingWhitespaces(random.nextBoolean());
+		settings.setRecordEndsOnNewline(random.nextBoolean());
+		settings.setSkipTrailingCharsUntilNewline(random.nextBoolean());
+		settings.setHeaderExtractionEnabled(random.nextBoolean());
+		settings.setNullValue("null");
+		settings.setReadInputOnSeparateThread(false);
+		settings.setInputBufferSize(16 + random.nextInt(200));
+		return settings;
+	}
+
+	private String randomInput(Random random, int recordLength, String lineSeparator) {
+		StringBuilder out = new StringBuilder();
+		int records = random.nextInt(50);
+		for (int i = 0; i < records; i++) {
+			for (int j = 0; j < recordLength; j++) {
+				// headers are never blank
+				out.append(i == 0 ? 'h' : CONTENT[random.nextInt(CONTENT.length)]);
+			}
+			out.append(lineSeparator);
+		}
+		return out.toString();
+	}
+
+	@Test
+	public void testSlicedRecordsMatchCharacterByCharacterParsing() {
+		Random random = new Random(7);
+		for (int test = 0; test < 2000; test++) {
+			FixedWidthParserSettings settings = randomSettings(random);
+			int recordLength = 0;
+			for (int length : settings.getAllLengths()) {
+				recordLength += length;
+			}
+			String input = randomInput(random, recordLength, random.nextInt(4) == 0 ? "" : settings.getFormat().getLineSeparatorString());
+
+			List<String[]> expected = new FixedWidthParser(settings).parseAll(new StringReader(input));
+			settings.setFixedLengthRecords(true);
+			List<String[]> rows = new FixedWidthParser(settings).parseAll(new StringReader(input));
+
+			assertEquals(rows.size(), expected.size(), "Test " + test + ", input: " + input);
+			for (int i = 0; i < rows.size(); i++) {
+				assertEquals(rows.get(i), expected.get(i), "Test " + test + ", row " + i + ", input: " + input);
+			}
+		}
+	}
+
+	@Test
+	public void testUnselectedValuesSkipped() {
+		Random random = new Random(11);
+		for (int test = 0; test < 2000; test++) {
+			FixedWidthParserSettings settings = randomSettings(random);
+			int recordLength = 0;
+			for (int length : settings.getAllLengths()) {
+				recordLength += length;
+			}
+			settings.setFixedLengthRecords(random.nextBoolean());
+			String input = randomInput(random, recordLength, random.nextInt(4) == 0 ? "" : settings.getFormat().getLineSeparatorString());
+			List<String[]> allValues = new FixedWidthParser(settings).parseAll(new StringReader(input));
+
+			List<Integer> selection = new ArrayList<Integer>();
+			for (int i = 0; i < settings.getFieldLengths().length; i++) {
+				if (random.nextInt(3) == 0) {
+					selection.add(i);
+				}
+			}
+			Collections.shuffle(selection, random);
+			boolean reorder = random.nextBoolean();
+			settings.setColumnReorderingEnabled(reorder);
+			settings.selectIndexes(selection.toArray(new Integer[0]));
+			List<String[]> rows = new FixedWidthParser(settings).parseAll(new StringReader(input));
+
+			assertEquals(rows.size(), allValues.size(), "Test " + test + ", input: " + input);
+			for (int i = 0; i < rows.size(); i++) {
+				String[] row = rows.get(i);
+				String[] all = allValues.get(i);
+				for (int j = 0; j < selection.size(); j++) {
+					int index = selection.get(j);
+					// incomplete records at the end of the input may get an empty value in the column where the input ended
+					if (index < all.length) {
+						String value = reorder ? row[j] : row[index];
+						assertEquals(value, all[index], "Test " + test + ", row " + i + ", field " + index + ", input: " + input);
+					}
+				}
+			}
+		}
+	}
+
+	private File createFile(String lineSeparator) throws IOException {
+		StringBuilder out = new StringBuilder("id    name      ").append(lineSeparator);
+		for (int i = 0; i < 50000; i++) {
+			String id = String.valueOf(i);
+			out.append(id);
+			for (int j = id.length(); j < 6; j++) {
+				out.append(' ');
+			}
+			out.append("name ").append((char) ('a' + i % 26)).append("    ").append(lineSeparator);
+		}
+
+		File file = File.createTempFile("fixed", ".txt");
+		file.deleteOnExit();
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "ISO-8859-1");
+		try {
+			writer.write(out.toString());
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+	private FixedWidthParserSettings newSettings(String lineSeparator) {
+		FixedWidthParserSettings settings = new FixedWidthParserSettings(new FixedWidthFields(6, 10));
+		settings.getFormat().setLineSeparator(lineSeparator);
+		settings.setHeaderExtractionEnabled(true);
+		settings.setFixedLengthRecords(true);
+		return settings;
+	}
+
+	@DataProvider
+	public Object[][] lineSeparatorProvider() {
+		return new Object[][]{{"\n"}, {"\r\n"}, {""}};
+	}
+
+	@Test(dataProvider = "lineSeparatorProvider")
+	public void testRandomAccess(String lineSeparator) throws IOException {
+		File file = createFile(lineSeparator);
+		FixedWidthParser parser = new FixedWidthParser(newSettings(lineSeparator.isEmpty() ? "\n" : lineSeparator));
+
+		for (long index : new long[]{0, 1, 12345, 49999}) {
+			parser.beginParsing(file, LATIN1, index);
+			assertEquals(parser.getContext().parsedHeaders(), new String[]{"id", "name"});
+			assertEquals(parser.parseNext(), new String[]{String.valueOf(index), "name " + (char) ('a' + index % 26)});
+			parser.stopParsing();
+		}
+
+		parser.beginParsing(file, LATIN1, 50000);
+		assertNull(parser.parseNext());
+	}
+
+	@Test(dataProvider = "lineSeparatorProvider")
+	public void testParallelParsing(String lineSeparator) throws IOException {
+		File file = createFile(lineSeparator);
+		String separator = lineSeparator.isEmpty() ? "\n" : lineSeparator;
+
+		FixedWidthParserSettings settings = newSettings(separator);
+		settings.setFixedLengthRecords(false);
+		List<String[]> expected = new FixedWidthParser(settings).parseAll(file, "ISO-8859-1");
+		assertEquals(expected.size(), 50000);
+
+		for (boolean preserveOrder : new boolean[]{true, false}) {
+			RowListProcessor processor = new RowListProcessor();
+			settings = newSettings(separator);
+			settings.setProcessor(processor);
+			new FixedWidthParser(settings).parseParallel(file, "ISO-8859-1", 4, preserveOrder);
+
+			List<String[]> rows = processor.getRows();
+			if (!preserveOrder) {
+				Collections.sort(rows, new Comparator<String[]>() {
+					@Override
+					public int compare(String[] o1, String[] o2) {
+						return Integer.valueOf(o1[0]).compareTo(Integer.valueOf(o2[0]));
+					}
+				});
+			}
+			assertEquals(processor.getHeaders(), new String[]{"id", "name"});
+			assertEquals(rows.size(), expected.size());
+			for (int i = 0; i < rows.size(); i++) {
+				assertEquals(rows.get(i), expected.get(i));
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testMultiByteEncodingRejected() throws IOException {
+		new FixedWidthParser(newSettings("\n")).parseParallel(createFile("\n"), "UTF-8", 2, true);
+	}
+}
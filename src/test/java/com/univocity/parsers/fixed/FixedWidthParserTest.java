@@ -347,4 +347,23 @@ public class FixedWidthParserTest extends ParserTestCase {
 		assertEquals(line2[1], "AB");
 		assertEquals(line2[2], "CDE");
 	}
+
+	@Test
+	public void testGapFollowedByNewLineWithAnyBufferSize() {
+		for (int bufferSize : new int[]{6, 1024}) {
+			FixedWidthFields fields = new FixedWidthFields();
+			fields.addField("a", 2).addField("b", 10, 13);
+
+			FixedWidthParserSettings s = new FixedWidthParserSettings(fields);
+			s.getFormat().setLineSeparator("\n");
+			s.setRecordEndsOnNewline(true);
+			s.setInputBufferSize(bufferSize);
+			s.setReadInputOnSeparateThread(false);
+
+			List<String[]> rows = new FixedWidthParser(s).parseAll(new StringReader("abGAPGAPGA\ncdGAPGAPGAxyz\n"));
+			assertEquals(rows.size(), 2);
+			assertEquals(rows.get(0), new String[]{"ab", "GAPGAPGA"});
+			assertEquals(rows.get(1), new String[]{"cd", "xyz"});
+		}
+	}
 }
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright 2014 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.fixed;
+
+import com.univocity.parsers.common.input.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class LookupTrieTest {
+
+	private String random(Random random, String alphabet, int maxLength) {
+		char[] out = new char[1 + random.nextInt(maxLength)];
+		for (int i = 0; i < out.length; i++) {
+			out[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+		}
+		return new String(out);
+	}
+
+	@Test
+	public void testMatchesSameFormatAsSequentialScan() {
+		Random random = new Random(42);
+		FixedWidthFormat format = new FixedWidthFormat();
+		format.setLookupWildcard('?');
+
+		for (int round = 0; round < 200; round++) {
+			Map<String, FixedWidthFields> formats = new LinkedHashMap<String, FixedWidthFields>();
+			for (int i = 0; i < 1 + random.nextInt(10); i++) {
+				formats.put(random(random, "AB?", 4), new FixedWidthFields(1));
+			}
+			Lookup[] lookups = Lookup.getLookupFormats(formats, format);
+			LookupTrie trie = new LookupTrie(lookups, '?');
+
+			for (int j = 0; j < 20; j++) {
+				String value = random(random, "AB", 5);
+				DefaultCharInputReader reader = new DefaultCharInputReader("\n".toCharArray(), '\n', 16, -1, false);
+				LookaheadCharInputReader input = new LookaheadCharInputReader(reader, '\n', -1);
+				input.start(new StringReader(value));
+				char ch = input.nextChar();
+				input.lookahead(4);
+
+				Lookup expected = null;
+				for (Lookup lookup : lookups) {
+					if (input.matches(ch, lookup.value, '?')) {
+						expected = lookup;
+						break;
+					}
+				}
+				assertSame(trie.find(ch, input), expected, "Input '" + value + "' with lookups " + formats.keySet());
+			}
+		}
+	}
+}